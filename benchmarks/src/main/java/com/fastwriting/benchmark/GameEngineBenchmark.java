@@ -0,0 +1,88 @@
+package com.fastwriting.benchmark;
+
+import com.fastwriting.model.GameEngine;
+import com.fastwriting.model.VirtualClock;
+import com.fastwriting.model.WordGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link GameEngine#submit(String)}, the validation path behind the Enter key and
+ * Submit button, on a headless engine that has reached the Legendary tier of long phrases.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameEngineBenchmark {
+
+    /**
+     * Seed of the word sequence, so every run types the same phrases.
+     */
+    private static final long SEED = 20250101L;
+
+    /**
+     * Engine advanced to the Legendary tier, where every word is a long phrase.
+     */
+    private GameEngine engine;
+
+    /**
+     * Wrong answer for the engine's current phrase, with a typo in the last character.
+     */
+    private String typo;
+
+    /**
+     * Advances a seeded headless engine on a virtual clock to level 51.
+     */
+    @Setup
+    public void setUp() {
+        engine = new GameEngine(new WordGenerator(), new VirtualClock());
+        engine.start(SEED);
+        while (engine.getCurrentLevel() < 51) {
+            engine.submit(engine.getCurrentWord());
+            engine.nextWord();
+        }
+
+        char[] chars = engine.getCurrentWord().toCharArray();
+        chars[chars.length - 1] = chars[chars.length - 1] == 'x' ? 'y' : 'x';
+        typo = new String(chars);
+    }
+
+    /**
+     * Submits a wrong answer, which records the attempt and keeps the level.
+     *
+     * @return the submission outcome
+     */
+    @Benchmark
+    public GameEngine.SubmitResult incorrectSubmit() {
+        return engine.submit(typo);
+    }
+
+    /**
+     * Submits the correct answer and loads the next phrase, a full level transition.
+     *
+     * @return the next phrase
+     */
+    @Benchmark
+    public String correctSubmitAndNextWord() {
+        engine.submit(engine.getCurrentWord());
+        engine.nextWord();
+        return engine.getCurrentWord();
+    }
+}
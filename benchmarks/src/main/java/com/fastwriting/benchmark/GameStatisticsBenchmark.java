@@ -0,0 +1,98 @@
+package com.fastwriting.benchmark;
+
+import com.fastwriting.model.GameStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the derived metrics of {@link GameStatistics} for a typical level 37 session,
+ * both while the session is running and after it has ended.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameStatisticsBenchmark {
+
+    /**
+     * Whether the session has an end time; running sessions read the wall clock on every call.
+     */
+    @Param({"true", "false"})
+    private boolean finished;
+
+    /**
+     * Statistics under test.
+     */
+    private GameStatistics statistics;
+
+    /**
+     * Fills the statistics with a realistic eight minute session.
+     */
+    @Setup
+    public void setUp() {
+        statistics = new GameStatistics();
+        LocalDateTime start = LocalDateTime.now().minusMinutes(8);
+        statistics.setStartTime(start);
+        if (finished) {
+            statistics.setEndTime(start.plusMinutes(8).plusSeconds(17));
+        }
+        statistics.setFinalLevel(37);
+        for (int i = 0; i < 36; i++) {
+            statistics.incrementWordsAttempted();
+            statistics.incrementCorrectWords();
+            statistics.addTimeSpent(9);
+        }
+        for (int i = 0; i < 11; i++) {
+            statistics.incrementWordsAttempted();
+            statistics.incrementIncorrectWords();
+        }
+    }
+
+    /**
+     * Computes the session typing speed.
+     *
+     * @return the words per minute
+     */
+    @Benchmark
+    public double getWordsPerMinute() {
+        return statistics.getWordsPerMinute();
+    }
+
+    /**
+     * Computes the session accuracy.
+     *
+     * @return the accuracy percentage
+     */
+    @Benchmark
+    public double getAccuracyPercentage() {
+        return statistics.getAccuracyPercentage();
+    }
+
+    /**
+     * Formats the full statistics summary.
+     *
+     * @return the summary text
+     */
+    @Benchmark
+    public String formatSummary() {
+        return statistics.toString();
+    }
+}
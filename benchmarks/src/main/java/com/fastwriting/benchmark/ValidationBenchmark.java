@@ -0,0 +1,109 @@
+package com.fastwriting.benchmark;
+
+import com.fastwriting.model.BuiltInWordSource;
+import com.fastwriting.model.PreparedWord;
+import com.fastwriting.model.WordSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@code trim} + NFC normalization + {@code equals} comparison used to validate answers,
+ * with the longest Legendary-tier phrase as the target.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+
+    /**
+     * Kind of answer being validated: an exact match with stray whitespace,
+     * a typo in the last character, or a typo in the first character.
+     */
+    @Param({"match", "lateTypo", "earlyTypo"})
+    private String answer;
+
+    /**
+     * Longest built-in complex phrase, in the normalized form the game compares answers with.
+     */
+    private String target;
+
+    /**
+     * Player input compared against {@link #target}.
+     */
+    private String input;
+
+    /**
+     * Prepares the target phrase and the player input.
+     */
+    @Setup
+    public void setUp() {
+        WordSource complexPhrases = new BuiltInWordSource(5);
+        target = complexPhrases.get(0);
+        for (int i = 1; i < complexPhrases.size(); i++) {
+            if (complexPhrases.get(i).length() > target.length()) {
+                target = complexPhrases.get(i);
+            }
+        }
+        input = createInput(target);
+        target = new PreparedWord(target).getNormalizedText();
+    }
+
+    /**
+     * Builds the player input for the configured kind of answer.
+     *
+     * @param phrase the phrase the player should type
+     * @return the simulated player input
+     */
+    private String createInput(String phrase) {
+        switch (answer) {
+            case "lateTypo":
+                return replaceChar(phrase, phrase.length() - 1);
+            case "earlyTypo":
+                return replaceChar(phrase, 0);
+            default:
+                // Copy so that equals cannot short-circuit on identity
+                return " " + new String(phrase.toCharArray()) + " ";
+        }
+    }
+
+    /**
+     * Replaces one character of a phrase with a different character.
+     *
+     * @param phrase the original phrase
+     * @param index the position of the typo
+     * @return the phrase with a typo
+     */
+    private static String replaceChar(String phrase, int index) {
+        char[] chars = phrase.toCharArray();
+        chars[index] = chars[index] == 'x' ? 'y' : 'x';
+        return new String(chars);
+    }
+
+    /**
+     * Validates the input the same way the game compares answers.
+     *
+     * @return whether the input matched
+     */
+    @Benchmark
+    public boolean trimAndEquals() {
+        return PreparedWord.normalize(input.trim()).equals(target);
+    }
+}
@@ -0,0 +1,105 @@
+package com.fastwriting.benchmark;
+
+import com.fastwriting.model.WordGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link WordGenerator#getRandomWord(int)} for the first level of each of the six
+ * difficulty tiers, using both the built-in lists and a memory-mapped binary corpus.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WordGeneratorBenchmark {
+
+    /**
+     * Seed of the word sequence, so every run draws the same words.
+     */
+    private static final long SEED = 20250101L;
+
+    /**
+     * First level of each difficulty tier, from easy words to complex phrases.
+     */
+    @Param({"1", "11", "21", "31", "41", "51"})
+    private int level;
+
+    /**
+     * Where the words come from: the built-in lists or a binary corpus file.
+     */
+    @Param({"builtin", "corpus"})
+    private String source;
+
+    /**
+     * Generator under test.
+     */
+    private WordGenerator generator;
+
+    /**
+     * Temporary corpus file, or null when the built-in lists are used.
+     */
+    private Path corpusFile;
+
+    /**
+     * Creates the generator and loads the benchmarked tier so that loading is not measured.
+     *
+     * @throws IOException if the temporary corpus cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if ("corpus".equals(source)) {
+            corpusFile = Files.createTempFile("fastwriting-bench", ".corpus");
+            WordGenerator.exportBuiltInCorpus(corpusFile);
+            generator = new WordGenerator(corpusFile);
+        } else {
+            generator = new WordGenerator();
+        }
+        generator.setSeed(SEED);
+        generator.getRandomWord(level);
+    }
+
+    /**
+     * Deletes the temporary corpus file.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (corpusFile != null) {
+            Files.deleteIfExists(corpusFile);
+        }
+    }
+
+    /**
+     * Draws one word for the benchmarked level.
+     *
+     * @return the drawn word
+     */
+    @Benchmark
+    public String getRandomWord() {
+        return generator.getRandomWord(level);
+    }
+}
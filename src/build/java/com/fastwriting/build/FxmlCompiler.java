@@ -0,0 +1,539 @@
+package com.fastwriting.build;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Build-time tool that compiles the FXML views into Java builder classes.
+ * Run from the Maven build in single-file source mode, so it only uses the JDK:
+ *
+ * <pre>
+ * java FxmlCompiler.java &lt;fxml directory&gt; &lt;generated sources directory&gt;
+ * </pre>
+ *
+ * <p>For every {@code name-view.fxml} a {@code NameViewBuilder} class is written into the package
+ * of its controller. The builder creates the nodes with plain constructors and setters, assigns
+ * {@code fx:id} fields and event handlers on the controller directly, then calls
+ * {@code initialize}. A {@code CompiledViews} registry maps each FXML path to its builder.</p>
+ *
+ * <p>Only the FXML subset used by the game is supported: imported classes, property attributes
+ * of known types, static layout properties, {@code #handler} event attributes, and the
+ * {@code children}, {@code styleClass} and single-object property elements. Anything else fails
+ * the build, so views never silently fall out of sync with their compiled form.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class FxmlCompiler {
+
+    /**
+     * Conversion applied to an attribute value.
+     */
+    private enum ValueType {
+        STRING, DOUBLE, INT, BOOLEAN, POS, TEXT_ALIGNMENT, PRIORITY
+    }
+
+    /**
+     * Types of the instance properties that may be set through attributes.
+     */
+    private static final Map<String, ValueType> PROPERTY_TYPES = new HashMap<>();
+
+    /**
+     * Types of the static layout properties, such as {@code VBox.vgrow}.
+     */
+    private static final Map<String, ValueType> STATIC_PROPERTY_TYPES = new HashMap<>();
+
+    static {
+        for (String name : List.of("text", "promptText", "id")) {
+            PROPERTY_TYPES.put(name, ValueType.STRING);
+        }
+        for (String name : List.of("spacing", "prefWidth", "prefHeight", "minWidth", "minHeight",
+                "maxWidth", "maxHeight", "hgap", "vgap", "progress")) {
+            PROPERTY_TYPES.put(name, ValueType.DOUBLE);
+        }
+        for (String name : List.of("wrapText", "mnemonicParsing", "fitToWidth", "fitToHeight",
+                "editable", "disable", "visible", "managed", "focusTraversable")) {
+            PROPERTY_TYPES.put(name, ValueType.BOOLEAN);
+        }
+        PROPERTY_TYPES.put("alignment", ValueType.POS);
+        PROPERTY_TYPES.put("textAlignment", ValueType.TEXT_ALIGNMENT);
+
+        STATIC_PROPERTY_TYPES.put("vgrow", ValueType.PRIORITY);
+        STATIC_PROPERTY_TYPES.put("hgrow", ValueType.PRIORITY);
+        for (String name : List.of("rowIndex", "columnIndex", "rowSpan", "columnSpan")) {
+            STATIC_PROPERTY_TYPES.put(name, ValueType.INT);
+        }
+    }
+
+    /**
+     * Fully qualified names of the classes imported by the FXML file, by simple name.
+     */
+    private final Map<String, String> importedClasses = new HashMap<>();
+
+    /**
+     * Imports needed by the generated class.
+     */
+    private final TreeSet<String> imports = new TreeSet<>();
+
+    /**
+     * Statements of the generated build method.
+     */
+    private final StringBuilder body = new StringBuilder();
+
+    /**
+     * Number of local variables declared so far, used to name new ones.
+     */
+    private int variableCount;
+
+    /**
+     * Private constructor; one compiler instance translates one FXML file.
+     */
+    private FxmlCompiler() {
+    }
+
+    /**
+     * Compiles every FXML file of a directory.
+     *
+     * @param args the FXML directory and the generated sources directory
+     * @throws Exception if a file cannot be read, parsed or written
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: FxmlCompiler <fxml directory> <generated sources directory>");
+            System.exit(2);
+        }
+        Path fxmlDirectory = Paths.get(args[0]);
+        Path outputDirectory = Paths.get(args[1]);
+
+        List<Path> fxmlFiles;
+        try (Stream<Path> files = Files.list(fxmlDirectory)) {
+            fxmlFiles = files.filter(file -> file.getFileName().toString().endsWith(".fxml"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        Map<String, String> builders = new HashMap<>();
+        List<String> paths = new ArrayList<>();
+        for (Path fxmlFile : fxmlFiles) {
+            String resourcePath = "/" + fxmlDirectory.getFileName() + "/" + fxmlFile.getFileName();
+            String builderClass = new FxmlCompiler().compile(fxmlFile, resourcePath, outputDirectory);
+            builders.put(resourcePath, builderClass);
+            paths.add(resourcePath);
+        }
+        writeRegistry(outputDirectory, paths, builders);
+        System.out.println("Compiled " + fxmlFiles.size() + " FXML views into " + outputDirectory);
+    }
+
+    /**
+     * Translates one FXML file into a builder class.
+     *
+     * @param fxmlFile the FXML file
+     * @param resourcePath the classpath resource path of the FXML file
+     * @param outputDirectory the generated sources directory
+     * @return the fully qualified name of the builder class
+     * @throws Exception if the file cannot be parsed or uses unsupported FXML
+     */
+    private String compile(Path fxmlFile, String resourcePath, Path outputDirectory) throws Exception {
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(fxmlFile.toFile());
+        for (Node node = document.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof ProcessingInstruction && "import".equals(((ProcessingInstruction) node).getTarget())) {
+                String className = ((ProcessingInstruction) node).getData().trim();
+                if (className.endsWith(".*")) {
+                    throw new IOException(fxmlFile + ": wildcard imports are not supported");
+                }
+                importedClasses.put(className.substring(className.lastIndexOf('.') + 1), className);
+            }
+        }
+
+        Element root = document.getDocumentElement();
+        String controllerClass = root.getAttribute("fx:controller");
+        if (controllerClass.isEmpty()) {
+            throw new IOException(fxmlFile + ": the root element needs an fx:controller");
+        }
+        String packageName = controllerClass.substring(0, controllerClass.lastIndexOf('.'));
+        String controllerName = controllerClass.substring(packageName.length() + 1);
+        String builderName = toBuilderName(fxmlFile.getFileName().toString());
+
+        String rootVariable = emitObject(root, fxmlFile);
+        String rootType = root.getTagName();
+
+        imports.add("com.fastwriting.util.CompiledView");
+        imports.add("javafx.scene.Parent");
+        imports.remove(packageName + "." + rootType);
+
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n\n");
+        for (String importName : imports) {
+            if (!importName.startsWith("java.lang.") && !importName.startsWith(packageName + ".")) {
+                source.append("import ").append(importName).append(";\n");
+            }
+        }
+        source.append("\n/**\n")
+                .append(" * View builder compiled from {@code ").append(resourcePath).append("}.\n")
+                .append(" * Generated by FxmlCompiler at build time; do not edit.\n")
+                .append(" */\n")
+                .append("public final class ").append(builderName).append(" implements CompiledView {\n\n")
+                .append("    /**\n     * Classpath path of the FXML file this builder was compiled from.\n     */\n")
+                .append("    public static final String FXML_PATH = \"").append(resourcePath).append("\";\n\n")
+                .append("    /**\n     * Controller wired to the view.\n     */\n")
+                .append("    private final ").append(controllerName).append(" controller;\n\n")
+                .append("    /**\n     * Root node of the view.\n     */\n")
+                .append("    private final ").append(rootType).append(" root;\n\n")
+                .append("    /**\n     * Builds the view and initializes its controller.\n     */\n")
+                .append("    public ").append(builderName).append("() {\n")
+                .append("        controller = new ").append(controllerName).append("();\n")
+                .append("        root = build();\n")
+                .append("        controller.initialize(").append(builderName).append(".class.getResource(FXML_PATH), null);\n")
+                .append("    }\n\n")
+                .append("    /**\n     * Creates the node tree and wires it to the controller.\n     *\n")
+                .append("     * @return the root node\n     */\n")
+                .append("    private ").append(rootType).append(" build() {\n")
+                .append(body)
+                .append("        return ").append(rootVariable).append(";\n")
+                .append("    }\n\n")
+                .append("    /**\n     * {@inheritDoc}\n     */\n")
+                .append("    @Override\n")
+                .append("    public Parent getRoot() {\n        return root;\n    }\n\n")
+                .append("    /**\n     * {@inheritDoc}\n     */\n")
+                .append("    @Override\n")
+                .append("    public Object getController() {\n        return controller;\n    }\n")
+                .append("}\n");
+
+        writeSource(outputDirectory, packageName, builderName, source.toString());
+        return packageName + "." + builderName;
+    }
+
+    /**
+     * Emits the statements creating an object element and returns the variable holding it.
+     *
+     * @param element the object element
+     * @param fxmlFile the file being compiled, for error messages
+     * @return the name of the local variable holding the object
+     * @throws IOException if the element uses unsupported FXML
+     */
+    private String emitObject(Element element, Path fxmlFile) throws IOException {
+        String type = resolveType(element.getTagName(), fxmlFile);
+        if (type.equals("Insets")) {
+            return "new Insets(" + doubleAttribute(element, "top") + ", " + doubleAttribute(element, "right")
+                    + ", " + doubleAttribute(element, "bottom") + ", " + doubleAttribute(element, "left") + ")";
+        }
+        if (type.equals("Font")) {
+            String size = doubleAttribute(element, "size");
+            return element.hasAttribute("name")
+                    ? "new Font(" + quote(element.getAttribute("name")) + ", " + size + ")"
+                    : "new Font(" + size + ")";
+        }
+
+        String variable = Character.toLowerCase(type.charAt(0)) + type.substring(1) + (++variableCount);
+        body.append("        ").append(type).append(' ').append(variable).append(" = new ").append(type).append("();\n");
+
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            emitAttribute(variable, (Attr) attributes.item(i), fxmlFile);
+        }
+
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                emitPropertyElement(variable, (Element) child, fxmlFile);
+            } else if (child.getNodeType() == Node.TEXT_NODE && !child.getTextContent().isBlank()) {
+                throw new IOException(fxmlFile + ": text content in <" + type + "> is not supported");
+            }
+        }
+        return variable;
+    }
+
+    /**
+     * Emits the statement applying one attribute of an object element.
+     *
+     * @param variable the variable holding the object
+     * @param attribute the attribute
+     * @param fxmlFile the file being compiled, for error messages
+     * @throws IOException if the attribute is not supported
+     */
+    private void emitAttribute(String variable, Attr attribute, Path fxmlFile) throws IOException {
+        String name = attribute.getName();
+        String value = attribute.getValue();
+
+        if (name.equals("xmlns") || name.startsWith("xmlns:") || name.equals("fx:controller")) {
+            return;
+        }
+        if (name.equals("fx:id")) {
+            // FXMLLoader also copies fx:id into the node id used by CSS selectors and lookups
+            body.append("        ").append(variable).append(".setId(").append(quote(value)).append(");\n");
+            body.append("        controller.").append(value).append(" = ").append(variable).append(";\n");
+            return;
+        }
+        if (name.equals("styleClass")) {
+            for (String styleClass : value.split(",")) {
+                body.append("        ").append(variable).append(".getStyleClass().add(")
+                        .append(quote(styleClass.trim())).append(");\n");
+            }
+            return;
+        }
+        if (name.startsWith("on") && value.startsWith("#")) {
+            body.append("        ").append(variable).append(".set").append(capitalize(name))
+                    .append("(controller::").append(value.substring(1)).append(");\n");
+            return;
+        }
+
+        int dot = name.indexOf('.');
+        if (dot > 0) {
+            String owner = resolveType(name.substring(0, dot), fxmlFile);
+            String property = name.substring(dot + 1);
+            ValueType valueType = STATIC_PROPERTY_TYPES.get(property);
+            if (valueType == null) {
+                throw new IOException(fxmlFile + ": unsupported static property " + name);
+            }
+            body.append("        ").append(owner).append(".set").append(capitalize(property))
+                    .append('(').append(variable).append(", ").append(convert(value, valueType)).append(");\n");
+            return;
+        }
+
+        ValueType valueType = PROPERTY_TYPES.get(name);
+        if (valueType == null) {
+            throw new IOException(fxmlFile + ": unsupported attribute " + name);
+        }
+        if (valueType == ValueType.STRING && !value.isEmpty() && "%@$".indexOf(value.charAt(0)) >= 0) {
+            throw new IOException(fxmlFile + ": resource, location and variable references are not supported in " + name);
+        }
+        body.append("        ").append(variable).append(".set").append(capitalize(name))
+                .append('(').append(convert(value, valueType)).append(");\n");
+    }
+
+    /**
+     * Emits the statements of a property element such as {@code <children>} or {@code <padding>}.
+     *
+     * @param variable the variable holding the owning object
+     * @param property the property element
+     * @param fxmlFile the file being compiled, for error messages
+     * @throws IOException if the property element is not supported
+     */
+    private void emitPropertyElement(String variable, Element property, Path fxmlFile) throws IOException {
+        String name = property.getTagName();
+        if (!Character.isLowerCase(name.charAt(0))) {
+            throw new IOException(fxmlFile + ": default properties are not supported, wrap <" + name + "> in a property element");
+        }
+
+        List<Element> values = new ArrayList<>();
+        for (Node child = property.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                values.add((Element) child);
+            }
+        }
+
+        if (name.equals("children")) {
+            for (Element value : values) {
+                String child = emitObject(value, fxmlFile);
+                body.append("        ").append(variable).append(".getChildren().add(").append(child).append(");\n");
+            }
+        } else if (name.equals("styleClass")) {
+            for (Element value : values) {
+                if (!value.getTagName().equals("String") || !value.hasAttribute("fx:value")) {
+                    throw new IOException(fxmlFile + ": <styleClass> only supports <String fx:value=\"...\"/>");
+                }
+                body.append("        ").append(variable).append(".getStyleClass().add(")
+                        .append(quote(value.getAttribute("fx:value"))).append(");\n");
+            }
+        } else if (values.size() == 1) {
+            String value = emitObject(values.get(0), fxmlFile);
+            body.append("        ").append(variable).append(".set").append(capitalize(name))
+                    .append('(').append(value).append(");\n");
+        } else {
+            throw new IOException(fxmlFile + ": property <" + name + "> must contain exactly one element");
+        }
+    }
+
+    /**
+     * Resolves a simple class name through the FXML imports and records the import.
+     *
+     * @param simpleName the simple class name
+     * @param fxmlFile the file being compiled, for error messages
+     * @return the simple class name
+     * @throws IOException if the class was not imported
+     */
+    private String resolveType(String simpleName, Path fxmlFile) throws IOException {
+        String className = importedClasses.get(simpleName);
+        if (className == null) {
+            throw new IOException(fxmlFile + ": class " + simpleName + " is not imported");
+        }
+        imports.add(className);
+        return simpleName;
+    }
+
+    /**
+     * Reads a numeric attribute of a value element, defaulting to zero.
+     *
+     * @param element the value element
+     * @param name the attribute name
+     * @return the Java literal of the value
+     */
+    private String doubleAttribute(Element element, String name) {
+        return element.hasAttribute(name) ? convert(element.getAttribute(name), ValueType.DOUBLE) : "0.0";
+    }
+
+    /**
+     * Converts an attribute value into a Java expression of the given type.
+     *
+     * @param value the attribute value
+     * @param valueType the type of the property
+     * @return the Java expression
+     */
+    private String convert(String value, ValueType valueType) {
+        switch (valueType) {
+            case DOUBLE:
+                return Double.toString(Double.parseDouble(value));
+            case INT:
+                return Integer.toString(Integer.parseInt(value));
+            case BOOLEAN:
+                return Boolean.toString(Boolean.parseBoolean(value));
+            case POS:
+                imports.add("javafx.geometry.Pos");
+                return "Pos." + value.toUpperCase();
+            case TEXT_ALIGNMENT:
+                imports.add("javafx.scene.text.TextAlignment");
+                return "TextAlignment." + value.toUpperCase();
+            case PRIORITY:
+                imports.add("javafx.scene.layout.Priority");
+                return "Priority." + value.toUpperCase();
+            default:
+                return quote(value.startsWith("\\") ? value.substring(1) : value);
+        }
+    }
+
+    /**
+     * Writes the registry mapping FXML paths to their builders.
+     *
+     * @param outputDirectory the generated sources directory
+     * @param paths the FXML resource paths, in order
+     * @param builders the builder class of each path
+     * @throws IOException if the file cannot be written
+     */
+    private static void writeRegistry(Path outputDirectory, List<String> paths, Map<String, String> builders)
+            throws IOException {
+        StringBuilder source = new StringBuilder();
+        source.append("package com.fastwriting.util;\n\n")
+                .append("/**\n")
+                .append(" * Registry of the views compiled from FXML at build time.\n")
+                .append(" * Generated by FxmlCompiler; do not edit.\n")
+                .append(" */\n")
+                .append("public final class CompiledViews {\n\n")
+                .append("    /**\n     * Private constructor to prevent instantiation of this registry.\n     */\n")
+                .append("    private CompiledViews() {\n    }\n\n")
+                .append("    /**\n     * Builds the compiled form of a view.\n     *\n")
+                .append("     * @param fxmlPath the classpath path of the FXML file\n")
+                .append("     * @return the built view, or null if the file was not compiled\n     */\n")
+                .append("    public static CompiledView create(String fxmlPath) {\n")
+                .append("        switch (fxmlPath) {\n");
+        for (String path : paths) {
+            source.append("            case ").append(quote(path)).append(":\n")
+                    .append("                return new ").append(builders.get(path)).append("();\n");
+        }
+        source.append("            default:\n")
+                .append("                return null;\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+        writeSource(outputDirectory, "com.fastwriting.util", "CompiledViews", source.toString());
+    }
+
+    /**
+     * Writes a generated source file, leaving it untouched if its content did not change.
+     *
+     * @param outputDirectory the generated sources directory
+     * @param packageName the package of the class
+     * @param className the simple name of the class
+     * @param source the source code
+     * @throws IOException if the file cannot be written
+     */
+    private static void writeSource(Path outputDirectory, String packageName, String className, String source)
+            throws IOException {
+        Path file = outputDirectory.resolve(packageName.replace('.', '/')).resolve(className + ".java");
+        if (Files.exists(file) && Files.readString(file, StandardCharsets.UTF_8).equals(source)) {
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Derives the builder class name from an FXML file name, e.g. {@code game-view.fxml} to {@code GameViewBuilder}.
+     *
+     * @param fileName the FXML file name
+     * @return the builder class name
+     */
+    private static String toBuilderName(String fileName) {
+        StringBuilder name = new StringBuilder();
+        for (String part : fileName.substring(0, fileName.length() - ".fxml".length()).split("[-_.]")) {
+            if (!part.isEmpty()) {
+                name.append(capitalize(part));
+            }
+        }
+        return name.append("Builder").toString();
+    }
+
+    /**
+     * Upper-cases the first character of a name.
+     *
+     * @param name the name
+     * @return the capitalized name
+     */
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Writes a string as a Java string literal.
+     *
+     * @param value the string
+     * @return the quoted and escaped literal
+     */
+    private static String quote(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
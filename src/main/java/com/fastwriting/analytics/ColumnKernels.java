@@ -0,0 +1,80 @@
+package com.fastwriting.analytics;
+
+/**
+ * Loops over primitive session columns that {@link SessionAnalytics} builds its aggregates from.
+ * Implemented once with the incubating Vector API and once with plain loops, which must give the same results
+ * up to the rounding of floating-point sums.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+interface ColumnKernels {
+
+    /**
+     * Gets a short description of the implementation, such as "scalar".
+     *
+     * @return the description
+     */
+    String getName();
+
+    /**
+     * Computes the typing speed of each session the same way as {@code GameStatistics.getWordsPerMinute()}:
+     * correct words per whole minute of session, or 0 if the session lasted under a second or had no correct word.
+     *
+     * @param correct the correct words of each session
+     * @param durationMillis the duration of each session in milliseconds
+     * @param size the number of sessions
+     * @param out receives the speed of each session in WPM
+     */
+    void wordsPerMinute(int[] correct, long[] durationMillis, int size, double[] out);
+
+    /**
+     * Sums a range of an int column.
+     *
+     * @param column the column
+     * @param from the first row, inclusive
+     * @param to the last row, exclusive
+     * @return the sum
+     */
+    long sum(int[] column, int from, int to);
+
+    /**
+     * Sums a range of a double column.
+     *
+     * @param column the column
+     * @param from the first row, inclusive
+     * @param to the last row, exclusive
+     * @return the sum
+     */
+    double sum(double[] column, int from, int to);
+
+    /**
+     * Counts the rows of each tier.
+     *
+     * @param tiers the tier of each session
+     * @param size the number of sessions
+     * @param counts receives the number of rows of each tier, indexed by tier
+     */
+    void countByTier(int[] tiers, int size, long[] counts);
+
+    /**
+     * Sums an int column per tier.
+     *
+     * @param tiers the tier of each session
+     * @param values the column to sum
+     * @param size the number of sessions
+     * @param sums receives the sum of each tier, indexed by tier
+     */
+    void sumByTier(int[] tiers, int[] values, int size, long[] sums);
+
+    /**
+     * Sums a long column per tier.
+     *
+     * @param tiers the tier of each session
+     * @param values the column to sum
+     * @param size the number of sessions
+     * @param sums receives the sum of each tier, indexed by tier
+     */
+    void sumByTier(int[] tiers, long[] values, int size, long[] sums);
+}
@@ -0,0 +1,97 @@
+package com.fastwriting.analytics;
+
+/**
+ * Plain-loop {@link ColumnKernels}, used when the Vector API module is not available,
+ * and extended by {@link VectorKernels} for the loops that do not gain from vectors.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+class ScalarKernels implements ColumnKernels {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>One row at a time, with the whole-second long division of {@code GameStatistics}.</p>
+     */
+    @Override
+    public void wordsPerMinute(int[] correct, long[] durationMillis, int size, double[] out) {
+        for (int i = 0; i < size; i++) {
+            long seconds = durationMillis[i] / 1000;
+            out[i] = seconds > 0 && correct[i] > 0 ? correct[i] / (seconds / 60.0) : 0.0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>One row at a time into a long, so the sum cannot overflow.</p>
+     */
+    @Override
+    public long sum(int[] column, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += column[i];
+        }
+        return sum;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>One row at a time, in row order.</p>
+     */
+    @Override
+    public double sum(double[] column, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += column[i];
+        }
+        return sum;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>One pass incrementing the count of each row's tier.</p>
+     */
+    @Override
+    public void countByTier(int[] tiers, int size, long[] counts) {
+        for (int i = 0; i < size; i++) {
+            counts[tiers[i]]++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>One pass adding each row to the sum of its tier; {@link VectorKernels} inherits it.</p>
+     */
+    @Override
+    public void sumByTier(int[] tiers, int[] values, int size, long[] sums) {
+        for (int i = 0; i < size; i++) {
+            sums[tiers[i]] += values[i];
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>One pass adding each row to the sum of its tier; {@link VectorKernels} inherits it.</p>
+     */
+    @Override
+    public void sumByTier(int[] tiers, long[] values, int size, long[] sums) {
+        for (int i = 0; i < size; i++) {
+            sums[tiers[i]] += values[i];
+        }
+    }
+}
@@ -0,0 +1,530 @@
+package com.fastwriting.analytics;
+
+import com.fastwriting.model.WordGenerator;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregates over a {@link SessionColumns} table: typing speed distribution, accuracy over time and
+ * how long the games ending in each difficulty tier took.
+ *
+ * <p>The per-game typing speed is computed once into its own column, and every aggregate is a pass of
+ * {@link ColumnKernels} over whole columns or, for the trend, over the range of rows of each period.
+ * When the {@code jdk.incubator.vector} module is in the boot layer (run with
+ * {@code --add-modules jdk.incubator.vector}) the passes use SIMD instructions; otherwise, or with
+ * {@code -D}{@value #SCALAR_PROPERTY}{@code =true}, they fall back to plain loops with the same results,
+ * up to the rounding of floating-point sums. Percentiles sort a copy of the speed column once, in parallel.
+ * The columns must not change while an analytics object uses them.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class SessionAnalytics {
+
+    /**
+     * System property that forces the scalar kernels even when the Vector API is available.
+     */
+    public static final String SCALAR_PROPERTY = "fastwriting.analytics.scalar";
+
+    /**
+     * Name of the module providing the Vector API.
+     */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * Format of the dates in the report.
+     */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /**
+     * Games analyzed.
+     */
+    private final SessionColumns columns;
+
+    /**
+     * Loops the aggregates are computed with.
+     */
+    private final ColumnKernels kernels;
+
+    /**
+     * Typing speed of each game, in WPM.
+     */
+    private final double[] wordsPerMinute;
+
+    /**
+     * Typing speeds in ascending order, sorted on first use.
+     */
+    private double[] sortedWordsPerMinute;
+
+    /**
+     * Creates analytics over a table of games, using the Vector API if it is available
+     * and not disabled by {@value #SCALAR_PROPERTY}.
+     *
+     * @param columns the games, which must not change afterwards
+     */
+    public SessionAnalytics(SessionColumns columns) {
+        this(columns, !Boolean.getBoolean(SCALAR_PROPERTY));
+    }
+
+    /**
+     * Creates analytics over a table of games.
+     *
+     * @param columns the games, which must not change afterwards
+     * @param vectorize whether to use the Vector API if it is available
+     */
+    public SessionAnalytics(SessionColumns columns, boolean vectorize) {
+        this.columns = columns;
+        this.kernels = vectorize ? createVectorKernels() : new ScalarKernels();
+        this.wordsPerMinute = new double[columns.size()];
+        kernels.wordsPerMinute(columns.correctWords(), columns.durationMillis(), columns.size(), wordsPerMinute);
+    }
+
+    /**
+     * Creates the Vector API kernels, or the scalar ones if the module is missing from the boot layer
+     * or the processor has no vectors wide enough.
+     *
+     * @return the kernels
+     */
+    private static ColumnKernels createVectorKernels() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return new VectorKernels();
+            } catch (LinkageError e) {
+                // No usable vector shape on this processor; the plain loops give the same results
+            }
+        }
+        return new ScalarKernels();
+    }
+
+    /**
+     * Checks whether the aggregates are computed with the Vector API.
+     *
+     * @return true if the Vector API is used, false for plain loops
+     */
+    public boolean isVectorized() {
+        return kernels instanceof VectorKernels;
+    }
+
+    /**
+     * Gets a short description of how the aggregates are computed.
+     *
+     * @return the description, such as "scalar"
+     */
+    public String getKernelName() {
+        return kernels.getName();
+    }
+
+    /**
+     * Gets the number of games analyzed.
+     *
+     * @return the number of games
+     */
+    public int getSessionCount() {
+        return columns.size();
+    }
+
+    /**
+     * Gets the mean typing speed of all games.
+     *
+     * @return the mean speed in WPM, or 0 if there are no games
+     */
+    public double getMeanWordsPerMinute() {
+        int size = columns.size();
+        return size == 0 ? 0.0 : kernels.sum(wordsPerMinute, 0, size) / size;
+    }
+
+    /**
+     * Gets the typing speed at a percentile of all games, by nearest rank.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the speed in WPM, or 0 if there are no games
+     */
+    public synchronized double getWordsPerMinuteAtPercentile(double percentile) {
+        int size = columns.size();
+        if (size == 0) {
+            return 0.0;
+        }
+        if (sortedWordsPerMinute == null) {
+            sortedWordsPerMinute = Arrays.copyOf(wordsPerMinute, size);
+            Arrays.parallelSort(sortedWordsPerMinute);
+        }
+        int rank = (int) Math.ceil(Math.max(0.0, Math.min(100.0, percentile)) / 100.0 * size);
+        return sortedWordsPerMinute[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Gets the accuracy over all games: correct words out of all words attempted.
+     *
+     * @return the accuracy as a percentage (0-100)
+     */
+    public double getAccuracyPercentage() {
+        return percentOf(kernels.sum(columns.correctWords(), 0, columns.size()),
+                kernels.sum(columns.wordsAttempted(), 0, columns.size()));
+    }
+
+    /**
+     * Splits the time from the first game to the last into periods of equal length and
+     * summarizes the games started in each. The columns must be sorted by start time.
+     *
+     * @param periodCount the number of periods
+     * @return the periods in chronological order, empty if there are no games
+     * @throws IllegalArgumentException if the period count is not positive
+     */
+    public List<Period> getAccuracyTrend(int periodCount) {
+        if (periodCount < 1) {
+            throw new IllegalArgumentException("The number of periods must be positive: " + periodCount);
+        }
+        int size = columns.size();
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        long[] starts = columns.startMillis();
+        long first = starts[0];
+        long span = starts[size - 1] - first + 1;
+
+        List<Period> trend = new ArrayList<>(periodCount);
+        int from = 0;
+        for (int period = 0; period < periodCount; period++) {
+            long periodEnd = first + (long) Math.ceil((double) span * (period + 1) / periodCount);
+            int to = period == periodCount - 1 ? size : lowerBound(starts, from, size, periodEnd);
+            long periodStart = first + (long) Math.ceil((double) span * period / periodCount);
+            trend.add(new Period(periodStart, periodEnd, to - from,
+                    kernels.sum(columns.correctWords(), from, to),
+                    kernels.sum(columns.wordsAttempted(), from, to),
+                    to > from ? kernels.sum(wordsPerMinute, from, to) / (to - from) : 0.0));
+            from = to;
+        }
+        return trend;
+    }
+
+    /**
+     * Summarizes the games by the difficulty tier of their final level.
+     *
+     * @return one summary per tier, including tiers without games
+     */
+    public List<TierSummary> getTierSummaries() {
+        int size = columns.size();
+        int tierCount = columns.getGenerator().getTierCount();
+        int[] tiers = columns.tier();
+        long[] sessions = new long[tierCount];
+        long[] duration = new long[tierCount];
+        long[] typing = new long[tierCount];
+        long[] correct = new long[tierCount];
+        long[] attempted = new long[tierCount];
+        kernels.countByTier(tiers, size, sessions);
+        kernels.sumByTier(tiers, columns.durationMillis(), size, duration);
+        kernels.sumByTier(tiers, columns.typingMillis(), size, typing);
+        kernels.sumByTier(tiers, columns.correctWords(), size, correct);
+        kernels.sumByTier(tiers, columns.wordsAttempted(), size, attempted);
+
+        List<TierSummary> summaries = new ArrayList<>(tierCount);
+        for (int tier = 0; tier < tierCount; tier++) {
+            summaries.add(new TierSummary(tier, sessions[tier], duration[tier], typing[tier],
+                    correct[tier], attempted[tier]));
+        }
+        return summaries;
+    }
+
+    /**
+     * Formats the speed distribution, the accuracy trend and the tier summaries as a text report.
+     *
+     * @param periodCount the number of periods of the accuracy trend
+     * @return the report
+     */
+    public String formatReport(int periodCount) {
+        WordGenerator generator = columns.getGenerator();
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%,d games: accuracy %.1f%%, mean %.1f WPM, p10 %.1f, p50 %.1f, p90 %.1f,"
+                        + " p99 %.1f WPM%n", getSessionCount(), getAccuracyPercentage(), getMeanWordsPerMinute(),
+                getWordsPerMinuteAtPercentile(10), getWordsPerMinuteAtPercentile(50),
+                getWordsPerMinuteAtPercentile(90), getWordsPerMinuteAtPercentile(99)));
+        if (getSessionCount() == 0) {
+            return report.toString();
+        }
+
+        report.append(String.format("%nAccuracy trend%n%-16s %12s %9s %10s%n", "From", "Games", "Accuracy", "Mean WPM"));
+        for (Period period : getAccuracyTrend(periodCount)) {
+            report.append(String.format("%-16s %,12d %8.1f%% %10.1f%n", formatDate(period.getStartMillis()),
+                    period.getSessionCount(), period.getAccuracyPercentage(), period.getMeanWordsPerMinute()));
+        }
+
+        report.append(String.format("%nBy final tier%n%-4s %-10s %12s %13s %13s %9s%n",
+                "Tier", "Category", "Games", "Mean length", "ms per word", "Accuracy"));
+        for (TierSummary summary : getTierSummaries()) {
+            report.append(String.format("%-4d %-10s %,12d %11.1f s %13.0f %8.1f%%%n", summary.getTier(),
+                    generator.getDifficultyCategory(firstLevelOf(generator, summary.getTier())),
+                    summary.getSessionCount(), summary.getMeanDurationMillis() / 1000.0,
+                    summary.getMillisPerCorrectWord(), summary.getAccuracyPercentage()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Finds the first row of a sorted range whose value is at least a key.
+     *
+     * @param values the sorted values
+     * @param from the first row of the range, inclusive
+     * @param to the last row of the range, exclusive
+     * @param key the key
+     * @return the row, or {@code to} if every value is below the key
+     */
+    private static int lowerBound(long[] values, int from, int to, long key) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Gets the first level of a difficulty tier.
+     *
+     * @param generator the generator defining the tiers
+     * @param tier the tier index
+     * @return the first level of the tier
+     */
+    private static int firstLevelOf(WordGenerator generator, int tier) {
+        int level = 1;
+        while (generator.getTierIndex(level) < tier) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Formats epoch milliseconds as a local date and time.
+     *
+     * @param millis the epoch milliseconds
+     * @return the formatted date
+     */
+    private static String formatDate(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()).format(DATE_FORMAT);
+    }
+
+    /**
+     * Computes a part as a percentage of a whole.
+     *
+     * @param part the part
+     * @param whole the whole
+     * @return the percentage, or 0 if the whole is 0
+     */
+    private static double percentOf(long part, long whole) {
+        return whole == 0 ? 0.0 : part * 100.0 / whole;
+    }
+
+    /**
+     * Games started within one period of an accuracy trend.
+     */
+    public static final class Period {
+
+        /**
+         * Start of the period, inclusive, in epoch milliseconds.
+         */
+        private final long startMillis;
+
+        /**
+         * End of the period, exclusive, in epoch milliseconds.
+         */
+        private final long endMillis;
+
+        /**
+         * Number of games started in the period.
+         */
+        private final long sessionCount;
+
+        /**
+         * Words typed correctly in those games.
+         */
+        private final long correctWords;
+
+        /**
+         * Words attempted in those games.
+         */
+        private final long wordsAttempted;
+
+        /**
+         * Mean typing speed of those games.
+         */
+        private final double meanWordsPerMinute;
+
+        /**
+         * Creates a period.
+         *
+         * @param startMillis the start of the period, inclusive, in epoch milliseconds
+         * @param endMillis the end of the period, exclusive, in epoch milliseconds
+         * @param sessionCount the number of games started in the period
+         * @param correctWords the words typed correctly in those games
+         * @param wordsAttempted the words attempted in those games
+         * @param meanWordsPerMinute the mean typing speed of those games
+         */
+        private Period(long startMillis, long endMillis, long sessionCount, long correctWords, long wordsAttempted,
+                       double meanWordsPerMinute) {
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.sessionCount = sessionCount;
+            this.correctWords = correctWords;
+            this.wordsAttempted = wordsAttempted;
+            this.meanWordsPerMinute = meanWordsPerMinute;
+        }
+
+        /**
+         * Gets the start of the period.
+         *
+         * @return the start, inclusive, in epoch milliseconds
+         */
+        public long getStartMillis() {
+            return startMillis;
+        }
+
+        /**
+         * Gets the end of the period.
+         *
+         * @return the end, exclusive, in epoch milliseconds
+         */
+        public long getEndMillis() {
+            return endMillis;
+        }
+
+        /**
+         * Gets the number of games started in the period.
+         *
+         * @return the number of games
+         */
+        public long getSessionCount() {
+            return sessionCount;
+        }
+
+        /**
+         * Gets the accuracy of the games of the period.
+         *
+         * @return the accuracy as a percentage (0-100)
+         */
+        public double getAccuracyPercentage() {
+            return percentOf(correctWords, wordsAttempted);
+        }
+
+        /**
+         * Gets the mean typing speed of the games of the period.
+         *
+         * @return the mean speed in WPM, or 0 if there are no games
+         */
+        public double getMeanWordsPerMinute() {
+            return meanWordsPerMinute;
+        }
+    }
+
+    /**
+     * Games whose final level is in one difficulty tier.
+     */
+    public static final class TierSummary {
+
+        /**
+         * Tier index.
+         */
+        private final int tier;
+
+        /**
+         * Number of games ending in the tier.
+         */
+        private final long sessionCount;
+
+        /**
+         * Total length of those games, in milliseconds.
+         */
+        private final long durationMillis;
+
+        /**
+         * Total time spent typing their completed words, in milliseconds.
+         */
+        private final long typingMillis;
+
+        /**
+         * Words typed correctly in those games.
+         */
+        private final long correctWords;
+
+        /**
+         * Words attempted in those games.
+         */
+        private final long wordsAttempted;
+
+        /**
+         * Creates a tier summary.
+         *
+         * @param tier the tier index
+         * @param sessionCount the number of games ending in the tier
+         * @param durationMillis the total length of those games, in milliseconds
+         * @param typingMillis the total time spent typing their completed words, in milliseconds
+         * @param correctWords the words typed correctly in those games
+         * @param wordsAttempted the words attempted in those games
+         */
+        private TierSummary(int tier, long sessionCount, long durationMillis, long typingMillis,
+                            long correctWords, long wordsAttempted) {
+            this.tier = tier;
+            this.sessionCount = sessionCount;
+            this.durationMillis = durationMillis;
+            this.typingMillis = typingMillis;
+            this.correctWords = correctWords;
+            this.wordsAttempted = wordsAttempted;
+        }
+
+        /**
+         * Gets the tier index.
+         *
+         * @return the tier index
+         */
+        public int getTier() {
+            return tier;
+        }
+
+        /**
+         * Gets the number of games ending in the tier.
+         *
+         * @return the number of games
+         */
+        public long getSessionCount() {
+            return sessionCount;
+        }
+
+        /**
+         * Gets the mean length of the games ending in the tier: how long it took to get there and fail.
+         *
+         * @return the mean length in milliseconds, or 0 if there are no games
+         */
+        public double getMeanDurationMillis() {
+            return sessionCount == 0 ? 0.0 : (double) durationMillis / sessionCount;
+        }
+
+        /**
+         * Gets the mean time to complete a word correctly in the games ending in the tier.
+         *
+         * @return the typing time per correct word in milliseconds, or 0 if there are none
+         */
+        public double getMillisPerCorrectWord() {
+            return correctWords == 0 ? 0.0 : (double) typingMillis / correctWords;
+        }
+
+        /**
+         * Gets the accuracy of the games ending in the tier.
+         *
+         * @return the accuracy as a percentage (0-100)
+         */
+        public double getAccuracyPercentage() {
+            return percentOf(correctWords, wordsAttempted);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.fastwriting.analytics;
+
+import com.fastwriting.model.SessionHistory;
+import com.fastwriting.model.SessionRecord;
+import com.fastwriting.model.WordGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Finished games stored column by column in primitive arrays, one row per game, so that aggregates
+ * over millions of games are tight loops over contiguous memory instead of walks over record objects.
+ *
+ * <p>Each column is a plain array that grows by doubling; a row costs 44 bytes. Rows keep the order they
+ * were added in until {@link #sortByStartTime()} orders them by start, which
+ * {@link SessionAnalytics#getAccuracyTrend(int)} relies on to find each period by binary search.
+ * The columns are not thread-safe; they are filled once and then only read.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class SessionColumns {
+
+    /**
+     * Number of rows allocated when no capacity is given.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Generator defining the difficulty tier of each level.
+     */
+    private final WordGenerator generator;
+
+    /**
+     * Number of rows.
+     */
+    private int size;
+
+    /**
+     * Start of each game, in epoch milliseconds.
+     */
+    private long[] startMillis;
+
+    /**
+     * Length of each game, in milliseconds.
+     */
+    private long[] durationMillis;
+
+    /**
+     * Time spent typing the completed words of each game, in milliseconds.
+     */
+    private long[] typingMillis;
+
+    /**
+     * Final level of each game.
+     */
+    private int[] finalLevel;
+
+    /**
+     * Difficulty tier of the final level of each game.
+     */
+    private int[] tier;
+
+    /**
+     * Words attempted in each game.
+     */
+    private int[] wordsAttempted;
+
+    /**
+     * Words typed correctly in each game.
+     */
+    private int[] correctWords;
+
+    /**
+     * Words typed incorrectly in each game.
+     */
+    private int[] incorrectWords;
+
+    /**
+     * Creates empty columns.
+     *
+     * @param generator the generator defining the difficulty tier of each level
+     */
+    public SessionColumns(WordGenerator generator) {
+        this(generator, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates empty columns with room for a number of rows.
+     *
+     * @param generator the generator defining the difficulty tier of each level
+     * @param capacity the number of rows to allocate
+     */
+    public SessionColumns(WordGenerator generator, int capacity) {
+        this.generator = generator;
+        int rows = Math.max(1, capacity);
+        startMillis = new long[rows];
+        durationMillis = new long[rows];
+        typingMillis = new long[rows];
+        finalLevel = new int[rows];
+        tier = new int[rows];
+        wordsAttempted = new int[rows];
+        correctWords = new int[rows];
+        incorrectWords = new int[rows];
+    }
+
+    /**
+     * Loads the games of one or more history directories, such as copies gathered from several lab stations.
+     * The directories are only read, so they may belong to a running game.
+     *
+     * @param generator the generator defining the difficulty tier of each level
+     * @param directories the history directories
+     * @return the columns, sorted by start time
+     * @throws IOException if a directory cannot be listed
+     */
+    public static SessionColumns load(WordGenerator generator, Path... directories) throws IOException {
+        SessionColumns columns = new SessionColumns(generator);
+        for (Path directory : directories) {
+            SessionHistory.scan(directory, columns::add);
+        }
+        columns.sortByStartTime();
+        return columns;
+    }
+
+    /**
+     * Appends a game as a new row.
+     *
+     * @param record the game
+     */
+    public void add(SessionRecord record) {
+        add(record.getStartMillis(), record.getDurationMillis(), record.getTypingMillis(), record.getFinalLevel(),
+                record.getWordsAttempted(), record.getCorrectWords(), record.getIncorrectWords());
+    }
+
+    /**
+     * Appends a game as a new row.
+     *
+     * @param start the start of the game, in epoch milliseconds
+     * @param duration the length of the game, in milliseconds
+     * @param typing the time spent typing the completed words, in milliseconds
+     * @param level the final level reached
+     * @param attempted the number of words attempted
+     * @param correct the number of words typed correctly
+     * @param incorrect the number of words typed incorrectly
+     */
+    public void add(long start, long duration, long typing, int level, int attempted, int correct, int incorrect) {
+        if (size == startMillis.length) {
+            grow();
+        }
+        startMillis[size] = start;
+        durationMillis[size] = duration;
+        typingMillis[size] = typing;
+        finalLevel[size] = level;
+        tier[size] = generator.getTierIndex(level);
+        wordsAttempted[size] = attempted;
+        correctWords[size] = correct;
+        incorrectWords[size] = incorrect;
+        size++;
+    }
+
+    /**
+     * Doubles the capacity of every column.
+     */
+    private void grow() {
+        int rows = (int) Math.min(Integer.MAX_VALUE - 8, startMillis.length * 2L);
+        if (rows == size) {
+            throw new IllegalStateException("Too many games for one set of columns: " + size);
+        }
+        startMillis = Arrays.copyOf(startMillis, rows);
+        durationMillis = Arrays.copyOf(durationMillis, rows);
+        typingMillis = Arrays.copyOf(typingMillis, rows);
+        finalLevel = Arrays.copyOf(finalLevel, rows);
+        tier = Arrays.copyOf(tier, rows);
+        wordsAttempted = Arrays.copyOf(wordsAttempted, rows);
+        correctWords = Arrays.copyOf(correctWords, rows);
+        incorrectWords = Arrays.copyOf(incorrectWords, rows);
+    }
+
+    /**
+     * Orders the rows by start time. Rows of one history are usually in order already, in which case
+     * this costs one pass; merged histories are sorted with a stable merge sort of row indices.
+     */
+    public void sortByStartTime() {
+        boolean sorted = true;
+        for (int i = 1; i < size && sorted; i++) {
+            sorted = startMillis[i - 1] <= startMillis[i];
+        }
+        if (sorted) {
+            return;
+        }
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        mergeSort(order, new int[size], 0, size);
+
+        startMillis = permute(startMillis, order);
+        durationMillis = permute(durationMillis, order);
+        typingMillis = permute(typingMillis, order);
+        finalLevel = permute(finalLevel, order);
+        tier = permute(tier, order);
+        wordsAttempted = permute(wordsAttempted, order);
+        correctWords = permute(correctWords, order);
+        incorrectWords = permute(incorrectWords, order);
+    }
+
+    /**
+     * Sorts a range of row indices by start time, keeping equal starts in their order.
+     *
+     * @param order the row indices
+     * @param scratch a work array as long as the indices
+     * @param from the first index of the range, inclusive
+     * @param to the last index of the range, exclusive
+     */
+    private void mergeSort(int[] order, int[] scratch, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(order, scratch, from, middle);
+        mergeSort(order, scratch, middle, to);
+        if (startMillis[order[middle - 1]] <= startMillis[order[middle]]) {
+            return;
+        }
+        System.arraycopy(order, from, scratch, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && startMillis[scratch[left]] <= startMillis[scratch[right]])) {
+                order[i] = scratch[left++];
+            } else {
+                order[i] = scratch[right++];
+            }
+        }
+    }
+
+    /**
+     * Reorders a long column.
+     *
+     * @param column the column
+     * @param order the row each new row is taken from
+     * @return the reordered column
+     */
+    private static long[] permute(long[] column, int[] order) {
+        long[] result = new long[column.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = column[order[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Reorders an int column.
+     *
+     * @param column the column
+     * @param order the row each new row is taken from
+     * @return the reordered column
+     */
+    private static int[] permute(int[] column, int[] order) {
+        int[] result = new int[column.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = column[order[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Gets the generator defining the difficulty tier of each level.
+     *
+     * @return the generator
+     */
+    public WordGenerator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the number of games
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the start column; only the first {@link #size()} entries are rows.
+     *
+     * @return the start of each game, in epoch milliseconds
+     */
+    long[] startMillis() {
+        return startMillis;
+    }
+
+    /**
+     * Gets the duration column; only the first {@link #size()} entries are rows.
+     *
+     * @return the length of each game, in milliseconds
+     */
+    long[] durationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Gets the typing time column; only the first {@link #size()} entries are rows.
+     *
+     * @return the time spent typing the completed words of each game, in milliseconds
+     */
+    long[] typingMillis() {
+        return typingMillis;
+    }
+
+    /**
+     * Gets the final level column; only the first {@link #size()} entries are rows.
+     *
+     * @return the final level of each game
+     */
+    int[] finalLevel() {
+        return finalLevel;
+    }
+
+    /**
+     * Gets the tier column; only the first {@link #size()} entries are rows.
+     *
+     * @return the difficulty tier of the final level of each game
+     */
+    int[] tier() {
+        return tier;
+    }
+
+    /**
+     * Gets the words attempted column; only the first {@link #size()} entries are rows.
+     *
+     * @return the words attempted in each game
+     */
+    int[] wordsAttempted() {
+        return wordsAttempted;
+    }
+
+    /**
+     * Gets the correct words column; only the first {@link #size()} entries are rows.
+     *
+     * @return the words typed correctly in each game
+     */
+    int[] correctWords() {
+        return correctWords;
+    }
+
+    /**
+     * Gets the incorrect words column; only the first {@link #size()} entries are rows.
+     *
+     * @return the words typed incorrectly in each game
+     */
+    int[] incorrectWords() {
+        return incorrectWords;
+    }
+}
@@ -0,0 +1,136 @@
+package com.fastwriting.analytics;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link ColumnKernels} written with the incubating Vector API, which the JIT compiles to SIMD instructions
+ * of the widest size the processor prefers, such as 4 lanes of 64 bits on AVX2.
+ *
+ * <p>Long and double columns are processed in the preferred shape. Int columns are loaded at half that
+ * width, so that one int vector widens to exactly one long or double vector of the same lane count.
+ * The rows left over after the last whole vector are handled by a scalar loop. The per-tier sums are
+ * inherited from {@link ScalarKernels}: adding each row to the sum of its tier is one pass that is
+ * already bound by memory, while vectors need one masked pass per tier and measured several times
+ * slower. Loading this class fails
+ * unless the {@code jdk.incubator.vector} module was added to the boot layer; {@link SessionAnalytics}
+ * only does so after checking that it was.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+final class VectorKernels extends ScalarKernels {
+
+    /**
+     * Species of the double vectors, in the preferred shape.
+     */
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Species of the long vectors, with the same shape and lane count as the double vectors.
+     */
+    private static final VectorSpecies<Long> LONGS = VectorSpecies.of(long.class, DOUBLES.vectorShape());
+
+    /**
+     * Species of the int vectors, at half the width so that they have the same lane count as the others.
+     */
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+
+    /**
+     * 2^52, the smallest double whose neighbours are whole numbers; adding it drops the fraction of a
+     * smaller non-negative double.
+     */
+    private static final double ROUNDING_BIAS = 0x1p52;
+
+    /**
+     * Number of lanes of every vector.
+     */
+    private static final int LANES = DOUBLES.length();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return String.format("Vector API, %d x %d-bit lanes", LANES, Long.SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Whole vectors of rows are converted to doubles, truncated to whole seconds and divided lane
+     * by lane, with invalid rows blended to 0; the remaining rows use the scalar formula.</p>
+     */
+    @Override
+    public void wordsPerMinute(int[] correct, long[] durationMillis, int size, double[] out) {
+        DoubleVector zero = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int upper = size - size % LANES; i < upper; i += LANES) {
+            DoubleVector words = (DoubleVector) IntVector.fromArray(INTS, correct, i)
+                    .convertShape(VectorOperators.I2D, DOUBLES, 0);
+            DoubleVector exactSeconds = ((DoubleVector) LongVector.fromArray(LONGS, durationMillis, i)
+                    .convert(VectorOperators.L2D, 0)).div(1000.0);
+            // Whole seconds like the long division of GameStatistics: adding and removing 2^52 rounds to
+            // an integer, then one is taken off wherever that rounded up. Converting to long and back does
+            // the same but is not compiled to vector instructions on every JDK.
+            DoubleVector seconds = exactSeconds.add(ROUNDING_BIAS).sub(ROUNDING_BIAS);
+            seconds = seconds.sub(1.0, seconds.compare(VectorOperators.GT, exactSeconds));
+            VectorMask<Double> valid = seconds.compare(VectorOperators.GT, 0.0)
+                    .and(words.compare(VectorOperators.GT, 0.0));
+            zero.blend(words.div(seconds.div(60.0)), valid).intoArray(out, i);
+        }
+        for (; i < size; i++) {
+            long wholeSeconds = durationMillis[i] / 1000;
+            out[i] = wholeSeconds > 0 && correct[i] > 0 ? correct[i] / (wholeSeconds / 60.0) : 0.0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Whole vectors of rows are widened to longs and added lane by lane, then reduced across lanes;
+     * the remaining rows are added one at a time.</p>
+     */
+    @Override
+    public long sum(int[] column, int from, int to) {
+        LongVector sums = LongVector.zero(LONGS);
+        int i = from;
+        for (int upper = to - (to - from) % LANES; i < upper; i += LANES) {
+            sums = sums.add((LongVector) IntVector.fromArray(INTS, column, i)
+                    .convertShape(VectorOperators.I2L, LONGS, 0));
+        }
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += column[i];
+        }
+        return sum;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Whole vectors of rows are added lane by lane, then reduced across lanes; the remaining rows
+     * are added one at a time. The order of the additions differs from the scalar loop, so the last bits
+     * of the sum may too.</p>
+     */
+    @Override
+    public double sum(double[] column, int from, int to) {
+        DoubleVector sums = DoubleVector.zero(DOUBLES);
+        int i = from;
+        for (int upper = to - (to - from) % LANES; i < upper; i += LANES) {
+            sums = sums.add(DoubleVector.fromArray(DOUBLES, column, i));
+        }
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += column[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,220 @@
+package com.fastwriting.app;
+
+import com.fastwriting.analytics.SessionAnalytics;
+import com.fastwriting.analytics.SessionColumns;
+import com.fastwriting.model.QuantileSketch;
+import com.fastwriting.model.SessionHistory;
+import com.fastwriting.model.WordGenerator;
+import com.fastwriting.model.WordTimings;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Command line tool that loads one or more session histories into columns and prints the typing speed
+ * distribution, the accuracy trend, the time spent per difficulty tier and the percentiles of single words.
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * AnalyticsRunner [history directories...] [--periods n] [--synthetic games] [--seed n] [--scalar] [--compare]
+ * </pre>
+ * <p>Without directories the default history is read. Several directories, such as copies gathered from
+ * every lab station, are merged into one table. {@code --synthetic} analyzes generated games instead,
+ * for sizing; {@code --scalar} disables the Vector API and {@code --compare} runs both and times them.
+ * The Vector API is only used when the JVM is started with {@code --add-modules jdk.incubator.vector}.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class AnalyticsRunner {
+
+    /**
+     * Number of trend periods when none is given.
+     */
+    private static final int DEFAULT_PERIODS = 8;
+
+    /**
+     * Seed of the synthetic games when none is given.
+     */
+    private static final long DEFAULT_SEED = 20250101L;
+
+    /**
+     * Number of times each kind of kernel is timed, keeping the best.
+     */
+    private static final int TIMING_ROUNDS = 5;
+
+    /**
+     * Start of the first synthetic game, in epoch milliseconds (2025-01-01).
+     */
+    private static final long SYNTHETIC_ORIGIN_MILLIS = 1_735_689_600_000L;
+
+    /**
+     * Private constructor to prevent instantiation of this tool class.
+     */
+    private AnalyticsRunner() {
+    }
+
+    /**
+     * Runs the analysis described by the command line arguments.
+     *
+     * @param args the options described in the class documentation
+     */
+    public static void main(String[] args) {
+        List<Path> directories = new ArrayList<>();
+        int periods = DEFAULT_PERIODS;
+        int synthetic = 0;
+        long seed = DEFAULT_SEED;
+        boolean vectorize = !Boolean.getBoolean(SessionAnalytics.SCALAR_PROPERTY);
+        boolean compare = false;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--periods":
+                        periods = Integer.parseInt(args[++i]);
+                        break;
+                    case "--synthetic":
+                        synthetic = Integer.parseInt(args[++i].replace("_", ""));
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(args[++i]);
+                        break;
+                    case "--scalar":
+                        vectorize = false;
+                        break;
+                    case "--compare":
+                        compare = true;
+                        break;
+                    default:
+                        directories.add(Paths.get(args[i]));
+                        break;
+                }
+            }
+            if (periods < 1) {
+                throw new IllegalArgumentException("The number of periods must be positive: " + periods);
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Usage: AnalyticsRunner [history directories...] [--periods n] [--synthetic games]"
+                    + " [--seed n] [--scalar] [--compare]");
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+        if (directories.isEmpty()) {
+            directories.add(SessionHistory.getDefaultDirectory());
+        }
+
+        WordGenerator generator = new WordGenerator();
+        long loadNanos = System.nanoTime();
+        SessionColumns columns;
+        if (synthetic > 0) {
+            columns = generate(generator, synthetic, seed);
+            System.out.printf("Generated %,d synthetic games (seed %d)", synthetic, seed);
+        } else {
+            try {
+                columns = SessionColumns.load(generator, directories.toArray(new Path[0]));
+            } catch (IOException e) {
+                e.printStackTrace();
+                System.exit(1);
+                return;
+            }
+            System.out.printf("Loaded %,d games from %s", columns.size(), directories);
+        }
+        System.out.printf(" in %.2f s%n", (System.nanoTime() - loadNanos) / 1e9);
+
+        if (compare) {
+            time(columns, false, periods);
+            time(columns, true, periods);
+        } else {
+            SessionAnalytics analytics = new SessionAnalytics(columns, vectorize);
+            System.out.printf("Aggregating with %s%n%n", analytics.getKernelName());
+            System.out.print(analytics.formatReport(periods));
+            if (synthetic == 0) {
+                printWordTimings(directories);
+            }
+        }
+    }
+
+    /**
+     * Merges the word timings of every history directory and prints their percentiles.
+     *
+     * @param directories the history directories
+     */
+    private static void printWordTimings(List<Path> directories) {
+        WordTimings merged = new WordTimings();
+        for (Path directory : directories) {
+            try {
+                merged.merge(SessionHistory.readWordTimings(directory));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        System.out.printf("%nWord timings: %,d correct words%n", merged.getWordCount());
+        if (merged.getWordCount() == 0) {
+            return;
+        }
+        System.out.println(merged.formatSummary());
+        System.out.printf("%-12s %10s %10s %10s %10s %10s%n", "", "p10", "p50", "p90", "p99", "max");
+        QuantileSketch completion = merged.getCompletionMillis();
+        System.out.printf("%-12s %8.2f s %8.2f s %8.2f s %8.2f s %8.2f s%n", "Time",
+                completion.getValueAtPercentile(10) / 1000.0, completion.getValueAtPercentile(50) / 1000.0,
+                completion.getValueAtPercentile(90) / 1000.0, completion.getValueAtPercentile(99) / 1000.0,
+                completion.getMax() / 1000.0);
+        QuantileSketch speed = merged.getWordsPerMinute();
+        System.out.printf("%-12s %10.1f %10.1f %10.1f %10.1f %10.1f%n", "Speed (WPM)",
+                speed.getValueAtPercentile(10), speed.getValueAtPercentile(50), speed.getValueAtPercentile(90),
+                speed.getValueAtPercentile(99), speed.getMax());
+    }
+
+    /**
+     * Times the typing speed column and the aggregates of one kind of kernel, keeping the best of a few
+     * rounds so that the JIT has compiled them.
+     *
+     * @param columns the games
+     * @param vectorize whether to use the Vector API if it is available
+     * @param periods the number of trend periods
+     */
+    private static void time(SessionColumns columns, boolean vectorize, int periods) {
+        long bestNanos = Long.MAX_VALUE;
+        SessionAnalytics analytics = null;
+        double checksum = 0;
+        for (int round = 0; round < TIMING_ROUNDS; round++) {
+            long startNanos = System.nanoTime();
+            analytics = new SessionAnalytics(columns, vectorize);
+            checksum += analytics.getMeanWordsPerMinute() + analytics.getAccuracyPercentage()
+                    + analytics.getAccuracyTrend(periods).size() + analytics.getTierSummaries().size();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startNanos);
+        }
+        System.out.printf("%-32s mean %.4f WPM, accuracy %.4f%%, best of %d: %.2f ms (checksum %.1f)%n",
+                analytics.getKernelName(), analytics.getMeanWordsPerMinute(), analytics.getAccuracyPercentage(),
+                TIMING_ROUNDS, bestNanos / 1e6, checksum);
+    }
+
+    /**
+     * Generates games with plausible values, one every few minutes, for sizing and timing the analytics.
+     *
+     * @param generator the generator defining the difficulty tier of each level
+     * @param count the number of games
+     * @param seed the seed of the random values
+     * @return the games, in start order
+     */
+    private static SessionColumns generate(WordGenerator generator, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        SessionColumns columns = new SessionColumns(generator, count);
+        long start = SYNTHETIC_ORIGIN_MILLIS;
+        for (int i = 0; i < count; i++) {
+            start += random.nextLong(60_000, 600_000);
+            int level = 1 + (int) Math.min(80, Math.abs(random.nextGaussian() * 15));
+            int incorrect = random.nextInt(4);
+            int correct = level - 1 + random.nextInt(3);
+            long typing = correct * random.nextLong(800, 4_000);
+            long duration = typing + (correct + incorrect) * 1_500L + random.nextLong(0, 20_000);
+            columns.add(start, duration, typing, level, correct + incorrect, correct, incorrect);
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,76 @@
+package com.fastwriting.app;
+
+import com.fastwriting.model.WordCorpus;
+import com.fastwriting.model.WordGenerator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Command line tool that compiles word lists into a binary corpus file for {@link WordGenerator}.
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * CorpusBuilder &lt;output.corpus&gt;                          export the built-in word lists
+ * CorpusBuilder &lt;output.corpus&gt; &lt;tier1.txt&gt; ... &lt;tier6.txt&gt; compile six text files, one entry per line
+ * </pre>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class CorpusBuilder {
+
+    /**
+     * Private constructor to prevent instantiation of this tool class.
+     */
+    private CorpusBuilder() {
+    }
+
+    /**
+     * Builds the corpus file described by the command line arguments.
+     *
+     * @param args the output file followed by either nothing or six tier text files
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1 && args.length != 7) {
+            System.err.println("Usage: CorpusBuilder <output.corpus> [<tier1.txt> ... <tier6.txt>]");
+            System.exit(2);
+        }
+
+        Path output = Paths.get(args[0]);
+        if (args.length == 1) {
+            WordGenerator.exportBuiltInCorpus(output);
+        } else {
+            List<List<String>> tiers = new ArrayList<>();
+            for (int i = 1; i < args.length; i++) {
+                tiers.add(readEntries(Paths.get(args[i])));
+            }
+            WordCorpus.write(output, tiers);
+        }
+        System.out.println("Corpus written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * Reads the non-blank, trimmed lines of a text file.
+     *
+     * @param file the text file to read
+     * @return the entries of the file
+     * @throws IOException if the file cannot be read
+     */
+    private static List<String> readEntries(Path file) throws IOException {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.map(String::trim)
+                    .filter(line -> !line.isEmpty())
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.fastwriting.app;
 
+import com.fastwriting.model.SessionHistory;
+import com.fastwriting.model.SessionRecording;
+import com.fastwriting.monitoring.FlightRecording;
+import com.fastwriting.monitoring.MetricsServer;
 import com.fastwriting.util.SceneManager;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 
 /**
  * Main application class for the Fast Writing game.
@@ -29,9 +34,20 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage stage) throws IOException {
+        // Keep a continuous Flight Recorder history when a dump directory is configured
+        FlightRecording.startIfRequested();
+
+        // Serve the metrics endpoint when a port is configured
+        MetricsServer.startIfRequested();
+
         // Initialize scene manager with the primary stage
         sceneManager = SceneManager.getInstance();
         sceneManager.setPrimaryStage(stage);
+        if (Boolean.getBoolean("fastwriting.logTransitions")) {
+            sceneManager.setTransitionListener((fxmlPath, nanos, async) ->
+                    System.out.printf("Transition to %s took %.2f ms%s%n",
+                            fxmlPath, nanos / 1_000_000.0, async ? " (async)" : ""));
+        }
 
         // Configure the primary stage
         stage.setTitle("Fast Writing Game");
@@ -39,6 +55,36 @@ public class Main extends Application {
 
         // Show the main menu as the starting screen
         sceneManager.showMainMenuScreen();
+
+        // Parse the views used right after the menu in the background
+        sceneManager.preloadViews(SceneManager.GAME_VIEW, SceneManager.GAME_OVER_VIEW);
+
+        // Index the session history in the background so the first game over can show its rank at once
+        SessionHistory.getDefault().getLeaderboardAsync();
+
+        // Script a full session when building the class-data sharing archive
+        if (TrainingRun.isRequested()) {
+            new TrainingRun(sceneManager).start();
+        }
+
+        // Play back a recorded session, e.g. one attached to an input-lag report
+        String replayFile = System.getProperty("fastwriting.replay");
+        if (replayFile != null && !replayFile.isBlank()) {
+            try {
+                sceneManager.showReplayScreen(SessionRecording.load(Paths.get(replayFile)));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Stops the metrics endpoint and flushes the session history when the application exits.
+     */
+    @Override
+    public void stop() {
+        MetricsServer.stop();
+        SessionHistory.closeDefault();
     }
 
     /**
@@ -0,0 +1,69 @@
+package com.fastwriting.app;
+
+import com.fastwriting.model.SessionRecording;
+import com.fastwriting.model.SessionReplayer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Command line tool that plays recorded sessions back into a headless game engine.
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * ReplayRunner &lt;session.fwr&gt;               replay once at maximum speed
+ * ReplayRunner &lt;session.fwr&gt; --realtime    replay once at the original speed
+ * ReplayRunner &lt;session.fwr&gt; &lt;runs&gt;        replay repeatedly at maximum speed and report the throughput
+ * </pre>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class ReplayRunner {
+
+    /**
+     * Private constructor to prevent instantiation of this tool class.
+     */
+    private ReplayRunner() {
+    }
+
+    /**
+     * Replays the recording described by the command line arguments.
+     *
+     * @param args the recording file, optionally followed by --realtime or a number of runs
+     * @throws IOException if the recording cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: ReplayRunner <session.fwr> [--realtime | <runs>]");
+            System.exit(2);
+        }
+
+        Path file = Paths.get(args[0]);
+        SessionRecording recording = SessionRecording.load(file);
+        SessionReplayer replayer = new SessionReplayer(recording);
+        System.out.printf("%s: %d events in %d bytes, %.1f s of play, seed %d%n", file, recording.getEventCount(),
+                recording.getDataLength(), recording.getDurationNanos() / 1e9, recording.getSeed());
+
+        boolean realTime = args.length == 2 && "--realtime".equals(args[1]);
+        int runs = args.length == 2 && !realTime ? Integer.parseInt(args[1]) : 1;
+        SessionReplayer.Pace pace = realTime ? SessionReplayer.Pace.REAL_TIME : SessionReplayer.Pace.MAXIMUM;
+
+        long totalNanos = 0;
+        long totalEvents = 0;
+        for (int run = 0; run < runs; run++) {
+            SessionReplayer.Result result = replayer.replay(pace);
+            totalNanos += result.getElapsedNanos();
+            totalEvents += result.getEventCount();
+            if (run == 0 || run == runs - 1) {
+                System.out.printf("Run %d: level %d, %d divergences, %.3f ms%n", run + 1, result.getFinalLevel(),
+                        result.getDivergences(), result.getElapsedNanos() / 1e6);
+            }
+        }
+        if (runs > 1) {
+            System.out.printf("%d runs: %.0f events/s%n", runs, totalEvents * 1e9 / totalNanos);
+        }
+    }
+}
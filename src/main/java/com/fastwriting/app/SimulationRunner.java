@@ -0,0 +1,117 @@
+package com.fastwriting.app;
+
+import com.fastwriting.model.WordGenerator;
+import com.fastwriting.simulation.SimulationResult;
+import com.fastwriting.simulation.TypistProfile;
+import com.fastwriting.simulation.TypistSimulator;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line tool that runs synthetic typists through the game rules and prints how far they get
+ * in each difficulty tier, for balancing the difficulty curve.
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * SimulationRunner [typists] [--wpm mean:stddev] [--errors mean:stddev] [--live] [--seed n] [--threads n]
+ * </pre>
+ * <p>For example {@code SimulationRunner 1000000 --wpm 45:12 --errors 0.05:0.02} simulates a million
+ * typists averaging 45 WPM with 5% wrong keystrokes.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class SimulationRunner {
+
+    /**
+     * Number of typists simulated when none is given.
+     */
+    private static final long DEFAULT_TYPISTS = 100_000;
+
+    /**
+     * Seed used when none is given.
+     */
+    private static final long DEFAULT_SEED = 20250101L;
+
+    /**
+     * Private constructor to prevent instantiation of this tool class.
+     */
+    private SimulationRunner() {
+    }
+
+    /**
+     * Runs the simulation described by the command line arguments.
+     *
+     * @param args the options described in the class documentation
+     */
+    public static void main(String[] args) {
+        long typists = DEFAULT_TYPISTS;
+        long seed = DEFAULT_SEED;
+        int threads = ForkJoinPool.getCommonPoolParallelism();
+        TypistProfile profile = TypistProfile.defaults();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--wpm":
+                        double[] wpm = parsePair(args[++i]);
+                        profile = profile.withWpm(wpm[0], wpm[1]);
+                        break;
+                    case "--errors":
+                        double[] errors = parsePair(args[++i]);
+                        profile = profile.withErrorRate(errors[0], errors[1]);
+                        break;
+                    case "--live":
+                        profile = profile.withLiveValidation(true);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(args[++i]);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    default:
+                        typists = Long.parseLong(args[i].replace("_", ""));
+                        break;
+                }
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Usage: SimulationRunner [typists] [--wpm mean:stddev] [--errors mean:stddev]"
+                    + " [--live] [--seed n] [--threads n]");
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+
+        WordGenerator generator = new WordGenerator();
+        TypistSimulator simulator = new TypistSimulator(generator, profile);
+        System.out.printf("Simulating %,d typists (%s) on %d threads, seed %d%n", typists, profile, threads, seed);
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+        try {
+            long startNanos = System.nanoTime();
+            SimulationResult result = simulator.run(typists, seed, pool);
+            long elapsedNanos = System.nanoTime() - startNanos;
+            System.out.print(result.formatReport(generator));
+            System.out.printf("Simulated in %.2f s (%,.0f games/s)%n", elapsedNanos / 1e9,
+                    typists * 1e9 / Math.max(1, elapsedNanos));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Parses a "mean:stddev" pair.
+     *
+     * @param value the text to parse
+     * @return the mean and standard deviation
+     * @throws NumberFormatException if a number is malformed
+     */
+    private static double[] parsePair(String value) {
+        int colon = value.indexOf(':');
+        if (colon < 0) {
+            return new double[] {Double.parseDouble(value), 0};
+        }
+        return new double[] {Double.parseDouble(value.substring(0, colon)), Double.parseDouble(value.substring(colon + 1))};
+    }
+}
@@ -0,0 +1,125 @@
+package com.fastwriting.app;
+
+import com.fastwriting.model.GameEngine;
+import com.fastwriting.model.VirtualClock;
+import com.fastwriting.model.WordGenerator;
+import com.fastwriting.util.SceneManager;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+/**
+ * Scripted session used to train the class-data sharing archive of the runtime image.
+ * Started with {@code -Dfastwriting.training=true}, it plays a headless game through every
+ * difficulty tier and then visits the game, game over, statistics and rules screens
+ * before returning to the menu and exiting, so all classes of a normal session get loaded.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public final class TrainingRun {
+
+    /**
+     * Time each screen stays visible so it is laid out and rendered at least once.
+     */
+    private static final Duration STEP_DELAY = Duration.millis(400);
+
+    /**
+     * Level reached by the headless game, past the last difficulty tier.
+     */
+    private static final int TARGET_LEVEL = 55;
+
+    /**
+     * Scene manager used to visit the screens.
+     */
+    private final SceneManager sceneManager;
+
+    /**
+     * Creates a training run driving the given scene manager.
+     *
+     * @param sceneManager the scene manager of the application
+     */
+    public TrainingRun(SceneManager sceneManager) {
+        this.sceneManager = sceneManager;
+    }
+
+    /**
+     * Checks whether the application was launched to perform a training run.
+     *
+     * @return true if the training system property is set
+     */
+    public static boolean isRequested() {
+        return Boolean.getBoolean("fastwriting.training");
+    }
+
+    /**
+     * Plays the headless game and schedules the screen visits.
+     * Must be called on the JavaFX Application Thread after the menu is shown.
+     */
+    public void start() {
+        GameEngine engine = playHeadlessGame();
+        sceneManager.setGameStatistics(engine.getStatistics());
+
+        runSteps(
+                sceneManager::showGameScreen,
+                sceneManager::showGameOverScreen,
+                sceneManager::showStatisticsScreen,
+                sceneManager::showRulesScreen,
+                sceneManager::showMainMenuScreen,
+                Platform::exit);
+    }
+
+    /**
+     * Plays a game on a virtual clock, typing every word in live mode and submitting one wrong answer.
+     *
+     * @return the finished game engine
+     */
+    private GameEngine playHeadlessGame() {
+        VirtualClock clock = new VirtualClock();
+        GameEngine engine = new GameEngine(new WordGenerator(), clock);
+        engine.setLiveValidation(true);
+        engine.start();
+
+        while (engine.getCurrentLevel() < TARGET_LEVEL) {
+            String word = engine.getCurrentWord();
+            for (int i = 0; i < word.length(); i++) {
+                clock.advanceNanos(40_000_000L);
+                engine.typeText(String.valueOf(word.charAt(i)));
+            }
+            engine.nextWord();
+        }
+
+        engine.setLiveValidation(false);
+        engine.submit("#");
+        engine.end();
+        return engine;
+    }
+
+    /**
+     * Runs the given steps one after another, pausing between them.
+     *
+     * @param steps the steps to run
+     */
+    private void runSteps(Runnable... steps) {
+        runStep(steps, 0);
+    }
+
+    /**
+     * Runs one step after the delay and schedules the following one.
+     *
+     * @param steps the steps to run
+     * @param index the index of the step to run
+     */
+    private void runStep(Runnable[] steps, int index) {
+        if (index >= steps.length) {
+            return;
+        }
+        PauseTransition pause = new PauseTransition(STEP_DELAY);
+        pause.setOnFinished(event -> {
+            steps[index].run();
+            runStep(steps, index + 1);
+        });
+        pause.play();
+    }
+}
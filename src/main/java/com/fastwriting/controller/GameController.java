@@ -1,87 +1,131 @@
 package com.fastwriting.controller;
 
+import com.fastwriting.controller.GameScreenRenderer.FeedbackType;
+import com.fastwriting.model.GameClock;
+import com.fastwriting.model.GameEngine;
 import com.fastwriting.model.GameStatistics;
-import com.fastwriting.model.WordGenerator;
+import com.fastwriting.model.SessionHistory;
+import com.fastwriting.model.SessionRecord;
+import com.fastwriting.model.SessionRecording;
+import com.fastwriting.model.TypingSpeedMeter;
+import com.fastwriting.monitoring.FlightRecording;
+import com.fastwriting.monitoring.GameMetrics;
+import com.fastwriting.monitoring.InputLatencyProbe;
+import com.fastwriting.monitoring.LatencyHistogram;
+import com.fastwriting.monitoring.TimerTickEvent;
+import com.fastwriting.monitoring.ValidationEvent;
 import com.fastwriting.util.SceneManager;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.fastwriting.util.ScreenController;
+import javafx.animation.AnimationTimer;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
-import javafx.util.Duration;
 
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ResourceBundle;
 
 /**
  * Controller class for the main game interface.
- * Handles game logic, user input validation, timer management, and level progression.
+ * Renders the state of a {@link GameEngine}, forwards user input to it and drives its countdown.
+ * A single {@link AnimationTimer} polls the engine's nanosecond deadlines once per frame, so the
+ * countdown renders smoothly and no timeline is allocated per word or level.
+ *
+ * <p>With {@code -Dfastwriting.recordDir=<directory>} every finished game is saved there as a
+ * {@link SessionRecording}. A recording shown through {@link SceneManager#showReplayScreen(SessionRecording)}
+ * is played back into the input field at its original speed while the player's input is locked.</p>
  *
  * @author [William Rooselbelt May Barreto]
- * @version 4.0
+ * @version 5.0
  * @since 2025
  */
-public class GameController implements Initializable {
+public class GameController implements Initializable, ScreenController {
 
     /**
      * FXML label component that displays the current word or phrase to be typed.
      * Connected to the FXML file through fx:id="wordDisplayLabel".
      */
     @FXML
-    private Label wordDisplayLabel;
+    Label wordDisplayLabel;
 
     /**
      * FXML text field component where users input their typed responses.
      * Connected to the FXML file through fx:id="inputTextField".
      */
     @FXML
-    private TextField inputTextField;
+    TextField inputTextField;
 
     /**
      * FXML button component that users click to submit their typed input.
      * Connected to the FXML file through fx:id="submitButton".
      */
     @FXML
-    private Button submitButton;
+    Button submitButton;
 
     /**
      * FXML button component that users click to restart the game.
      * Connected to the FXML file through fx:id="restartButton".
      */
     @FXML
-    private Button restartButton;
+    Button restartButton;
 
     /**
      * FXML button component that users click to end the game and view statistics.
      * Connected to the FXML file through fx:id="endGameButton".
      */
     @FXML
-    private Button endGameButton;
+    Button endGameButton;
+
+    /**
+     * FXML button component that users click to pause and resume the game.
+     * Connected to the FXML file through fx:id="pauseButton".
+     */
+    @FXML
+    Button pauseButton;
 
     /**
      * FXML button component that users click to return to the main menu.
      * Connected to the FXML file through fx:id="backToMenuButton".
      */
     @FXML
-    private Button backToMenuButton;
+    Button backToMenuButton;
+
+    /**
+     * FXML check box component that switches live validation on and off.
+     * In live mode the word completes as soon as it is typed correctly, without pressing Enter.
+     * Connected to the FXML file through fx:id="liveModeCheckBox".
+     */
+    @FXML
+    CheckBox liveModeCheckBox;
 
     /**
      * FXML label component that displays the remaining time for the current level.
      * Connected to the FXML file through fx:id="timerLabel".
      */
     @FXML
-    private Label timerLabel;
+    Label timerLabel;
 
     /**
      * FXML label component that displays the current level and difficulty category.
      * Connected to the FXML file through fx:id="levelLabel".
      */
     @FXML
-    private Label levelLabel;
+    Label levelLabel;
+
+    /**
+     * FXML label component that displays the live typing speed in WPM and CPM.
+     * Connected to the FXML file through fx:id="speedLabel".
+     */
+    @FXML
+    Label speedLabel;
 
     /**
      * FXML label component that displays feedback messages to the user.
@@ -89,7 +133,7 @@ public class GameController implements Initializable {
      * Connected to the FXML file through fx:id="feedbackLabel".
      */
     @FXML
-    private Label feedbackLabel;
+    Label feedbackLabel;
 
     /**
      * FXML progress bar component that shows game progression visually.
@@ -97,57 +141,101 @@ public class GameController implements Initializable {
      * Connected to the FXML file through fx:id="progressBar".
      */
     @FXML
-    private ProgressBar progressBar;
+    ProgressBar progressBar;
 
     /**
-     * Word generator instance for obtaining random words and phrases.
+     * FXML label component of the debug overlay, toggled with F3.
+     * Shows the key-to-glyph latency of the current game.
+     * Connected to the FXML file through fx:id="debugOverlayLabel".
      */
-    private WordGenerator wordGenerator;
+    @FXML
+    Label debugOverlayLabel;
 
     /**
-     * Timeline for the countdown timer.
+     * Headless game engine holding the game rules and state rendered by this controller.
      */
-    private Timeline timeline;
+    private GameEngine gameEngine;
 
     /**
-     * Current level of the game.
+     * Delay between a correct answer and the next word, in nanoseconds.
      */
-    private int currentLevel;
+    private static final long NEXT_WORD_DELAY_NANOS = 1_500_000_000L;
 
     /**
-     * Remaining time for the current level.
+     * Interval between refreshes of the debug overlay, in nanoseconds.
      */
-    private int remainingTime;
+    private static final long DEBUG_OVERLAY_INTERVAL_NANOS = 250_000_000L;
 
     /**
-     * Initial time limit for each level.
+     * System property naming the directory finished games are recorded to.
      */
-    private int timeLimit;
+    private static final String RECORD_DIRECTORY_PROPERTY = "fastwriting.recordDir";
 
     /**
-     * Current word or phrase to be typed.
+     * Format of the timestamp in the names of recording files.
      */
-    private String currentWord;
+    private static final DateTimeFormatter RECORDING_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
 
     /**
-     * Flag indicating if the game is currently active.
+     * Directory finished games are recorded to, or null if games are not recorded.
      */
-    private boolean gameActive;
+    private Path recordDirectory;
 
     /**
-     * Game statistics tracker for performance analysis.
+     * Driver playing back the recording of the current game, or null for a normal game.
      */
-    private GameStatistics gameStatistics;
+    private ReplayDriver replay;
 
     /**
-     * Scene manager for navigation between windows.
+     * Frame loop driving the countdown and the transition to the next word.
+     * Created once and restarted for every game.
      */
-    private SceneManager sceneManager;
+    private AnimationTimer gameLoop;
+
+    /**
+     * Clock time at which the next word is shown after a correct answer, or -1 if none is pending.
+     */
+    private long nextWordAtNanos = -1;
+
+    /**
+     * Time left before the next word when the game was paused during a transition.
+     */
+    private long pausedTransitionNanos;
+
+    /**
+     * Renderer applying timer, level, feedback, progress and input state once per pulse.
+     */
+    private GameScreenRenderer renderer;
+
+    /**
+     * Probe measuring the key-to-glyph latency of the input field into the current game's statistics.
+     */
+    private InputLatencyProbe latencyProbe;
+
+    /**
+     * Whether the current game has already been appended to the session history.
+     */
+    private boolean historyAppended;
+
+    /**
+     * Whether the input field is being cleared by the game, so the edit is not forwarded as player input.
+     */
+    private boolean clearingInput;
+
+    /**
+     * Whether the debug overlay is shown.
+     */
+    private boolean debugOverlayShown;
+
+    /**
+     * Clock time of the next debug overlay refresh.
+     */
+    private long nextDebugOverlayNanos;
 
     /**
-     * Flag to track if the current word has been completed correctly.
+     * Scene manager for navigation between windows.
      */
-    private boolean currentWordCompleted;
+    private SceneManager sceneManager;
 
     /**
      * Initializes the controller class. This method is automatically called
@@ -158,126 +246,340 @@ public class GameController implements Initializable {
      */
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        wordGenerator = new WordGenerator();
-        gameStatistics = new GameStatistics();
+        gameEngine = new GameEngine();
         sceneManager = SceneManager.getInstance();
+        inputTextField.setTextFormatter(new TextFormatter<>(this::onInputChanged));
+        renderer = new GameScreenRenderer(wordDisplayLabel, timerLabel, levelLabel, speedLabel, feedbackLabel,
+                progressBar, inputTextField, debugOverlayLabel);
+        latencyProbe = new InputLatencyProbe(inputTextField);
+        String recordDirectoryName = System.getProperty(RECORD_DIRECTORY_PROPERTY);
+        if (recordDirectoryName != null && !recordDirectoryName.isBlank()) {
+            recordDirectory = Paths.get(recordDirectoryName);
+            gameEngine.setRecordingEnabled(true);
+        }
+        gameLoop = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame();
+            }
+        };
+    }
+
+    /**
+     * Starts a new game each time the game screen is shown.
+     */
+    @Override
+    public void onShow() {
+        renderer.attach(timerLabel.getScene());
+        latencyProbe.attach(timerLabel.getScene());
         initializeGame();
     }
 
+    /**
+     * Stops the countdown and any pending word transition when the game screen is left.
+     */
+    @Override
+    public void onHide() {
+        stopTimers();
+        latencyProbe.detach();
+        renderer.detach();
+    }
+
+    /**
+     * Stops the frame loop and drops the pending transition to the next word, if any.
+     */
+    private void stopTimers() {
+        gameLoop.stop();
+        nextWordAtNanos = -1;
+    }
+
     /**
      * Initializes the game to its starting state.
      * Resets level, time, and loads the first word.
      */
     private void initializeGame() {
-        currentLevel = 1;
-        timeLimit = 20;
-        gameActive = true;
-        currentWordCompleted = false;
+        SessionRecording replayRecording = sceneManager.getReplayRecording();
+        replay = replayRecording != null ? new ReplayDriver(replayRecording) : null;
+        if (replay != null) {
+            liveModeCheckBox.setSelected(replayRecording.isLiveValidation());
+            gameEngine.setLiveValidation(replayRecording.isLiveValidation());
+        }
 
-        // Reset game statistics
-        gameStatistics = new GameStatistics();
-        gameStatistics.setStartTime(LocalDateTime.now());
+        Long seed = sceneManager.getGameSeed();
+        if (seed != null) {
+            gameEngine.start(seed);
+        } else {
+            gameEngine.start();
+        }
+        latencyProbe.setHistogram(replay == null ? gameEngine.getStatistics().getInputLatency() : null);
+        GameMetrics.GAMES_STARTED.increment();
+        nextDebugOverlayNanos = 0;
+        historyAppended = false;
 
         updateLevelDisplay();
         loadNewWord();
         startTimer();
 
         inputTextField.setDisable(false);
-        submitButton.setDisable(false);
+        inputTextField.setEditable(replay == null);
+        submitButton.setDisable(replay != null);
+        liveModeCheckBox.setDisable(replay != null);
         endGameButton.setDisable(false);
+        restartButton.setDisable(false);
+        pauseButton.setDisable(replay != null);
+        pauseButton.setText("Pause");
         inputTextField.requestFocus();
 
         // Set initial feedback message with CSS styling
-        showFeedbackMessage("Type the word above and press Enter or Submit!", "neutral");
+        if (replay != null) {
+            replay.start(clock().nanoTime());
+            showFeedbackMessage("Replaying a recorded session...", FeedbackType.NEUTRAL);
+        } else if (seed != null) {
+            showFeedbackMessage("Daily challenge: everyone gets the same words today!", FeedbackType.NEUTRAL);
+        } else {
+            showFeedbackMessage("Type the word above and press Enter or Submit!", FeedbackType.NEUTRAL);
+        }
     }
 
     /**
-     * Loads a new word or phrase for the current level.
+     * Displays the engine's current word or phrase.
      * Updates the display and clears the input field.
      */
     private void loadNewWord() {
-        currentWord = wordGenerator.getRandomWord(currentLevel);
-        wordDisplayLabel.setText(currentWord);
-        inputTextField.clear();
-        currentWordCompleted = false;
+        renderer.setWord(gameEngine.getCurrentPreparedWord());
+        GameMetrics.wordServed(gameEngine.getCurrentTier());
+        clearInput();
 
         // Update progress bar based on current level (max 50 levels for visual purposes)
-        double progress = Math.min(1.0, currentLevel / 50.0);
-        progressBar.setProgress(progress);
+        double progress = Math.min(1.0, gameEngine.getCurrentLevel() / 50.0);
+        renderer.setProgress(progress);
     }
 
     /**
-     * Starts the countdown timer for the current level.
-     * The timer decreases every second and ends the game when it reaches zero.
+     * Starts the countdown display for the current level.
+     * The display refreshes every frame and the game ends when the engine reports the time is up.
      */
     private void startTimer() {
-        if (timeline != null) {
-            timeline.stop();
+        updateTimerDisplay();
+        gameLoop.start();
+    }
+
+    /**
+     * Handles one frame of the game loop, timed as a Flight Recorder timer tick.
+     */
+    private void onFrame() {
+        TimerTickEvent event = new TimerTickEvent();
+        event.begin();
+        tick();
+        event.commit(gameEngine.getCurrentLevel(), gameEngine.getCurrentTier(), gameEngine.getRemainingNanos());
+        updateSpeedDisplay();
+        if (debugOverlayShown) {
+            updateDebugOverlay();
         }
+    }
 
-        remainingTime = timeLimit;
-        updateTimerDisplay();
+    /**
+     * Shows the typing speed over the meter's window; called once per frame, not per keystroke.
+     */
+    private void updateSpeedDisplay() {
+        TypingSpeedMeter speedMeter = gameEngine.getSpeedMeter();
+        long now = clock().nanoTime();
+        renderer.setTypingSpeed((int) Math.round(speedMeter.getWordsPerMinute(now)),
+                (int) Math.round(speedMeter.getCharactersPerMinute(now)));
+    }
 
-        timeline = new Timeline(new KeyFrame(Duration.seconds(1), e -> handleTimerTick()));
-        timeline.setCycleCount(timeLimit);
-        timeline.play();
+    /**
+     * Shows the key-to-glyph latency of the current game in the debug overlay, at most four times a second.
+     */
+    private void updateDebugOverlay() {
+        long now = System.nanoTime();
+        if (now < nextDebugOverlayNanos) {
+            return;
+        }
+        nextDebugOverlayNanos = now + DEBUG_OVERLAY_INTERVAL_NANOS;
+        LatencyHistogram latency = latencyProbe.getHistogram();
+        renderer.setDebugText(latency == null ? "Input latency: not measured during replays"
+                : "Input latency (" + latency.getCount() + " keys): " + latency.formatSummary());
     }
 
     /**
-     * Handles timer tick events. Called every second during countdown.
+     * Shows or hides the debug overlay.
      */
-    private void handleTimerTick() {
-        remainingTime--;
+    private void toggleDebugOverlay() {
+        debugOverlayShown = !debugOverlayShown;
+        if (debugOverlayShown) {
+            nextDebugOverlayNanos = 0;
+            updateDebugOverlay();
+        } else {
+            renderer.setDebugText(null);
+        }
+    }
+
+    /**
+     * Applies due replay events, then shows the next word once its transition delay has passed,
+     * otherwise refreshes the countdown and checks whether the time is up.
+     */
+    private void tick() {
+        if (replay != null) {
+            replay.applyDue(clock().nanoTime(), this::applyReplayEvent);
+        }
+        if (gameEngine.isPaused()) {
+            return;
+        }
+
+        if (nextWordAtNanos >= 0) {
+            if (clock().nanoTime() >= nextWordAtNanos) {
+                nextWordAtNanos = -1;
+                showNextWord();
+            }
+            return;
+        }
+
         updateTimerDisplay();
 
-        if (remainingTime <= 0) {
-            timeline.stop();
+        if (gameEngine.checkTimeUp()) {
+            gameLoop.stop();
             handleTimeUp();
         }
     }
 
+    /**
+     * Applies one recorded event through the same paths as the player's input.
+     * Words are shown and time runs out on their own, as they did in the recorded game.
+     *
+     * @param type the type of the event
+     * @param offsetNanos the offset of the event from the start of the game
+     * @param text the text of the event, or null
+     * @param count the count of the event
+     */
+    private void applyReplayEvent(SessionRecording.EventType type, long offsetNanos, String text, int count) {
+        switch (type) {
+            case TYPE:
+                inputTextField.appendText(text);
+                break;
+            case DELETE:
+                int length = inputTextField.getLength();
+                int deleted = Math.min(count, length);
+                if (deleted > 0) {
+                    inputTextField.deleteText(length - deleted, length);
+                }
+                break;
+            case REPLACE:
+                inputTextField.setText(text);
+                break;
+            case SUBMIT:
+                if (!text.equals(inputTextField.getText())) {
+                    inputTextField.setText(text);
+                }
+                validateInput();
+                break;
+            case LIVE_VALIDATION:
+                liveModeCheckBox.setSelected(count != 0);
+                gameEngine.setLiveValidation(count != 0);
+                break;
+            case PAUSE:
+            case RESUME:
+                if (gameEngine.isPaused() != (type == SessionRecording.EventType.PAUSE)) {
+                    togglePause();
+                }
+                break;
+            case END:
+                endGameVoluntarily();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Saves the recording of the finished game to the recording directory, if games are recorded.
+     */
+    private void saveRecording() {
+        SessionRecording recording = gameEngine.getRecording();
+        if (recordDirectory == null || recording == null || replay != null) {
+            return;
+        }
+        try {
+            Files.createDirectories(recordDirectory);
+            recording.save(recordDirectory.resolve("session-" + LocalDateTime.now().format(RECORDING_NAME_FORMAT)
+                    + "-" + Long.toHexString(recording.getSeed()) + ".fwr"));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Appends the finished game to the persistent session history in the background, unless it was a replay.
+     * Each game is appended at most once.
+     */
+    private void appendToHistory() {
+        if (replay == null && !historyAppended) {
+            historyAppended = true;
+            GameStatistics statistics = gameEngine.getStatistics();
+            SessionHistory.getDefault().append(SessionRecord.of(statistics), statistics.getWordTimings());
+        }
+    }
+
+    /**
+     * Loads the next word after the transition following a correct answer.
+     */
+    private void showNextWord() {
+        if (gameEngine.isActive()) {
+            gameEngine.nextWord();
+            loadNewWord();
+            startTimer();
+            showFeedbackMessage("New word loaded! Type it before time runs out!", FeedbackType.NEUTRAL);
+        }
+    }
+
+    /**
+     * Gets the clock the engine measures its deadlines with.
+     *
+     * @return the engine clock
+     */
+    private GameClock clock() {
+        return gameEngine.getClock();
+    }
+
     /**
      * Handles the event when time runs out.
      * This is the only way the player loses the game.
      */
     private void handleTimeUp() {
-        gameActive = false;
-
-        gameStatistics.setEndTime(LocalDateTime.now());
-        gameStatistics.setFinalLevel(currentLevel);
+        // The game is over: nothing may end or restart it again while the game over screen loads
+        pauseButton.setDisable(true);
+        endGameButton.setDisable(true);
+        restartButton.setDisable(true);
+        submitButton.setDisable(true);
+        inputTextField.setEditable(false);
+        saveRecording();
+        appendToHistory();
+
+        // Keep the recent Flight Recorder history of the lost level, if it is being recorded
+        FlightRecording.dumpAsync("timeup-level" + gameEngine.getCurrentLevel());
 
         // Show time up message
-        showFeedbackMessage("TIME'S UP! Game Over. Final level reached: " + currentLevel, "error");
+        showFeedbackMessage("TIME'S UP! Game Over. Final level reached: " + gameEngine.getCurrentLevel(), FeedbackType.ERROR);
 
-        // Navigate to Game Over screen
-        sceneManager.setGameStatistics(gameStatistics);
-        sceneManager.showGameOverScreen();
+        // Navigate to Game Over screen without blocking the timer callback
+        sceneManager.setGameStatistics(gameEngine.getStatistics());
+        sceneManager.showGameOverScreenAsync();
     }
 
     /**
-     * Updates the timer display with the current remaining time.
-     * Changes styling based on remaining time.
+     * Updates the timer display with the current remaining time, to a tenth of a second.
+     * The renderer switches the warning and danger states as the time runs low.
      */
     private void updateTimerDisplay() {
-        timerLabel.setText("Time: " + remainingTime + "s");
-
-        // Remove existing timer style classes
-        timerLabel.getStyleClass().removeAll("timer-warning", "timer-danger");
-
-        // Apply appropriate styling based on remaining time
-        if (remainingTime <= 5) {
-            timerLabel.getStyleClass().add("timer-danger");
-        } else if (remainingTime <= 10) {
-            timerLabel.getStyleClass().add("timer-warning");
-        }
+        renderer.setRemainingTime(gameEngine.getRemainingNanos());
     }
 
     /**
      * Updates the level display with current level information.
      */
     private void updateLevelDisplay() {
-        String difficulty = wordGenerator.getDifficultyCategory(currentLevel);
-        levelLabel.setText("Level: " + currentLevel + " (" + difficulty + ")");
+        int currentLevel = gameEngine.getCurrentLevel();
+        renderer.setLevel(currentLevel, gameEngine.getDifficultyCategory(currentLevel));
     }
 
     /**
@@ -285,66 +587,175 @@ public class GameController implements Initializable {
      * Shows feedback but doesn't end the game on incorrect input.
      */
     private void validateInput() {
-        if (!gameActive) return;
-
-        String userInput = inputTextField.getText().trim();
-
-        // Don't process empty input
-        if (userInput.isEmpty()) {
-            showFeedbackMessage("Please type something before submitting!", "neutral");
-            return;
+        long startNanos = System.nanoTime();
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        int level = gameEngine.getCurrentLevel();
+        int tier = gameEngine.getCurrentTier();
+        String input = inputTextField.getText();
+        GameEngine.SubmitResult result = gameEngine.submit(input);
+        switch (result) {
+            case EMPTY:
+                // Don't process empty input
+                showFeedbackMessage("Please type something before submitting!", FeedbackType.NEUTRAL);
+                break;
+            case CORRECT:
+                handleCorrectAnswer(false);
+                break;
+            case LEVEL_UP:
+                handleCorrectAnswer(true);
+                break;
+            case ALREADY_COMPLETED:
+                showFeedbackMessage("You already completed this word! Waiting for next level...", FeedbackType.NEUTRAL);
+                break;
+            case INCORRECT:
+                handleIncorrectAnswer();
+                break;
+            default:
+                break;
         }
+        event.commit(level, tier, false, input.length(), result);
+        GameMetrics.SUBMIT_VALIDATIONS.increment();
+        GameMetrics.VALIDATION_SECONDS.observeNanos(System.nanoTime() - startNanos);
+    }
 
-        gameStatistics.incrementWordsAttempted();
+    /**
+     * Forwards each edit of the input field to the engine's keystroke-level matcher.
+     * Typing or deleting at the end of the input costs O(1) per character; other edits rescan the input.
+     *
+     * @param change the pending edit of the input field
+     * @return the unmodified change
+     */
+    private TextFormatter.Change onInputChanged(TextFormatter.Change change) {
+        if (!change.isContentChange() || clearingInput) {
+            return change;
+        }
+        if (gameEngine.isPaused()) {
+            // Keep the field in sync with the engine, which ignores input while paused
+            return null;
+        }
 
-        if (userInput.equals(currentWord)) {
-            handleCorrectAnswer();
+        long startNanos = System.nanoTime();
+        // Without live mode an edit is only typing; the validation happens when the input is submitted
+        boolean live = gameEngine.isLiveValidation();
+        ValidationEvent event = null;
+        if (live) {
+            event = new ValidationEvent();
+            event.begin();
+        }
+        int level = gameEngine.getCurrentLevel();
+        int tier = gameEngine.getCurrentTier();
+
+        GameEngine.SubmitResult result;
+        int oldLength = change.getControlText().length();
+        if (change.getRangeEnd() == oldLength) {
+            gameEngine.deleteInput(oldLength - change.getRangeStart());
+            result = gameEngine.typeText(change.getText());
         } else {
-            handleIncorrectAnswer();
+            result = gameEngine.replaceInput(change.getControlNewText());
+        }
+
+        switch (result) {
+            case CORRECT:
+                handleCorrectAnswer(false);
+                break;
+            case LEVEL_UP:
+                handleCorrectAnswer(true);
+                break;
+            case TYPO:
+                showFeedbackMessage("Typo at character " + (gameEngine.getInputMatcher().getFirstErrorIndex() + 1)
+                        + "! Fix it to continue.", FeedbackType.ERROR);
+                break;
+            default:
+                break;
+        }
+        updateInputErrorDisplay();
+        if (live) {
+            event.commit(level, tier, true, change.getControlNewText().length(), result);
+            GameMetrics.LIVE_VALIDATIONS.increment();
+            GameMetrics.VALIDATION_SECONDS.observeNanos(System.nanoTime() - startNanos);
         }
+        return change;
     }
 
     /**
-     * Handles correct answer input.
-     * Advances to the next level and continues the game.
+     * Empties the input field and the engine's input together, without logging the clear as a
+     * backspace or recording it as a deletion.
      */
-    private void handleCorrectAnswer() {
-        if (currentWordCompleted) {
-            showFeedbackMessage("You already completed this word! Waiting for next level...", "neutral");
-            return;
+    private void clearInput() {
+        clearingInput = true;
+        try {
+            inputTextField.clear();
+        } finally {
+            clearingInput = false;
         }
+        gameEngine.clearInput();
+        updateInputErrorDisplay();
+    }
 
-        currentWordCompleted = true;
-        gameStatistics.incrementCorrectWords();
-        gameStatistics.addTimeSpent(timeLimit - remainingTime);
-
-        currentLevel++;
+    /**
+     * Highlights the input field while it contains a mismatch.
+     */
+    private void updateInputErrorDisplay() {
+        renderer.setInputError(gameEngine.getInputMatcher().hasError());
+    }
 
+    /**
+     * Handles correct answer input.
+     * Shows the level change and loads the next word after a short delay.
+     *
+     * @param timeReduced whether the engine reduced the time limit for the new level
+     */
+    private void handleCorrectAnswer(boolean timeReduced) {
+        GameMetrics.CORRECT_ANSWERS.increment();
+        if (timeReduced) {
+            GameMetrics.LEVEL_UPS.increment();
+        }
+        int currentLevel = gameEngine.getCurrentLevel();
         showFeedbackMessage("CORRECT! Well done! Moving to level " + currentLevel +
-                " (" + wordGenerator.getDifficultyCategory(currentLevel) + ")", "success");
+                " (" + gameEngine.getDifficultyCategory(currentLevel) + ")", FeedbackType.SUCCESS);
 
-        // Increase difficulty every 5 levels until minimum time is reached
-        if (currentLevel % 5 == 1 && currentLevel > 1 && timeLimit > 2) {
-            timeLimit = Math.max(2, timeLimit - 2);
-            showFeedbackMessage("LEVEL UP! Time reduced to " + timeLimit + " seconds per level!", "success");
+        // Difficulty increases every 5 levels until minimum time is reached
+        if (timeReduced) {
+            showFeedbackMessage("LEVEL UP! Time reduced to " + gameEngine.getTimeLimit() + " seconds per level!", FeedbackType.SUCCESS);
         }
 
         updateLevelDisplay();
 
         // Small delay before loading next word to let user see the success message
-        Timeline delay = new Timeline(new KeyFrame(Duration.seconds(1.5), e -> {
-            if (gameActive) {
-                loadNewWord();
-                startTimer();
-                showFeedbackMessage("New word loaded! Type it before time runs out!", "neutral");
-            }
-        }));
-        delay.play();
+        nextWordAtNanos = clock().nanoTime() + NEXT_WORD_DELAY_NANOS;
+    }
 
-        // Stop current timer during transition
-        if (timeline != null) {
-            timeline.stop();
+    /**
+     * Pauses or resumes the game. While paused the countdown and any pending
+     * transition to the next word are frozen and the input is disabled.
+     */
+    private void togglePause() {
+        if (!gameEngine.isActive()) {
+            return;
         }
+
+        if (gameEngine.isPaused()) {
+            gameEngine.resume();
+            if (nextWordAtNanos >= 0) {
+                nextWordAtNanos = clock().nanoTime() + pausedTransitionNanos;
+            }
+            pauseButton.setText("Pause");
+            inputTextField.setDisable(false);
+            submitButton.setDisable(replay != null);
+            inputTextField.requestFocus();
+            showFeedbackMessage("Resumed! Keep typing!", FeedbackType.NEUTRAL);
+        } else {
+            gameEngine.pause();
+            if (nextWordAtNanos >= 0) {
+                pausedTransitionNanos = Math.max(0, nextWordAtNanos - clock().nanoTime());
+            }
+            pauseButton.setText("Resume");
+            inputTextField.setDisable(true);
+            submitButton.setDisable(true);
+            showFeedbackMessage("Game paused. Press Resume to continue.", FeedbackType.NEUTRAL);
+        }
+        updateTimerDisplay();
     }
 
     /**
@@ -352,12 +763,11 @@ public class GameController implements Initializable {
      * Shows error message but allows player to keep trying.
      */
     private void handleIncorrectAnswer() {
-        gameStatistics.incrementIncorrectWords();
-
-        showFeedbackMessage("INCORRECT! Try again - you have " + remainingTime + " seconds left!", "error");
+        GameMetrics.INCORRECT_ANSWERS.increment();
+        showFeedbackMessage("INCORRECT! Try again - you have " + gameEngine.getRemainingSeconds() + " seconds left!", FeedbackType.ERROR);
 
         // Clear the input field so they can try again
-        inputTextField.clear();
+        clearInput();
         inputTextField.requestFocus();
     }
 
@@ -365,55 +775,44 @@ public class GameController implements Initializable {
      * Shows a feedback message with appropriate styling.
      *
      * @param message the message to display
-     * @param type the type of message: "success", "error", or "neutral"
+     * @param type the type of message
      */
-    private void showFeedbackMessage(String message, String type) {
-        feedbackLabel.setText(message);
-
-        // Remove existing style classes
-        feedbackLabel.getStyleClass().removeAll("feedback-success", "feedback-error", "feedback-neutral");
-
-        // Add appropriate style class
-        switch (type.toLowerCase()) {
-            case "success":
-                feedbackLabel.getStyleClass().add("feedback-success");
-                break;
-            case "error":
-                feedbackLabel.getStyleClass().add("feedback-error");
-                break;
-            default:
-                feedbackLabel.getStyleClass().add("feedback-neutral");
-                break;
-        }
+    private void showFeedbackMessage(String message, FeedbackType type) {
+        renderer.setFeedback(message, type);
     }
 
     /**
      * Ends the game voluntarily and shows statistics.
+     * Does nothing if the game is already over, such as after the time ran out.
      */
     private void endGameVoluntarily() {
-        gameActive = false;
-        if (timeline != null) {
-            timeline.stop();
+        if (!gameEngine.isActive()) {
+            return;
         }
+        stopTimers();
 
-        gameStatistics.setEndTime(LocalDateTime.now());
-        gameStatistics.setFinalLevel(currentLevel);
+        gameEngine.end();
+        saveRecording();
+        appendToHistory();
 
         // Navigate to Statistics screen
-        sceneManager.setGameStatistics(gameStatistics);
-        sceneManager.showStatisticsScreen();
+        sceneManager.setGameStatistics(gameEngine.getStatistics());
+        sceneManager.showStatisticsScreenAsync();
     }
 
     /**
      * Handles key press events on the input field.
      * Called from FXML when a key is pressed in the input field.
+     * Enter submits the input and F3 toggles the debug overlay.
      *
      * @param event the key event
      */
     @FXML
-    private void onKeyPressed(KeyEvent event) {
+    void onKeyPressed(KeyEvent event) {
         if (event.getCode() == KeyCode.ENTER) {
             validateInput();
+        } else if (event.getCode() == KeyCode.F3) {
+            toggleDebugOverlay();
         }
     }
 
@@ -424,10 +823,33 @@ public class GameController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onSubmitButtonClicked(ActionEvent event) {
+    void onSubmitButtonClicked(ActionEvent event) {
         validateInput();
     }
 
+    /**
+     * Handles live mode check box toggles.
+     * Called from FXML when the live mode check box is clicked.
+     *
+     * @param event the action event
+     */
+    @FXML
+    void onLiveModeToggled(ActionEvent event) {
+        gameEngine.setLiveValidation(liveModeCheckBox.isSelected());
+        inputTextField.requestFocus();
+    }
+
+    /**
+     * Handles pause button clicks.
+     * Called from FXML when the pause button is clicked.
+     *
+     * @param event the action event
+     */
+    @FXML
+    void onPauseButtonClicked(ActionEvent event) {
+        togglePause();
+    }
+
     /**
      * Handles restart button clicks.
      * Called from FXML when the restart button is clicked.
@@ -436,10 +858,8 @@ public class GameController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onRestartButtonClicked(ActionEvent event) {
-        if (timeline != null) {
-            timeline.stop();
-        }
+    void onRestartButtonClicked(ActionEvent event) {
+        stopTimers();
         initializeGame();
     }
 
@@ -450,7 +870,7 @@ public class GameController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onEndGameButtonClicked(ActionEvent event) {
+    void onEndGameButtonClicked(ActionEvent event) {
         endGameVoluntarily();
     }
 
@@ -461,10 +881,8 @@ public class GameController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onBackToMenuButtonClicked(ActionEvent event) {
-        if (timeline != null) {
-            timeline.stop();
-        }
+    void onBackToMenuButtonClicked(ActionEvent event) {
+        stopTimers();
         sceneManager.showMainMenuScreen();
     }
 }
\ No newline at end of file
@@ -1,7 +1,12 @@
 package com.fastwriting.controller;
 
 import com.fastwriting.model.GameStatistics;
+import com.fastwriting.model.Leaderboard;
+import com.fastwriting.model.SessionHistory;
+import com.fastwriting.model.SessionRecord;
 import com.fastwriting.util.SceneManager;
+import com.fastwriting.util.ScreenController;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -19,56 +24,70 @@ import java.util.ResourceBundle;
  * @version 1.0
  * @since 2025
  */
-public class GameOverController implements Initializable {
+public class GameOverController implements Initializable, ScreenController {
 
     /**
      * FXML label component that displays the game over title.
      * Connected to the FXML file through fx:id="gameOverLabel".
      */
     @FXML
-    private Label gameOverLabel;
+    Label gameOverLabel;
 
     /**
      * FXML label component that displays the final level reached.
      * Connected to the FXML file through fx:id="finalLevelLabel".
      */
     @FXML
-    private Label finalLevelLabel;
+    Label finalLevelLabel;
 
     /**
      * FXML label component that displays quick statistics summary.
      * Connected to the FXML file through fx:id="quickStatsLabel".
      */
     @FXML
-    private Label quickStatsLabel;
+    Label quickStatsLabel;
+
+    /**
+     * FXML label component that displays the rank of the game on the leaderboard.
+     * Connected to the FXML file through fx:id="rankLabel".
+     */
+    @FXML
+    Label rankLabel;
 
     /**
      * FXML label component that displays an encouraging message.
      * Connected to the FXML file through fx:id="encouragementLabel".
      */
     @FXML
-    private Label encouragementLabel;
+    Label encouragementLabel;
 
     /**
      * FXML button component to restart the game immediately.
      * Connected to the FXML file through fx:id="restartButton".
      */
     @FXML
-    private Button restartButton;
+    Button restartButton;
 
     /**
      * FXML button component to view detailed statistics.
      * Connected to the FXML file through fx:id="viewStatsButton".
      */
     @FXML
-    private Button viewStatsButton;
+    Button viewStatsButton;
+
+    /**
+     * FXML button component to view the leaderboard.
+     * Connected to the FXML file through fx:id="leaderboardButton".
+     */
+    @FXML
+    Button leaderboardButton;
 
     /**
      * FXML button component to return to the main menu.
      * Connected to the FXML file through fx:id="backToMenuButton".
      */
     @FXML
-    private Button backToMenuButton;
+    Button backToMenuButton;
 
     /**
      * Scene manager for navigation between windows.
@@ -90,6 +109,13 @@ public class GameOverController implements Initializable {
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         sceneManager = SceneManager.getInstance();
+    }
+
+    /**
+     * Displays the statistics of the game that just ended each time the screen is shown.
+     */
+    @Override
+    public void onShow() {
         gameStatistics = sceneManager.getGameStatistics();
 
         setupGameOverDisplay();
@@ -100,9 +126,11 @@ public class GameOverController implements Initializable {
      * Sets up the game over display with statistics and encouraging messages.
      */
     private void setupGameOverDisplay() {
+        rankLabel.setText("");
         if (gameStatistics != null) {
             displayStatistics();
             displayEncouragement();
+            displayRank();
         } else {
             displayDefaultMessages();
         }
@@ -127,6 +155,37 @@ public class GameOverController implements Initializable {
         quickStatsLabel.setText(statsText);
     }
 
+    /**
+     * Looks up the rank of the game once the session history has indexed it.
+     * The game is appended before this screen is shown, and the lookup runs after the append.
+     */
+    private void displayRank() {
+        SessionRecord record = SessionRecord.of(gameStatistics);
+        GameStatistics shown = gameStatistics;
+        SessionHistory.getDefault().getLeaderboardAsync().thenAccept(leaderboard -> Platform.runLater(() -> {
+            // Skip the result if another game ended in the meantime
+            if (shown == gameStatistics) {
+                rankLabel.setText(formatRank(leaderboard, record));
+            }
+        }));
+    }
+
+    /**
+     * Formats the rank of a game by level among all games and by speed within its difficulty category.
+     *
+     * @param leaderboard the leaderboard of the session history
+     * @param record the game
+     * @return the rank text
+     */
+    private static String formatRank(Leaderboard leaderboard, SessionRecord record) {
+        int category = leaderboard.getCategory(record);
+        return String.format("Rank #%,d of %,d by level  |  #%,d of %,d %s games by speed",
+                leaderboard.getRank(Leaderboard.Metric.LEVEL, record),
+                leaderboard.getGameCount(Leaderboard.ALL_CATEGORIES),
+                leaderboard.getCategoryRank(Leaderboard.Metric.WORDS_PER_MINUTE, record),
+                leaderboard.getGameCount(category), leaderboard.getCategoryName(category));
+    }
+
     /**
      * Displays an encouraging message based on the player's performance.
      */
@@ -173,6 +232,9 @@ public class GameOverController implements Initializable {
         finalLevelLabel.setText("Game Over");
         quickStatsLabel.setText("No statistics available");
         encouragementLabel.setText("Try again to improve your typing skills!");
+        encouragementLabel.getStyleClass().removeAll(
+                "encouragement-excellent", "encouragement-good", "encouragement-try-again"
+        );
         encouragementLabel.getStyleClass().add("encouragement-try-again");
     }
 
@@ -183,8 +245,8 @@ public class GameOverController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onRestartButtonClicked(ActionEvent event) {
-        sceneManager.showGameScreen();
+    void onRestartButtonClicked(ActionEvent event) {
+        sceneManager.showGameScreenAsync();
     }
 
     /**
@@ -194,10 +256,21 @@ public class GameOverController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onViewStatsButtonClicked(ActionEvent event) {
+    void onViewStatsButtonClicked(ActionEvent event) {
         sceneManager.showStatisticsScreen();
     }
 
+    /**
+     * Handles leaderboard button clicks to compare the game with the best ones.
+     * Called from FXML when the leaderboard button is clicked.
+     *
+     * @param event the action event
+     */
+    @FXML
+    void onLeaderboardButtonClicked(ActionEvent event) {
+        sceneManager.showLeaderboardScreen();
+    }
+
     /**
      * Handles back to menu button clicks.
      * Called from FXML when the back to menu button is clicked.
@@ -205,7 +278,7 @@ public class GameOverController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onBackToMenuButtonClicked(ActionEvent event) {
+    void onBackToMenuButtonClicked(ActionEvent event) {
         sceneManager.showMainMenuScreen();
     }
 }
\ No newline at end of file
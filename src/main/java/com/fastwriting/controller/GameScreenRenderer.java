@@ -0,0 +1,586 @@
+package com.fastwriting.controller;
+
+import com.fastwriting.model.PreparedWord;
+import com.fastwriting.monitoring.ScreenFlushEvent;
+import javafx.application.Platform;
+import javafx.css.PseudoClass;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.TextField;
+
+/**
+ * Coalesces the state changes of the game screen and applies them at most once per pulse.
+ *
+ * <p>Game logic records the latest word, timer, level, speed, feedback, progress and input state here
+ * as often as it likes; only the last value of each reaches the nodes, right before the scene's
+ * next CSS and layout pass. Visual states are toggled through {@link PseudoClass}es instead of adding and
+ * removing style classes, and the countdown and level texts are cached, so a steady stream of
+ * keystrokes and frames does not allocate strings or trigger extra CSS work.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class GameScreenRenderer {
+
+    /**
+     * Kind of feedback message, selecting its colors through a pseudo-class of the feedback label.
+     */
+    public enum FeedbackType {
+        /**
+         * Positive feedback, such as a correct answer.
+         */
+        SUCCESS("success"),
+        /**
+         * Negative feedback, such as a wrong answer or a typo.
+         */
+        ERROR("error"),
+        /**
+         * Informational feedback.
+         */
+        NEUTRAL("neutral");
+
+        /**
+         * Pseudo-class set on the feedback label while a message of this type is shown.
+         */
+        private final PseudoClass pseudoClass;
+
+        /**
+         * Creates a feedback type.
+         *
+         * @param pseudoClassName the name of its pseudo-class
+         */
+        FeedbackType(String pseudoClassName) {
+            this.pseudoClass = PseudoClass.getPseudoClass(pseudoClassName);
+        }
+    }
+
+    /**
+     * Pseudo-class of the timer label when ten seconds or less are left.
+     */
+    private static final PseudoClass WARNING = PseudoClass.getPseudoClass("warning");
+
+    /**
+     * Pseudo-class of the timer label when five seconds or less are left.
+     */
+    private static final PseudoClass DANGER = PseudoClass.getPseudoClass("danger");
+
+    /**
+     * Pseudo-class of the input field while it contains a mismatch.
+     */
+    private static final PseudoClass INPUT_ERROR = PseudoClass.getPseudoClass("error");
+
+    /**
+     * Pseudo-class of the word label while it shows a long word or short phrase.
+     */
+    private static final PseudoClass LONG_WORD = PseudoClass.getPseudoClass("long");
+
+    /**
+     * Pseudo-class of the word label while it shows a long phrase.
+     */
+    private static final PseudoClass VERY_LONG_WORD = PseudoClass.getPseudoClass("very-long");
+
+    /**
+     * Remaining seconds at or below which the timer shows the warning state.
+     */
+    private static final int WARNING_SECONDS = 10;
+
+    /**
+     * Remaining seconds at or below which the timer shows the danger state.
+     */
+    private static final int DANGER_SECONDS = 5;
+
+    /**
+     * Number of nanoseconds in a tenth of a second, the resolution of the countdown display.
+     */
+    private static final long NANOS_PER_TENTH = 100_000_000L;
+
+    /**
+     * Number of cached countdown texts, covering 0.0 to 30.0 seconds.
+     */
+    private static final int CACHED_TIMER_TEXTS = 301;
+
+    /**
+     * Number of cached level texts.
+     */
+    private static final int CACHED_LEVEL_TEXTS = 128;
+
+    /**
+     * Countdown texts by remaining tenths of a second, built on first use.
+     */
+    private static final String[] TIMER_TEXTS = new String[CACHED_TIMER_TEXTS];
+
+    /**
+     * Label showing the word or phrase to type.
+     */
+    private final Label wordLabel;
+
+    /**
+     * Label showing the remaining time.
+     */
+    private final Label timerLabel;
+
+    /**
+     * Label showing the level and difficulty category.
+     */
+    private final Label levelLabel;
+
+    /**
+     * Label showing the live typing speed.
+     */
+    private final Label speedLabel;
+
+    /**
+     * Label showing feedback messages.
+     */
+    private final Label feedbackLabel;
+
+    /**
+     * Progress bar showing the advancement through the levels.
+     */
+    private final ProgressBar progressBar;
+
+    /**
+     * Text field the player types in.
+     */
+    private final TextField inputField;
+
+    /**
+     * Label of the debug overlay.
+     */
+    private final Label debugLabel;
+
+    /**
+     * Level texts by level, built on first use.
+     */
+    private final String[] levelTexts = new String[CACHED_LEVEL_TEXTS];
+
+    /**
+     * Listener flushing the pending changes before each layout pass.
+     */
+    private final Runnable pulseListener = this::flush;
+
+    /**
+     * Scene the pulse listener is registered with, or null while detached.
+     */
+    private Scene scene;
+
+    /**
+     * Whether a pulse has been requested for the pending changes.
+     */
+    private boolean pulseRequested;
+
+    /**
+     * Word to show, or null if unchanged.
+     */
+    private PreparedWord pendingWord;
+
+    /**
+     * Remaining tenths of a second to show, or -1 if unchanged.
+     */
+    private long pendingTenths = -1;
+
+    /**
+     * Remaining tenths of a second currently shown, or -1 if not shown yet.
+     */
+    private long shownTenths = -1;
+
+    /**
+     * Level to show, or 0 if unchanged.
+     */
+    private int pendingLevel;
+
+    /**
+     * Difficulty category of the pending level.
+     */
+    private String pendingCategory;
+
+    /**
+     * Typing speed to show in words per minute, or -1 if unchanged.
+     */
+    private int pendingWordsPerMinute = -1;
+
+    /**
+     * Typing speed to show in characters per minute.
+     */
+    private int pendingCharactersPerMinute;
+
+    /**
+     * Typing speed currently shown in words per minute, or -1 if not shown yet.
+     */
+    private int shownWordsPerMinute = -1;
+
+    /**
+     * Typing speed currently shown in characters per minute.
+     */
+    private int shownCharactersPerMinute;
+
+    /**
+     * Feedback message to show, or null if unchanged.
+     */
+    private String pendingFeedback;
+
+    /**
+     * Type of the pending feedback message.
+     */
+    private FeedbackType pendingFeedbackType;
+
+    /**
+     * Type of the feedback message currently shown, or null if none.
+     */
+    private FeedbackType shownFeedbackType;
+
+    /**
+     * Progress to show, or a negative value if unchanged.
+     */
+    private double pendingProgress = -1;
+
+    /**
+     * Whether the input field should show its error state.
+     */
+    private boolean inputError;
+
+    /**
+     * Whether the input error state changed since the last flush.
+     */
+    private boolean inputErrorDirty;
+
+    /**
+     * Text of the debug overlay, or null to hide it.
+     */
+    private String debugText;
+
+    /**
+     * Whether the debug overlay changed since the last flush.
+     */
+    private boolean debugDirty;
+
+    /**
+     * Creates a renderer for the nodes of the game screen.
+     *
+     * @param wordLabel the label showing the word to type
+     * @param timerLabel the label showing the remaining time
+     * @param levelLabel the label showing the level
+     * @param speedLabel the label showing the live typing speed
+     * @param feedbackLabel the label showing feedback messages
+     * @param progressBar the level progress bar
+     * @param inputField the text field the player types in
+     * @param debugLabel the label of the debug overlay
+     */
+    public GameScreenRenderer(Label wordLabel, Label timerLabel, Label levelLabel, Label speedLabel,
+                              Label feedbackLabel, ProgressBar progressBar, TextField inputField, Label debugLabel) {
+        this.wordLabel = wordLabel;
+        this.timerLabel = timerLabel;
+        this.levelLabel = levelLabel;
+        this.speedLabel = speedLabel;
+        this.feedbackLabel = feedbackLabel;
+        this.progressBar = progressBar;
+        this.inputField = inputField;
+        this.debugLabel = debugLabel;
+    }
+
+    /**
+     * Starts flushing changes on the pulses of the given scene.
+     *
+     * @param scene the scene showing the game screen
+     */
+    public void attach(Scene scene) {
+        if (this.scene == scene) {
+            return;
+        }
+        detach();
+        this.scene = scene;
+        if (scene != null) {
+            scene.addPreLayoutPulseListener(pulseListener);
+            requestPulse();
+        }
+    }
+
+    /**
+     * Stops flushing changes on pulses. Pending changes are kept until the next flush.
+     */
+    public void detach() {
+        if (scene != null) {
+            scene.removePreLayoutPulseListener(pulseListener);
+            scene = null;
+        }
+        pulseRequested = false;
+    }
+
+    /**
+     * Records the word to type.
+     *
+     * @param word the prepared word, whose display size selects the font size
+     */
+    public void setWord(PreparedWord word) {
+        pendingWord = word;
+        requestPulse();
+    }
+
+    /**
+     * Records the remaining time of the current word.
+     *
+     * @param remainingNanos the remaining time in nanoseconds
+     */
+    public void setRemainingTime(long remainingNanos) {
+        long tenths = (remainingNanos + NANOS_PER_TENTH - 1) / NANOS_PER_TENTH;
+        if (tenths == shownTenths && pendingTenths < 0) {
+            return;
+        }
+        pendingTenths = tenths;
+        requestPulse();
+    }
+
+    /**
+     * Records the current level.
+     *
+     * @param level the current level
+     * @param category the difficulty category of the level
+     */
+    public void setLevel(int level, String category) {
+        pendingLevel = level;
+        pendingCategory = category;
+        requestPulse();
+    }
+
+    /**
+     * Records the live typing speed. Nothing is requested if the shown speed is unchanged,
+     * so this may be called every frame.
+     *
+     * @param wordsPerMinute the speed in words per minute
+     * @param charactersPerMinute the speed in characters per minute
+     */
+    public void setTypingSpeed(int wordsPerMinute, int charactersPerMinute) {
+        if (wordsPerMinute == shownWordsPerMinute && charactersPerMinute == shownCharactersPerMinute
+                && pendingWordsPerMinute < 0) {
+            return;
+        }
+        pendingWordsPerMinute = wordsPerMinute;
+        pendingCharactersPerMinute = charactersPerMinute;
+        requestPulse();
+    }
+
+    /**
+     * Records a feedback message; only the last message recorded before a pulse is shown.
+     *
+     * @param message the message to display
+     * @param type the type of the message
+     */
+    public void setFeedback(String message, FeedbackType type) {
+        pendingFeedback = message;
+        pendingFeedbackType = type;
+        requestPulse();
+    }
+
+    /**
+     * Records the level progress.
+     *
+     * @param progress the progress, from 0 to 1
+     */
+    public void setProgress(double progress) {
+        pendingProgress = progress;
+        requestPulse();
+    }
+
+    /**
+     * Records whether the input currently contains a mismatch.
+     *
+     * @param hasError true if the input is not a prefix of the word
+     */
+    public void setInputError(boolean hasError) {
+        if (hasError != inputError) {
+            inputError = hasError;
+            inputErrorDirty = true;
+            requestPulse();
+        }
+    }
+
+    /**
+     * Records the text of the debug overlay.
+     *
+     * @param text the text to show, or null to hide the overlay
+     */
+    public void setDebugText(String text) {
+        if (text == null ? debugText != null : !text.equals(debugText)) {
+            debugText = text;
+            debugDirty = true;
+            requestPulse();
+        }
+    }
+
+    /**
+     * Applies every pending change to the nodes. Called before each layout pass while attached;
+     * may also be called directly to render immediately.
+     */
+    public void flush() {
+        pulseRequested = false;
+        ScreenFlushEvent event = new ScreenFlushEvent();
+        event.begin();
+        int updates = 0;
+        boolean wordShown = pendingWord != null;
+        boolean feedbackShown = pendingFeedback != null;
+
+        if (pendingWord != null) {
+            PreparedWord.DisplaySize size = pendingWord.getDisplaySize();
+            wordLabel.setText(pendingWord.getText());
+            wordLabel.pseudoClassStateChanged(LONG_WORD, size == PreparedWord.DisplaySize.LONG);
+            wordLabel.pseudoClassStateChanged(VERY_LONG_WORD, size == PreparedWord.DisplaySize.VERY_LONG);
+            pendingWord = null;
+            updates++;
+        }
+        if (pendingTenths >= 0) {
+            if (applyTimer(pendingTenths)) {
+                updates++;
+            }
+            pendingTenths = -1;
+        }
+        if (pendingLevel > 0) {
+            levelLabel.setText(levelText(pendingLevel, pendingCategory));
+            pendingLevel = 0;
+            updates++;
+        }
+        if (pendingWordsPerMinute >= 0) {
+            if (applySpeed(pendingWordsPerMinute, pendingCharactersPerMinute)) {
+                updates++;
+            }
+            pendingWordsPerMinute = -1;
+        }
+        if (pendingFeedback != null) {
+            applyFeedback(pendingFeedback, pendingFeedbackType);
+            pendingFeedback = null;
+            updates++;
+        }
+        if (pendingProgress >= 0) {
+            progressBar.setProgress(pendingProgress);
+            pendingProgress = -1;
+            updates++;
+        }
+        if (inputErrorDirty) {
+            inputField.pseudoClassStateChanged(INPUT_ERROR, inputError);
+            inputErrorDirty = false;
+            updates++;
+        }
+        if (debugDirty) {
+            boolean shown = debugText != null;
+            if (shown) {
+                debugLabel.setText(debugText);
+            }
+            debugLabel.setVisible(shown);
+            debugLabel.setManaged(shown);
+            debugDirty = false;
+            updates++;
+        }
+        event.commit(updates, feedbackShown, wordShown);
+    }
+
+    /**
+     * Shows the remaining time and its warning state.
+     *
+     * @param tenths the remaining tenths of a second
+     * @return true if the shown time changed
+     */
+    private boolean applyTimer(long tenths) {
+        if (tenths == shownTenths) {
+            return false;
+        }
+        shownTenths = tenths;
+        timerLabel.setText(timerText(tenths));
+
+        long seconds = (tenths + 9) / 10;
+        timerLabel.pseudoClassStateChanged(DANGER, seconds <= DANGER_SECONDS);
+        timerLabel.pseudoClassStateChanged(WARNING, seconds > DANGER_SECONDS && seconds <= WARNING_SECONDS);
+        return true;
+    }
+
+    /**
+     * Shows the live typing speed.
+     *
+     * @param wordsPerMinute the speed in words per minute
+     * @param charactersPerMinute the speed in characters per minute
+     * @return true if the shown speed changed
+     */
+    private boolean applySpeed(int wordsPerMinute, int charactersPerMinute) {
+        if (wordsPerMinute == shownWordsPerMinute && charactersPerMinute == shownCharactersPerMinute) {
+            return false;
+        }
+        shownWordsPerMinute = wordsPerMinute;
+        shownCharactersPerMinute = charactersPerMinute;
+        speedLabel.setText("Speed: " + wordsPerMinute + " WPM · " + charactersPerMinute + " CPM");
+        return true;
+    }
+
+    /**
+     * Shows a feedback message and switches the pseudo-class of its type.
+     *
+     * @param message the message to display
+     * @param type the type of the message
+     */
+    private void applyFeedback(String message, FeedbackType type) {
+        feedbackLabel.setText(message);
+        if (type != shownFeedbackType) {
+            if (shownFeedbackType != null) {
+                feedbackLabel.pseudoClassStateChanged(shownFeedbackType.pseudoClass, false);
+            }
+            feedbackLabel.pseudoClassStateChanged(type.pseudoClass, true);
+            shownFeedbackType = type;
+        }
+    }
+
+    /**
+     * Gets the countdown text for a remaining time, from the cache when possible.
+     *
+     * @param tenths the remaining tenths of a second
+     * @return the text of the timer label
+     */
+    private static String timerText(long tenths) {
+        if (tenths >= CACHED_TIMER_TEXTS) {
+            return formatTimer(tenths);
+        }
+        String text = TIMER_TEXTS[(int) tenths];
+        if (text == null) {
+            text = formatTimer(tenths);
+            TIMER_TEXTS[(int) tenths] = text;
+        }
+        return text;
+    }
+
+    /**
+     * Formats a remaining time for the timer label.
+     *
+     * @param tenths the remaining tenths of a second
+     * @return the text of the timer label
+     */
+    private static String formatTimer(long tenths) {
+        return "Time: " + tenths / 10 + "." + tenths % 10 + "s";
+    }
+
+    /**
+     * Gets the text of the level label, from the cache when possible.
+     *
+     * @param level the level
+     * @param category the difficulty category of the level
+     * @return the text of the level label
+     */
+    private String levelText(int level, String category) {
+        if (level >= CACHED_LEVEL_TEXTS) {
+            return "Level: " + level + " (" + category + ")";
+        }
+        String text = levelTexts[level];
+        if (text == null) {
+            text = "Level: " + level + " (" + category + ")";
+            levelTexts[level] = text;
+        }
+        return text;
+    }
+
+    /**
+     * Makes sure a pulse, and with it a flush, happens soon.
+     */
+    private void requestPulse() {
+        if (!pulseRequested && scene != null) {
+            pulseRequested = true;
+            Platform.requestNextPulse();
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.fastwriting.controller;
+
+import com.fastwriting.model.Leaderboard;
+import com.fastwriting.model.SessionHistory;
+import com.fastwriting.model.SessionRecord;
+import com.fastwriting.model.WordTimings;
+import com.fastwriting.util.SceneManager;
+import com.fastwriting.util.ScreenController;
+import javafx.application.Platform;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+
+import java.net.URL;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.ResourceBundle;
+
+/**
+ * Controller class for the leaderboard interface.
+ * Shows the best games of the session history by level, speed or accuracy,
+ * over all games or within one difficulty category.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class LeaderboardController implements Initializable, ScreenController {
+
+    /**
+     * Format of the date of each game in the list.
+     */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /**
+     * Style class marking the selected metric and category buttons.
+     */
+    private static final String SELECTED_STYLE = "leaderboard-filter-selected";
+
+    /**
+     * FXML label component that displays the number of games in the history.
+     * Connected to the FXML file through fx:id="summaryLabel".
+     */
+    @FXML
+    Label summaryLabel;
+
+    /**
+     * FXML label component that lists the best games.
+     * Connected to the FXML file through fx:id="entriesLabel".
+     */
+    @FXML
+    Label entriesLabel;
+
+    /**
+     * FXML button component to rank by final level.
+     * Connected to the FXML file through fx:id="levelButton".
+     */
+    @FXML
+    Button levelButton;
+
+    /**
+     * FXML button component to rank by typing speed.
+     * Connected to the FXML file through fx:id="speedButton".
+     */
+    @FXML
+    Button speedButton;
+
+    /**
+     * FXML button component to rank by accuracy.
+     * Connected to the FXML file through fx:id="accuracyButton".
+     */
+    @FXML
+    Button accuracyButton;
+
+    /**
+     * FXML button component to show all games.
+     * Connected to the FXML file through fx:id="allCategoriesButton".
+     */
+    @FXML
+    Button allCategoriesButton;
+
+    /**
+     * FXML button component to show games ending in the Easy category.
+     * Connected to the FXML file through fx:id="easyButton".
+     */
+    @FXML
+    Button easyButton;
+
+    /**
+     * FXML button component to show games ending in the Medium category.
+     * Connected to the FXML file through fx:id="mediumButton".
+     */
+    @FXML
+    Button mediumButton;
+
+    /**
+     * FXML button component to show games ending in the Hard category.
+     * Connected to the FXML file through fx:id="hardButton".
+     */
+    @FXML
+    Button hardButton;
+
+    /**
+     * FXML button component to show games ending in the Expert category.
+     * Connected to the FXML file through fx:id="expertButton".
+     */
+    @FXML
+    Button expertButton;
+
+    /**
+     * FXML button component to show games ending in the Master category.
+     * Connected to the FXML file through fx:id="masterButton".
+     */
+    @FXML
+    Button masterButton;
+
+    /**
+     * FXML button component to show games ending in the Legendary category.
+     * Connected to the FXML file through fx:id="legendaryButton".
+     */
+    @FXML
+    Button legendaryButton;
+
+    /**
+     * FXML button component to start a new game.
+     * Connected to the FXML file through fx:id="playButton".
+     */
+    @FXML
+    Button playButton;
+
+    /**
+     * FXML button component to return to the main menu.
+     * Connected to the FXML file through fx:id="backToMenuButton".
+     */
+    @FXML
+    Button backToMenuButton;
+
+    /**
+     * Scene manager for navigation between windows.
+     */
+    private SceneManager sceneManager;
+
+    /**
+     * Metric buttons, in the order of {@link Leaderboard.Metric}.
+     */
+    private Button[] metricButtons;
+
+    /**
+     * Category buttons: all games first, then one per difficulty category.
+     */
+    private Button[] categoryButtons;
+
+    /**
+     * Leaderboard of the session history, or null while it is loading.
+     */
+    private Leaderboard leaderboard;
+
+    /**
+     * Word timings of every game of the session history, or null while they are loading.
+     */
+    private WordTimings wordTimings;
+
+    /**
+     * Metric the games are ranked by.
+     */
+    private Leaderboard.Metric metric = Leaderboard.Metric.LEVEL;
+
+    /**
+     * Category shown, or {@link Leaderboard#ALL_CATEGORIES}.
+     */
+    private int category = Leaderboard.ALL_CATEGORIES;
+
+    /**
+     * Initializes the controller class. This method is automatically called
+     * after the FXML file has been loaded.
+     *
+     * @param location  the location used to resolve relative paths for the root object
+     * @param resources the resources used to localize the root object
+     */
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        sceneManager = SceneManager.getInstance();
+        metricButtons = new Button[] {levelButton, speedButton, accuracyButton};
+        categoryButtons = new Button[] {allCategoriesButton, easyButton, mediumButton, hardButton,
+                expertButton, masterButton, legendaryButton};
+    }
+
+    /**
+     * Loads the leaderboard each time the screen is shown; it is only built from the history once.
+     */
+    @Override
+    public void onShow() {
+        leaderboard = null;
+        wordTimings = null;
+        summaryLabel.setText("Loading history...");
+        entriesLabel.setText("");
+        updateSelection();
+        SessionHistory history = SessionHistory.getDefault();
+        history.getLeaderboardAsync().thenCombine(history.getWordTimingsAsync(), (loaded, timings) -> {
+            Platform.runLater(() -> {
+                leaderboard = loaded;
+                wordTimings = timings;
+                displayEntries();
+            });
+            return null;
+        });
+    }
+
+    /**
+     * Lists the best games for the selected metric and category.
+     */
+    private void displayEntries() {
+        updateSelection();
+        if (leaderboard == null) {
+            return;
+        }
+        long games = leaderboard.getGameCount(Leaderboard.ALL_CATEGORIES);
+        String summary = String.format("%,d %s played", games, games == 1 ? "game" : "games");
+        if (wordTimings.getWordCount() > 0) {
+            summary += "  |  typical word: " + wordTimings.formatTypicalWord();
+        }
+        summaryLabel.setText(summary);
+
+        List<SessionRecord> top = leaderboard.getTop(metric, category);
+        if (top.isEmpty()) {
+            entriesLabel.setText(games == 0 ? "No games played yet. Finish a game to get on the board!"
+                    : "No games ended in this category yet.");
+            return;
+        }
+        StringBuilder entries = new StringBuilder(String.format("%-4s %-10s %10s %9s %-9s %16s",
+                "#", "Level", "Speed", "Accuracy", "Category", "Played"));
+        int rank = 1;
+        for (SessionRecord record : top) {
+            entries.append(String.format("%n%-4d %-10s %10s %9s %-9s %16s", rank++,
+                    Leaderboard.Metric.LEVEL.format(record.getFinalLevel()),
+                    Leaderboard.Metric.WORDS_PER_MINUTE.format(record.getWordsPerMinute()),
+                    Leaderboard.Metric.ACCURACY.format(record.getAccuracyPercentage()),
+                    leaderboard.getCategoryName(leaderboard.getCategory(record)),
+                    record.getStartTime().format(DATE_FORMAT)));
+        }
+        entriesLabel.setText(entries.toString());
+    }
+
+    /**
+     * Marks the buttons of the selected metric and category.
+     */
+    private void updateSelection() {
+        for (Button button : metricButtons) {
+            button.getStyleClass().remove(SELECTED_STYLE);
+        }
+        for (Button button : categoryButtons) {
+            button.getStyleClass().remove(SELECTED_STYLE);
+        }
+        metricButtons[metric.ordinal()].getStyleClass().add(SELECTED_STYLE);
+        categoryButtons[category + 1].getStyleClass().add(SELECTED_STYLE);
+    }
+
+    /**
+     * Handles metric button clicks to rank the games by another score.
+     * Called from FXML when a metric button is clicked.
+     *
+     * @param event the action event
+     */
+    @FXML
+    void onMetricButtonClicked(ActionEvent event) {
+        for (int i = 0; i < metricButtons.length; i++) {
+            if (metricButtons[i] == event.getSource()) {
+                metric = Leaderboard.Metric.values()[i];
+            }
+        }
+        displayEntries();
+    }
+
+    /**
+     * Handles category button clicks to show the games of another difficulty category.
+     * Called from FXML when a category button is clicked.
+     *
+     * @param event the action event
+     */
+    @FXML
+    void onCategoryButtonClicked(ActionEvent event) {
+        for (int i = 0; i < categoryButtons.length; i++) {
+            if (categoryButtons[i] == event.getSource()) {
+                category = i - 1;
+            }
+        }
+        displayEntries();
+    }
+
+    /**
+     * Handles play button clicks to start a new game.
+     * Called from FXML when the play button is clicked.
+     *
+     * @param event the action event
+     */
+    @FXML
+    void onPlayButtonClicked(ActionEvent event) {
+        sceneManager.setGameStatistics(null);
+        sceneManager.showGameScreenAsync();
+    }
+
+    /**
+     * Handles back to menu button clicks.
+     * Called from FXML when the back to menu button is clicked.
+     *
+     * @param event the action event
+     */
+    @FXML
+    void onBackToMenuButtonClicked(ActionEvent event) {
+        sceneManager.showMainMenuScreen();
+    }
+}
@@ -1,6 +1,8 @@
 package com.fastwriting.controller;
 
 import com.fastwriting.util.SceneManager;
+import com.fastwriting.util.ScreenController;
+import com.fastwriting.util.StartupTimer;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -19,35 +21,49 @@ import java.util.ResourceBundle;
  * @version 1.0
  * @since 2025
  */
-public class MenuController implements Initializable {
+public class MenuController implements Initializable, ScreenController {
 
     /**
      * FXML button component to start a new game.
      * Connected to the FXML file through fx:id="playButton".
      */
     @FXML
-    private Button playButton;
+    Button playButton;
+
+    /**
+     * FXML button component to start today's shared challenge.
+     * Connected to the FXML file through fx:id="dailyChallengeButton".
+     */
+    @FXML
+    Button dailyChallengeButton;
 
     /**
      * FXML button component to view game rules.
      * Connected to the FXML file through fx:id="rulesButton".
      */
     @FXML
-    private Button rulesButton;
+    Button rulesButton;
+
+    /**
+     * FXML button component to view the leaderboard.
+     * Connected to the FXML file through fx:id="leaderboardButton".
+     */
+    @FXML
+    Button leaderboardButton;
 
     /**
      * FXML button component to exit the application.
      * Connected to the FXML file through fx:id="exitButton".
      */
     @FXML
-    private Button exitButton;
+    Button exitButton;
 
     /**
      * FXML label component that displays the welcome message.
      * Connected to the FXML file through fx:id="welcomeLabel".
      */
     @FXML
-    private Label welcomeLabel;
+    Label welcomeLabel;
 
     /**
      * Scene manager for navigation between windows.
@@ -67,6 +83,14 @@ public class MenuController implements Initializable {
         setupWelcomeMessage();
     }
 
+    /**
+     * Measures application startup the first time the menu is shown.
+     */
+    @Override
+    public void onShow() {
+        StartupTimer.recordFirstFrame(welcomeLabel.getScene());
+    }
+
     /**
      * Sets up the welcome message and any initial UI configurations.
      */
@@ -81,10 +105,32 @@ public class MenuController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onPlayButtonClicked(ActionEvent event) {
+    void onPlayButtonClicked(ActionEvent event) {
         sceneManager.showGameScreen();
     }
 
+    /**
+     * Handles daily challenge button clicks to start today's shared challenge.
+     * Called from FXML when the daily challenge button is clicked.
+     *
+     * @param event the action event
+     */
+    @FXML
+    void onDailyChallengeButtonClicked(ActionEvent event) {
+        sceneManager.showDailyChallengeScreen();
+    }
+
+    /**
+     * Handles leaderboard button clicks to view the best games played.
+     * Called from FXML when the leaderboard button is clicked.
+     *
+     * @param event the action event
+     */
+    @FXML
+    void onLeaderboardButtonClicked(ActionEvent event) {
+        sceneManager.showLeaderboardScreen();
+    }
+
     /**
      * Handles rules button clicks to view game instructions.
      * Called from FXML when the rules button is clicked.
@@ -92,7 +138,7 @@ public class MenuController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onRulesButtonClicked(ActionEvent event) {
+    void onRulesButtonClicked(ActionEvent event) {
         sceneManager.showRulesScreen();
     }
 
@@ -103,7 +149,7 @@ public class MenuController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onExitButtonClicked(ActionEvent event) {
+    void onExitButtonClicked(ActionEvent event) {
         Platform.exit();
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.fastwriting.controller;
+
+import com.fastwriting.model.SessionRecording;
+
+/**
+ * Feeds the events of a {@link SessionRecording} to the game screen as their recorded times come up.
+ * The events are decoded once up front so that each frame only compares offsets.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class ReplayDriver {
+
+    /**
+     * Type of each event.
+     */
+    private final SessionRecording.EventType[] types;
+
+    /**
+     * Offset of each event from the start of the game, in nanoseconds.
+     */
+    private final long[] offsets;
+
+    /**
+     * Text of each event, or null.
+     */
+    private final String[] texts;
+
+    /**
+     * Count of each event.
+     */
+    private final int[] counts;
+
+    /**
+     * Index of the next event to apply.
+     */
+    private int next;
+
+    /**
+     * Clock time the replayed game started at.
+     */
+    private long startNanoTime;
+
+    /**
+     * Decodes the events of a recording.
+     *
+     * @param recording the recording to replay
+     */
+    public ReplayDriver(SessionRecording recording) {
+        int eventCount = recording.getEventCount();
+        types = new SessionRecording.EventType[eventCount];
+        offsets = new long[eventCount];
+        texts = new String[eventCount];
+        counts = new int[eventCount];
+        int[] index = {0};
+        recording.forEach((type, offsetNanos, text, count) -> {
+            types[index[0]] = type;
+            offsets[index[0]] = offsetNanos;
+            texts[index[0]] = text;
+            counts[index[0]] = count;
+            index[0]++;
+        });
+    }
+
+    /**
+     * Restarts the replay from the first event.
+     *
+     * @param startNanoTime the clock time the replayed game starts at
+     */
+    public void start(long startNanoTime) {
+        this.startNanoTime = startNanoTime;
+        this.next = 0;
+    }
+
+    /**
+     * Applies every event whose time has come, oldest first.
+     *
+     * @param nanoTime the current clock time
+     * @param visitor the receiver of the due events
+     */
+    public void applyDue(long nanoTime, SessionRecording.EventVisitor visitor) {
+        long elapsed = nanoTime - startNanoTime;
+        while (next < types.length && offsets[next] <= elapsed) {
+            int event = next++;
+            visitor.visit(types[event], offsets[event], texts[event], counts[event]);
+        }
+    }
+
+    /**
+     * Checks whether every event has been applied.
+     *
+     * @return true if the replay is over
+     */
+    public boolean isFinished() {
+        return next >= types.length;
+    }
+}
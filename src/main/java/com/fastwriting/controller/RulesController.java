@@ -1,6 +1,7 @@
 package com.fastwriting.controller;
 
 import com.fastwriting.util.SceneManager;
+import com.fastwriting.util.ScreenController;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -19,35 +20,35 @@ import java.util.ResourceBundle;
  * @version 1.0
  * @since 2025
  */
-public class RulesController implements Initializable {
+public class RulesController implements Initializable, ScreenController {
 
     /**
      * FXML text area component that displays the game rules and instructions.
      * Connected to the FXML file through fx:id="rulesTextArea".
      */
     @FXML
-    private TextArea rulesTextArea;
+    TextArea rulesTextArea;
 
     /**
      * FXML scroll pane component that allows scrolling through the rules text.
      * Connected to the FXML file through fx:id="rulesScrollPane".
      */
     @FXML
-    private ScrollPane rulesScrollPane;
+    ScrollPane rulesScrollPane;
 
     /**
      * FXML button component to return to the main menu.
      * Connected to the FXML file through fx:id="backToMenuButton".
      */
     @FXML
-    private Button backToMenuButton;
+    Button backToMenuButton;
 
     /**
      * FXML button component to start playing the game directly.
      * Connected to the FXML file through fx:id="startGameButton".
      */
     @FXML
-    private Button startGameButton;
+    Button startGameButton;
 
     /**
      * Scene manager for navigation between windows.
@@ -99,6 +100,8 @@ public class RulesController implements Initializable {
                             2. Type it exactly as shown (case-sensitive!)
                             3. Press ENTER or click Submit when done
                             4. Must be completed before timer reaches zero
+                            5. In Live mode the word is accepted the moment it is typed correctly,
+                               and the first typo is pointed out as you type
                            \s
                             SCORING SYSTEM:
                             • Correct answer: Advance to next level
@@ -108,6 +111,7 @@ public class RulesController implements Initializable {
                             CONTROLS:
                             • Type in the text field
                             • ENTER key or Submit button to confirm
+                            • Pause button to freeze the timer, Resume to continue
                             • Restart button to start over
                             • End Game button to finish and view stats
                            \s
@@ -152,8 +156,13 @@ public class RulesController implements Initializable {
 
         // Set focus to the scroll pane for keyboard navigation
         rulesScrollPane.setFitToWidth(true);
+    }
 
-        // Ensure buttons are properly styled
+    /**
+     * Focuses the back to menu button each time the rules screen is shown.
+     */
+    @Override
+    public void onShow() {
         backToMenuButton.requestFocus();
     }
 
@@ -164,7 +173,7 @@ public class RulesController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onBackToMenuButtonClicked(ActionEvent event) {
+    void onBackToMenuButtonClicked(ActionEvent event) {
         sceneManager.showMainMenuScreen();
     }
 
@@ -175,7 +184,7 @@ public class RulesController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onStartGameButtonClicked(ActionEvent event) {
+    void onStartGameButtonClicked(ActionEvent event) {
         sceneManager.showGameScreen();
     }
 }
\ No newline at end of file
@@ -1,7 +1,12 @@
 package com.fastwriting.controller;
 
 import com.fastwriting.model.GameStatistics;
+import com.fastwriting.model.SessionHistory;
+import com.fastwriting.model.WordTimings;
+import com.fastwriting.monitoring.LatencyHistogram;
 import com.fastwriting.util.SceneManager;
+import com.fastwriting.util.ScreenController;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -21,91 +26,126 @@ import java.util.ResourceBundle;
  * @version 1.0
  * @since 2024
  */
-public class StatisticsController implements Initializable {
+public class StatisticsController implements Initializable, ScreenController {
 
     /**
      * FXML label component that displays the final level reached.
      * Connected to the FXML file through fx:id="finalLevelLabel".
      */
     @FXML
-    private Label finalLevelLabel;
+    Label finalLevelLabel;
 
     /**
      * FXML label component that displays the total words attempted.
      * Connected to the FXML file through fx:id="wordsAttemptedLabel".
      */
     @FXML
-    private Label wordsAttemptedLabel;
+    Label wordsAttemptedLabel;
 
     /**
      * FXML label component that displays the number of correct words.
      * Connected to the FXML file through fx:id="correctWordsLabel".
      */
     @FXML
-    private Label correctWordsLabel;
+    Label correctWordsLabel;
 
     /**
      * FXML label component that displays the number of incorrect words.
      * Connected to the FXML file through fx:id="incorrectWordsLabel".
      */
     @FXML
-    private Label incorrectWordsLabel;
+    Label incorrectWordsLabel;
 
     /**
      * FXML label component that displays the accuracy percentage.
      * Connected to the FXML file through fx:id="accuracyLabel".
      */
     @FXML
-    private Label accuracyLabel;
+    Label accuracyLabel;
 
     /**
      * FXML label component that displays the typing speed in WPM.
      * Connected to the FXML file through fx:id="wpmLabel".
      */
     @FXML
-    private Label wpmLabel;
+    Label wpmLabel;
 
     /**
      * FXML label component that displays the performance rating.
      * Connected to the FXML file through fx:id="performanceRatingLabel".
      */
     @FXML
-    private Label performanceRatingLabel;
+    Label performanceRatingLabel;
 
     /**
      * FXML label component that displays the session duration.
      * Connected to the FXML file through fx:id="sessionDurationLabel".
      */
     @FXML
-    private Label sessionDurationLabel;
+    Label sessionDurationLabel;
 
     /**
      * FXML label component that displays the session start time.
      * Connected to the FXML file through fx:id="startTimeLabel".
      */
     @FXML
-    private Label startTimeLabel;
+    Label startTimeLabel;
+
+    /**
+     * FXML label component that displays the median, 99th percentile and maximum key-to-glyph latency.
+     * Connected to the FXML file through fx:id="inputLatencyLabel".
+     */
+    @FXML
+    Label inputLatencyLabel;
+
+    /**
+     * FXML label component that displays the number of games in the session history.
+     * Connected to the FXML file through fx:id="gamesPlayedLabel".
+     */
+    @FXML
+    Label gamesPlayedLabel;
+
+    /**
+     * FXML label component that displays the best level in the session history.
+     * Connected to the FXML file through fx:id="bestLevelLabel".
+     */
+    @FXML
+    Label bestLevelLabel;
+
+    /**
+     * FXML label component that displays the median and 90th percentile time to complete a word.
+     * Connected to the FXML file through fx:id="wordTimeLabel".
+     */
+    @FXML
+    Label wordTimeLabel;
+
+    /**
+     * FXML label component that displays the median and 10th percentile speed of single words.
+     * Connected to the FXML file through fx:id="wordSpeedLabel".
+     */
+    @FXML
+    Label wordSpeedLabel;
 
     /**
      * FXML progress bar component that shows accuracy visually.
      * Connected to the FXML file through fx:id="accuracyProgressBar".
      */
     @FXML
-    private ProgressBar accuracyProgressBar;
+    ProgressBar accuracyProgressBar;
 
     /**
      * FXML button component to start a new game.
      * Connected to the FXML file through fx:id="playAgainButton".
      */
     @FXML
-    private Button playAgainButton;
+    Button playAgainButton;
 
     /**
      * FXML button component to return to the main menu.
      * Connected to the FXML file through fx:id="backToMenuButton".
      */
     @FXML
-    private Button backToMenuButton;
+    Button backToMenuButton;
 
     /**
      * Scene manager for navigation between windows.
@@ -127,6 +167,13 @@ public class StatisticsController implements Initializable {
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         sceneManager = SceneManager.getInstance();
+    }
+
+    /**
+     * Displays the latest game statistics each time the screen is shown.
+     */
+    @Override
+    public void onShow() {
         gameStatistics = sceneManager.getGameStatistics();
 
         if (gameStatistics != null) {
@@ -134,6 +181,22 @@ public class StatisticsController implements Initializable {
         } else {
             displayEmptyStatistics();
         }
+
+        // Load the history in the background; it already includes the game that just ended
+        gamesPlayedLabel.setText("...");
+        bestLevelLabel.setText("...");
+        SessionHistory.getDefault().getTotalsAsync()
+                .thenAccept(totals -> Platform.runLater(() -> displayHistory(totals)));
+    }
+
+    /**
+     * Displays the totals of the session history.
+     *
+     * @param totals the number of games and best level of the history
+     */
+    private void displayHistory(SessionHistory.Totals totals) {
+        gamesPlayedLabel.setText(String.valueOf(totals.getGameCount()));
+        bestLevelLabel.setText(totals.getGameCount() == 0 ? "--" : "Level " + totals.getBestLevel());
     }
 
     /**
@@ -162,6 +225,19 @@ public class StatisticsController implements Initializable {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss");
         startTimeLabel.setText(gameStatistics.getStartTime().format(formatter));
 
+        LatencyHistogram inputLatency = gameStatistics.getInputLatency();
+        inputLatencyLabel.setText(inputLatency.getCount() > 0 ? inputLatency.formatSummary() : "--");
+
+        // Percentiles of single words, without the pauses between words that the average speed includes
+        WordTimings wordTimings = gameStatistics.getWordTimings();
+        if (wordTimings.getWordCount() > 0) {
+            wordTimeLabel.setText(wordTimings.formatCompletionTime());
+            wordSpeedLabel.setText(wordTimings.formatSpeed());
+        } else {
+            wordTimeLabel.setText("--");
+            wordSpeedLabel.setText("--");
+        }
+
         // Style the performance rating based on level
         stylePerformanceRating();
     }
@@ -179,7 +255,11 @@ public class StatisticsController implements Initializable {
         performanceRatingLabel.setText("No Game Played");
         sessionDurationLabel.setText("0:00");
         startTimeLabel.setText("--:--:--");
+        inputLatencyLabel.setText("--");
+        wordTimeLabel.setText("--");
+        wordSpeedLabel.setText("--");
         accuracyProgressBar.setProgress(0);
+        clearPerformanceRatingStyle();
     }
 
     /**
@@ -189,10 +269,7 @@ public class StatisticsController implements Initializable {
         if (gameStatistics == null) return;
 
         // Remove existing style classes
-        performanceRatingLabel.getStyleClass().removeAll(
-                "rating-beginner", "rating-intermediate", "rating-advanced",
-                "rating-expert", "rating-master", "rating-legendary"
-        );
+        clearPerformanceRatingStyle();
 
         int level = gameStatistics.getFinalLevel();
         if (level >= 50) {
@@ -210,6 +287,16 @@ public class StatisticsController implements Initializable {
         }
     }
 
+    /**
+     * Removes any rating style class from the performance rating label.
+     */
+    private void clearPerformanceRatingStyle() {
+        performanceRatingLabel.getStyleClass().removeAll(
+                "rating-beginner", "rating-intermediate", "rating-advanced",
+                "rating-expert", "rating-master", "rating-legendary"
+        );
+    }
+
     /**
      * Handles play again button clicks to start a new game from level 1.
      * Called from FXML when the play again button is clicked.
@@ -217,10 +304,10 @@ public class StatisticsController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onPlayAgainButtonClicked(ActionEvent event) {
+    void onPlayAgainButtonClicked(ActionEvent event) {
         // Clear the current game statistics to ensure fresh start from level 1
         sceneManager.setGameStatistics(null);
-        sceneManager.showGameScreen();
+        sceneManager.showGameScreenAsync();
     }
 
     /**
@@ -230,7 +317,7 @@ public class StatisticsController implements Initializable {
      * @param event the action event
      */
     @FXML
-    private void onBackToMenuButtonClicked(ActionEvent event) {
+    void onBackToMenuButtonClicked(ActionEvent event) {
         // Clear the current game statistics when going back to menu
         sceneManager.setGameStatistics(null);
         sceneManager.showMainMenuScreen();
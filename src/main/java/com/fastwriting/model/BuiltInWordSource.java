@@ -0,0 +1,180 @@
+package com.fastwriting.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Word source serving one of the built-in word lists of the game.
+ * The list of a tier is only built the first time that tier is used.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class BuiltInWordSource extends LazyWordSource {
+
+    /**
+     * The tier index of the built-in list served by this source, from 0 (easy words) to 5 (complex phrases).
+     */
+    private final int tier;
+
+    /**
+     * Creates a source for one of the built-in tiers. The list is not built until first use.
+     *
+     * @param tier the tier index, from 0 (easy words) to 5 (complex phrases)
+     */
+    public BuiltInWordSource(int tier) {
+        if (tier < 0 || tier > 5) {
+            throw new IllegalArgumentException("Unknown built-in tier: " + tier);
+        }
+        this.tier = tier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<String> load() {
+        switch (tier) {
+            case 0:
+                return easyWords();
+            case 1:
+                return mediumWords();
+            case 2:
+                return hardWords();
+            case 3:
+                return expertWords();
+            case 4:
+                return shortPhrases();
+            default:
+                return complexPhrases();
+        }
+    }
+
+    /**
+     * Builds the list of easy words for beginner levels (1-10).
+     *
+     * @return the built-in list
+     */
+    private static List<String> easyWords() {
+        return Arrays.asList(
+                "cat", "dog", "sun", "moon", "book", "tree", "car", "home", "love", "life",
+                "time", "water", "fire", "earth", "music", "dance", "smile", "happy", "peace", "light",
+                "blue", "green", "house", "phone", "work", "play", "food", "hand", "face", "door",
+                "window", "chair", "table", "paper", "money", "world", "school", "friend", "family", "heart"
+        );
+    }
+
+    /**
+     * Builds the list of medium difficulty words for intermediate levels (11-20).
+     *
+     * @return the built-in list
+     */
+    private static List<String> mediumWords() {
+        return Arrays.asList(
+                "computer", "keyboard", "programming", "development", "technology", "innovation",
+                "creativity", "challenge", "adventure", "discovery", "knowledge", "education",
+                "communication", "friendship", "beautiful", "wonderful", "amazing", "fantastic",
+                "incredible", "extraordinary", "magnificent", "spectacular", "brilliant", "excellent",
+                "important", "different", "interesting", "experience", "environment", "government",
+                "information", "organization", "performance", "opportunity", "community", "application",
+                "management", "relationship", "understanding", "responsibility", "international", "professional"
+        );
+    }
+
+    /**
+     * Builds the list of hard words for advanced levels (21-30).
+     *
+     * @return the built-in list
+     */
+    private static List<String> hardWords() {
+        return Arrays.asList(
+                "sophisticated", "unprecedented", "extraordinary", "incomprehensible", "revolutionary",
+                "philosophical", "psychological", "technological", "entrepreneurial", "constitutional",
+                "interdisciplinary", "multidimensional", "internationally", "environmentally",
+                "characteristically", "uncharacteristically", "disproportionately", "overwhelmingly",
+                "indistinguishable", "incontrovertible", "straightforwardness", "counterproductive",
+                "incompatibility", "misunderstanding", "disappointment", "accomplishment", "establishment",
+                "entertainment", "advertisement", "recommendation", "transformation", "investigation",
+                "collaboration", "concentration", "demonstration", "experimentation", "implementation",
+                "communication", "transportation", "administration", "rehabilitation", "representation"
+        );
+    }
+
+    /**
+     * Builds the list of expert words for challenging levels (31-40).
+     *
+     * @return the built-in list
+     */
+    private static List<String> expertWords() {
+        return Arrays.asList(
+                "antidisestablishmentarianism", "floccinaucinihilipilification", "pneumonoultramicroscopicsilicovolcanoconiosiss",
+                "supercalifragilisticexpialidocious", "hippopotomonstrosesquippedaliophobia", "pseudopseudohypoparathyroidism",
+                "incomprehensibilities", "immunoelectrophoresis", "psychopharmacologically", "radioimmunoelectrophoresis",
+                "tetraiodophenolphthalein", "hepaticocholangiocholecystenterostomies", "spectrophotometrically", "electroencephalograph",
+                "esophagogastroduodenoscopy", "electrocardiographically", "immunoelectrophoretically", "psychoneuroendocrinology",
+                "pneumoencephalographically", "electroretinographically", "magnetohydrodynamically", "crystallographically",
+                "electroencephalographically"
+        );
+    }
+
+    /**
+     * Builds the list of short phrases for high-level gameplay (41-50).
+     *
+     * @return the built-in list
+     */
+    private static List<String> shortPhrases() {
+        return Arrays.asList(
+                "The quick brown fox jumps over the lazy dog.",
+                "To be or not to be, that is the question.",
+                "A journey of a thousand miles begins with a single step.",
+                "The only thing we have to fear is fear itself.",
+                "Ask not what your country can do for you.",
+                "I have a dream that one day this nation will rise up.",
+                "That's one small step for man, one giant leap for mankind.",
+                "The way to get started is to quit talking and begin doing.",
+                "Life is what happens to you while you're busy making other plans.",
+                "The future belongs to those who believe in the beauty of their dreams.",
+                "It is during our darkest moments that we must focus to see the light.",
+                "Success is not final, failure is not fatal: it is the courage to continue.",
+                "The greatest glory in living lies not in never falling, but in rising every time we fall.",
+                "In the end, we will remember not the words of our enemies, but the silence of our friends.",
+                "Darkness cannot drive out darkness: only light can do that. Hate cannot drive out hate: only love can do that.",
+                "Be yourself; everyone else is already taken.",
+                "Two things are infinite: the universe and human stupidity; and I'm not sure about the universe.",
+                "A room without books is like a body without a soul.",
+                "You only live once, but if you do it right, once is enough.",
+                "If you want to know what a man's like, take a good look at how he treats his inferiors, not his equals."
+        );
+    }
+
+    /**
+     * Builds the list of complex phrases for master levels (51+).
+     *
+     * @return the built-in list
+     */
+    private static List<String> complexPhrases() {
+        return Arrays.asList(
+                "Programming is the art of telling another human what one wants the computer to do.",
+                "Innovation distinguishes between a leader and a follower in today's competitive marketplace.",
+                "The complexity of modern software development requires a deep understanding of multiple programming paradigms.",
+                "Artificial intelligence and machine learning are revolutionizing the way we approach problem-solving in various industries.",
+                "The implementation of advanced algorithms requires both theoretical knowledge and practical programming experience.",
+                "Object-oriented programming principles such as encapsulation, inheritance, and polymorphism form the foundation of modern software design.",
+                "Database management systems play a crucial role in storing, retrieving, and managing large amounts of structured and unstructured data.",
+                "User interface design must balance functionality with aesthetics to create engaging and intuitive user experiences.",
+                "Software testing methodologies including unit testing, integration testing, and system testing ensure the reliability and quality of applications.",
+                "The emergence of cloud computing has transformed the way organizations deploy, scale, and maintain their software infrastructure.",
+                "Cybersecurity threats continue to evolve, requiring constant vigilance and advanced security measures to protect sensitive information.",
+                "Agile development methodologies emphasize iterative development, collaboration, and adaptability to changing requirements throughout the project lifecycle.",
+                "Data structures and algorithms form the fundamental building blocks of efficient and scalable software solutions.",
+                "The Internet of Things (IoT) connects everyday objects to the internet, enabling smart homes, cities, and industrial automation.",
+                "Version control systems like Git enable teams of developers to collaborate effectively on large-scale software projects.",
+                "Microservices architecture breaks down monolithic applications into smaller, independently deployable services for improved scalability and maintainability.",
+                "Responsive web design ensures that websites and applications provide optimal viewing experiences across a wide range of devices and screen sizes.",
+                "Big data analytics involves processing and analyzing large volumes of data to extract meaningful insights and support data-driven decision making.",
+                "DevOps practices integrate software development and IT operations to improve collaboration, automation, and continuous delivery of software products.",
+                "Machine learning algorithms can automatically learn and improve from experience without being explicitly programmed for every possible scenario."
+        );
+    }
+}
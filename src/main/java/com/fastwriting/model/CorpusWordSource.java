@@ -0,0 +1,49 @@
+package com.fastwriting.model;
+
+/**
+ * Word source backed by one tier of a memory-mapped {@link WordCorpus}.
+ * Entries are decoded from the mapped file on every access.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class CorpusWordSource implements WordSource {
+
+    /**
+     * The corpus holding the entries.
+     */
+    private final WordCorpus corpus;
+
+    /**
+     * The tier of the corpus served by this source.
+     */
+    private final int tier;
+
+    /**
+     * Creates a source for one tier of a corpus.
+     *
+     * @param corpus the opened corpus
+     * @param tier the tier index
+     */
+    public CorpusWordSource(WordCorpus corpus, int tier) {
+        this.corpus = corpus;
+        this.tier = tier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return corpus.size(tier);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String get(int index) {
+        return corpus.get(tier, index);
+    }
+}
@@ -0,0 +1,63 @@
+package com.fastwriting.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Word source backed by every regular file in a directory, one entry per line.
+ * Files are streamed in name order the first time the source is used.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class DirectoryWordSource extends LazyWordSource {
+
+    /**
+     * The directory holding the word files.
+     */
+    private final Path directory;
+
+    /**
+     * Creates a source for the given directory. The directory is not read until first use.
+     *
+     * @param directory the directory to read
+     */
+    public DirectoryWordSource(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<String> load() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            Stream<String> lines = files.filter(Files::isRegularFile)
+                    .sorted()
+                    .flatMap(DirectoryWordSource::lines);
+            return TextFileWordSource.toEntries(lines);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Opens a lazy stream over the lines of a file.
+     *
+     * @param file the file to stream
+     * @return the lines of the file
+     */
+    private static Stream<String> lines(Path file) {
+        try {
+            return Files.lines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.fastwriting.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Time source used by the {@link GameEngine}.
+ * The system clock drives real games, while a {@link VirtualClock} lets simulations
+ * and benchmarks run the game rules as fast as the CPU allows.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+@FunctionalInterface
+public interface GameClock {
+
+    /**
+     * Clock backed by {@link System#nanoTime()} and the system wall clock.
+     */
+    GameClock SYSTEM = System::nanoTime;
+
+    /**
+     * Gets the current value of the monotonic clock.
+     * Only differences between two values are meaningful.
+     *
+     * @return the current monotonic time in nanoseconds
+     */
+    long nanoTime();
+
+    /**
+     * Gets the current wall-clock date and time, used for session start and end times.
+     *
+     * @return the current date and time
+     */
+    default LocalDateTime now() {
+        return LocalDateTime.now();
+    }
+}
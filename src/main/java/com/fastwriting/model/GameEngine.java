@@ -0,0 +1,746 @@
+package com.fastwriting.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Headless implementation of the Fast Writing game rules.
+ * Tracks the current level, word, time limit and countdown against an injectable
+ * {@link GameClock}, so the same rules drive the JavaFX game screen, simulations and benchmarks.
+ *
+ * <p>The engine never schedules anything itself: callers submit input, ask it to
+ * {@link #checkTimeUp() check the deadline} and decide when to {@link #nextWord() load the next word}.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class GameEngine {
+
+    /**
+     * Outcome of submitting an answer to the engine.
+     */
+    public enum SubmitResult {
+        /**
+         * The game is not active; the submission was ignored.
+         */
+        INACTIVE,
+        /**
+         * The input was blank; the submission was ignored.
+         */
+        EMPTY,
+        /**
+         * The input matched and the player advanced one level.
+         */
+        CORRECT,
+        /**
+         * The input matched, the player advanced one level and the time limit was reduced.
+         */
+        LEVEL_UP,
+        /**
+         * The input matched a word that had already been completed.
+         */
+        ALREADY_COMPLETED,
+        /**
+         * The input did not match the current word.
+         */
+        INCORRECT,
+        /**
+         * The input is still a correct prefix of the current word.
+         */
+        IN_PROGRESS,
+        /**
+         * The last keystroke introduced the first mismatch in the input.
+         */
+        TYPO,
+        /**
+         * The game is paused; the input was ignored.
+         */
+        PAUSED
+    }
+
+    /**
+     * Time limit in seconds for the first level.
+     */
+    public static final int INITIAL_TIME_LIMIT = 20;
+
+    /**
+     * Lowest time limit in seconds a level can have.
+     */
+    public static final int MINIMUM_TIME_LIMIT = 2;
+
+    /**
+     * Seconds removed from the time limit each time it is reduced.
+     */
+    public static final int TIME_LIMIT_DECREMENT = 2;
+
+    /**
+     * Number of completed levels between time limit reductions.
+     */
+    public static final int LEVELS_PER_TIME_REDUCTION = 5;
+
+    /**
+     * Number of nanoseconds in one second.
+     */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * Number of nanoseconds in one millisecond.
+     */
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    /**
+     * Word generator used to pick the word of each level.
+     */
+    private final WordGenerator wordGenerator;
+
+    /**
+     * Prefetcher keeping prepared words ready for the current and next level.
+     */
+    private final WordPrefetcher wordPrefetcher;
+
+    /**
+     * Clock used for the countdown and for session timestamps.
+     */
+    private final GameClock clock;
+
+    /**
+     * Statistics of the current session.
+     */
+    private GameStatistics statistics;
+
+    /**
+     * Current level of the game.
+     */
+    private int currentLevel;
+
+    /**
+     * Time limit in seconds for the current level.
+     */
+    private int timeLimit;
+
+    /**
+     * Current word or phrase to be typed, with its precomputed data.
+     */
+    private PreparedWord currentWord;
+
+    /**
+     * Flag indicating if the game is currently active.
+     */
+    private boolean gameActive;
+
+    /**
+     * Flag to track if the current word has been completed correctly.
+     */
+    private boolean currentWordCompleted;
+
+    /**
+     * Keystroke-level matcher comparing the input with the current word.
+     */
+    private final InputMatcher inputMatcher;
+
+    /**
+     * Meter of the typing speed over the last few seconds, fed by the characters typed into the current game.
+     */
+    private final TypingSpeedMeter speedMeter = new TypingSpeedMeter();
+
+    /**
+     * Flag indicating if words complete as soon as they are typed correctly, without submitting.
+     */
+    private boolean liveValidation;
+
+    /**
+     * Flag indicating if the countdown for the current word is running.
+     */
+    private boolean timerRunning;
+
+    /**
+     * Clock time at which the current word runs out of time.
+     */
+    private long deadlineNanos;
+
+    /**
+     * Remaining nanoseconds captured when the countdown was stopped.
+     */
+    private long stoppedRemainingNanos;
+
+    /**
+     * Flag indicating if the game is paused.
+     */
+    private boolean paused;
+
+    /**
+     * Whether the countdown was running when the game was paused, so resuming restarts it.
+     */
+    private boolean timerRunningBeforePause;
+
+    /**
+     * Whether each game is recorded into a {@link SessionRecording}.
+     */
+    private boolean recordingEnabled;
+
+    /**
+     * Recording of the current or last game, or null if it was not recorded.
+     */
+    private SessionRecording recording;
+
+    /**
+     * Source of the seeds of recorded games started without a seed.
+     */
+    private final SplittableRandom seedSource = new SplittableRandom();
+
+    /**
+     * Creates an engine with the {@link WordGenerator#createConfigured() configured} word lists
+     * and the system clock.
+     */
+    public GameEngine() {
+        this(new WordPrefetcher(WordGenerator.createConfigured()), GameClock.SYSTEM);
+    }
+
+    /**
+     * Creates an engine with the given word generator and clock.
+     * Words are prepared on the calling thread, so the engine starts no background work.
+     *
+     * @param wordGenerator the generator used to pick words
+     * @param clock the clock driving the countdown
+     */
+    public GameEngine(WordGenerator wordGenerator, GameClock clock) {
+        this(new WordPrefetcher(wordGenerator, 1, Runnable::run), clock);
+    }
+
+    /**
+     * Creates an engine taking its words from the given prefetcher.
+     * The words of the first level start being prepared right away.
+     *
+     * @param wordPrefetcher the prefetcher supplying prepared words
+     * @param clock the clock driving the countdown
+     */
+    public GameEngine(WordPrefetcher wordPrefetcher, GameClock clock) {
+        this.wordGenerator = wordPrefetcher.getWordGenerator();
+        this.wordPrefetcher = wordPrefetcher;
+        this.clock = clock;
+        this.statistics = new GameStatistics();
+        this.inputMatcher = new InputMatcher();
+        wordPrefetcher.prefetch(1);
+    }
+
+    /**
+     * Starts a new game from level 1 with fresh statistics,
+     * loads the first word and starts its countdown.
+     * Recorded games are started with a fresh random seed so that they can be replayed.
+     */
+    public void start() {
+        if (recordingEnabled) {
+            start(seedSource.nextLong());
+        } else {
+            begin();
+        }
+    }
+
+    /**
+     * Resets the game state, starts the recording if enabled and loads the first word.
+     */
+    private void begin() {
+        currentLevel = 1;
+        timeLimit = INITIAL_TIME_LIMIT;
+        gameActive = true;
+        paused = false;
+
+        statistics = new GameStatistics();
+        statistics.setStartTime(clock.now());
+        speedMeter.reset();
+        recording = recordingEnabled ? new SessionRecording(getSeed(), liveValidation, clock.nanoTime()) : null;
+
+        nextWord();
+    }
+
+    /**
+     * Starts a new game whose words are fixed by a seed, for replays and shared challenges.
+     * Any other engine with the same word sources started with the same seed shows the same words.
+     *
+     * @param seed the seed of the word sequence
+     */
+    public void start(long seed) {
+        wordPrefetcher.reseed(seed);
+        begin();
+    }
+
+    /**
+     * Gets the seed the word generator was last seeded with.
+     *
+     * @return the seed of the word sequence
+     */
+    public long getSeed() {
+        return wordGenerator.getSeed();
+    }
+
+    /**
+     * Loads a new word for the current level and restarts the countdown.
+     * Does nothing if the game is no longer active.
+     */
+    public void nextWord() {
+        if (!gameActive) {
+            return;
+        }
+        currentWord = wordPrefetcher.next(currentLevel);
+        currentWordCompleted = false;
+        if (recording != null) {
+            recording.record(SessionRecording.EventType.NEXT_WORD, clock.nanoTime(), currentWord.getText());
+        }
+        inputMatcher.reset(currentWord.getNormalizedText());
+
+        deadlineNanos = clock.nanoTime() + timeLimit * NANOS_PER_SECOND;
+        timerRunning = true;
+    }
+
+    /**
+     * Submits the player's answer for the current word.
+     * Surrounding whitespace is ignored and the comparison is case-sensitive,
+     * on the Unicode NFC forms of the input and the word.
+     *
+     * @param input the text typed by the player
+     * @return the outcome of the submission
+     */
+    public SubmitResult submit(String input) {
+        if (!gameActive) {
+            return SubmitResult.INACTIVE;
+        }
+        if (recording != null) {
+            recording.record(SessionRecording.EventType.SUBMIT, clock.nanoTime(), input);
+        }
+        if (paused) {
+            return SubmitResult.PAUSED;
+        }
+
+        String userInput = input.trim();
+        if (userInput.isEmpty()) {
+            return SubmitResult.EMPTY;
+        }
+
+        statistics.incrementWordsAttempted();
+
+        if (!PreparedWord.normalize(userInput).equals(currentWord.getNormalizedText())) {
+            statistics.incrementIncorrectWords();
+            return SubmitResult.INCORRECT;
+        }
+        if (currentWordCompleted) {
+            return SubmitResult.ALREADY_COMPLETED;
+        }
+        return completeCurrentWord();
+    }
+
+    /**
+     * Records text typed at the end of the input, one character at a time.
+     * In live validation mode the word completes as soon as the input matches it.
+     *
+     * @param text the characters appended to the input
+     * @return {@link SubmitResult#CORRECT} or {@link SubmitResult#LEVEL_UP} if the word was completed,
+     *         {@link SubmitResult#TYPO} if a mismatch was introduced, otherwise {@link SubmitResult#IN_PROGRESS}
+     *         (or {@link SubmitResult#INACTIVE} / {@link SubmitResult#ALREADY_COMPLETED} when input is ignored)
+     */
+    public SubmitResult typeText(CharSequence text) {
+        if (!gameActive) {
+            return SubmitResult.INACTIVE;
+        }
+        if (recording != null && text.length() > 0) {
+            // An empty text only re-evaluates the input after a deletion, which is recorded on its own
+            recording.record(SessionRecording.EventType.TYPE, clock.nanoTime(), text);
+        }
+        if (paused) {
+            return SubmitResult.PAUSED;
+        }
+        if (currentWordCompleted) {
+            return SubmitResult.ALREADY_COMPLETED;
+        }
+
+        long now = clock.nanoTime();
+        if (text.length() == 1) {
+            // Only keystrokes count towards the live speed; pastes and replaced text are not typing
+            speedMeter.record(now, 1);
+        }
+        boolean typo = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (inputMatcher.append(c)) {
+                statistics.incrementTypingErrors();
+                typo = true;
+            }
+            statistics.recordKeystroke(now, c, !inputMatcher.hasError(), currentLevel);
+        }
+        return evaluateLiveInput(typo);
+    }
+
+    /**
+     * Records characters removed from the end of the input.
+     * A deletion is logged as a single backspace keystroke, however many characters it removed.
+     * Like {@link #typeText(CharSequence)}, it is ignored while the game is over or paused
+     * and once the current word is completed.
+     *
+     * @param count the number of removed characters
+     */
+    public void deleteInput(int count) {
+        if (count <= 0 || !gameActive) {
+            return;
+        }
+        if (recording != null) {
+            recording.record(SessionRecording.EventType.DELETE, clock.nanoTime(), count);
+        }
+        if (paused || currentWordCompleted) {
+            return;
+        }
+        inputMatcher.deleteLast(count);
+        statistics.recordKeystroke(clock.nanoTime(), KeystrokeLog.BACKSPACE, !inputMatcher.hasError(), currentLevel);
+    }
+
+    /**
+     * Empties the input of the current word without logging or recording anything,
+     * for clears made by the game rather than the player, such as after a wrong answer.
+     */
+    public void clearInput() {
+        if (currentWord != null) {
+            inputMatcher.reset(currentWord.getNormalizedText());
+        }
+    }
+
+    /**
+     * Rescans the whole input after an edit that was not at its end, such as a paste in the middle.
+     *
+     * @param input the complete current input
+     * @return the same outcomes as {@link #typeText(CharSequence)}
+     */
+    public SubmitResult replaceInput(CharSequence input) {
+        if (!gameActive) {
+            return SubmitResult.INACTIVE;
+        }
+        if (recording != null) {
+            recording.record(SessionRecording.EventType.REPLACE, clock.nanoTime(), input);
+        }
+        if (paused) {
+            return SubmitResult.PAUSED;
+        }
+        if (currentWordCompleted) {
+            return SubmitResult.ALREADY_COMPLETED;
+        }
+
+        boolean hadError = inputMatcher.hasError();
+        inputMatcher.replace(input);
+        boolean typo = !hadError && inputMatcher.hasError();
+        if (typo) {
+            statistics.incrementTypingErrors();
+        }
+        return evaluateLiveInput(typo);
+    }
+
+    /**
+     * Completes the current word if live validation is on and the input matches it.
+     *
+     * @param typo whether the last edit introduced a mismatch
+     * @return the outcome of the edit
+     */
+    private SubmitResult evaluateLiveInput(boolean typo) {
+        if (liveValidation && inputMatcher.isComplete()) {
+            statistics.incrementWordsAttempted();
+            return completeCurrentWord();
+        }
+        return typo ? SubmitResult.TYPO : SubmitResult.IN_PROGRESS;
+    }
+
+    /**
+     * Records the current word as completed, advances the level and stops the countdown
+     * until {@link #nextWord()} is called.
+     *
+     * @return {@link SubmitResult#LEVEL_UP} if the time limit was reduced, otherwise {@link SubmitResult#CORRECT}
+     */
+    private SubmitResult completeCurrentWord() {
+        stopTimer();
+
+        currentWordCompleted = true;
+        statistics.incrementCorrectWords();
+        long completionNanos = timeLimit * NANOS_PER_SECOND - stoppedRemainingNanos;
+        statistics.addTimeSpentMillis(completionNanos / NANOS_PER_MILLI);
+        statistics.recordWordCompletion(completionNanos, currentWord.getText().length());
+
+        currentLevel++;
+
+        // Increase difficulty every 5 levels until minimum time is reached
+        if (currentLevel % LEVELS_PER_TIME_REDUCTION == 1 && timeLimit > MINIMUM_TIME_LIMIT) {
+            timeLimit = Math.max(MINIMUM_TIME_LIMIT, timeLimit - TIME_LIMIT_DECREMENT);
+            return SubmitResult.LEVEL_UP;
+        }
+        return SubmitResult.CORRECT;
+    }
+
+    /**
+     * Checks whether the current word has run out of time and ends the game if so.
+     *
+     * @return true if the game ended because of this call
+     */
+    public boolean checkTimeUp() {
+        if (!gameActive || !timerRunning || clock.nanoTime() < deadlineNanos) {
+            return false;
+        }
+        timerRunning = false;
+        stoppedRemainingNanos = 0;
+        if (recording != null) {
+            recording.record(SessionRecording.EventType.TIME_UP, clock.nanoTime());
+        }
+        finish();
+        return true;
+    }
+
+    /**
+     * Pauses the game, freezing the countdown of the current word.
+     * Input is ignored until {@link #resume()} is called.
+     */
+    public void pause() {
+        if (!gameActive || paused) {
+            return;
+        }
+        if (recording != null) {
+            recording.record(SessionRecording.EventType.PAUSE, clock.nanoTime());
+        }
+        timerRunningBeforePause = timerRunning;
+        stopTimer();
+        paused = true;
+    }
+
+    /**
+     * Resumes a paused game; the countdown continues from the time that was left.
+     */
+    public void resume() {
+        if (!paused) {
+            return;
+        }
+        if (recording != null) {
+            recording.record(SessionRecording.EventType.RESUME, clock.nanoTime());
+        }
+        paused = false;
+        if (gameActive && timerRunningBeforePause) {
+            deadlineNanos = clock.nanoTime() + stoppedRemainingNanos;
+            timerRunning = true;
+        }
+    }
+
+    /**
+     * Checks whether the game is paused.
+     *
+     * @return true if the game is paused
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Ends the game voluntarily, recording the end time and final level.
+     */
+    public void end() {
+        if (!gameActive) {
+            return;
+        }
+        if (recording != null) {
+            recording.record(SessionRecording.EventType.END, clock.nanoTime());
+        }
+        stopTimer();
+        finish();
+    }
+
+    /**
+     * Marks the game as over and records the end time and final level.
+     */
+    private void finish() {
+        gameActive = false;
+        paused = false;
+        statistics.setEndTime(clock.now());
+        statistics.setFinalLevel(currentLevel);
+    }
+
+    /**
+     * Stops the countdown, keeping the remaining time for display.
+     */
+    private void stopTimer() {
+        if (timerRunning) {
+            stoppedRemainingNanos = Math.max(0, deadlineNanos - clock.nanoTime());
+            timerRunning = false;
+        }
+    }
+
+    /**
+     * Gets the time left for the current word in nanoseconds.
+     *
+     * @return the remaining time, never negative
+     */
+    public long getRemainingNanos() {
+        if (!timerRunning) {
+            return stoppedRemainingNanos;
+        }
+        return Math.max(0, deadlineNanos - clock.nanoTime());
+    }
+
+    /**
+     * Gets the time left for the current word in whole seconds, rounded up.
+     *
+     * @return the remaining seconds, from 0 to the current time limit
+     */
+    public int getRemainingSeconds() {
+        return (int) ((getRemainingNanos() + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Gets the current level of the game.
+     *
+     * @return the current level
+     */
+    public int getCurrentLevel() {
+        return currentLevel;
+    }
+
+    /**
+     * Gets the difficulty tier of the current level.
+     *
+     * @return the tier index, from 0 (easy words) to 5 (complex phrases)
+     */
+    public int getCurrentTier() {
+        return wordGenerator.getTierIndex(currentLevel);
+    }
+
+    /**
+     * Gets the time limit in seconds for the current level.
+     *
+     * @return the current time limit
+     */
+    public int getTimeLimit() {
+        return timeLimit;
+    }
+
+    /**
+     * Gets the word or phrase the player must type.
+     *
+     * @return the current word
+     */
+    public String getCurrentWord() {
+        return currentWord.getText();
+    }
+
+    /**
+     * Gets the word or phrase the player must type, with its precomputed display and difficulty data.
+     *
+     * @return the current prepared word
+     */
+    public PreparedWord getCurrentPreparedWord() {
+        return currentWord;
+    }
+
+    /**
+     * Checks whether the game is still in progress.
+     *
+     * @return true if the game is active
+     */
+    public boolean isActive() {
+        return gameActive;
+    }
+
+    /**
+     * Checks whether the current word has already been completed.
+     *
+     * @return true if the current word was typed correctly
+     */
+    public boolean isCurrentWordCompleted() {
+        return currentWordCompleted;
+    }
+
+    /**
+     * Gets the keystroke-level matcher for the current word.
+     * Callers should only read from it; the engine feeds it the input edits.
+     *
+     * @return the input matcher
+     */
+    public InputMatcher getInputMatcher() {
+        return inputMatcher;
+    }
+
+    /**
+     * Checks whether live validation is enabled.
+     *
+     * @return true if words complete as soon as they are typed correctly
+     */
+    public boolean isLiveValidation() {
+        return liveValidation;
+    }
+
+    /**
+     * Enables or disables live validation, where a word completes the moment the input matches it.
+     *
+     * @param liveValidation true to complete words without submitting
+     */
+    public void setLiveValidation(boolean liveValidation) {
+        if (recording != null && gameActive && liveValidation != this.liveValidation) {
+            recording.record(SessionRecording.EventType.LIVE_VALIDATION, clock.nanoTime(), liveValidation ? 1 : 0);
+        }
+        this.liveValidation = liveValidation;
+    }
+
+    /**
+     * Enables or disables recording. Games started afterwards are recorded from their first word
+     * to their end, and get a random seed if started without one so that they can be replayed.
+     *
+     * @param recordingEnabled true to record the following games
+     */
+    public void setRecordingEnabled(boolean recordingEnabled) {
+        this.recordingEnabled = recordingEnabled;
+    }
+
+    /**
+     * Checks whether games are recorded.
+     *
+     * @return true if games are recorded
+     */
+    public boolean isRecordingEnabled() {
+        return recordingEnabled;
+    }
+
+    /**
+     * Gets the recording of the current or last game.
+     *
+     * @return the recording, or null if the game was not recorded
+     */
+    public SessionRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * Gets the statistics of the current session.
+     *
+     * @return the session statistics
+     */
+    public GameStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Gets the meter of the live typing speed of the current game. Only single characters typed
+     * while the game is running and the current word is not yet completed are counted.
+     *
+     * @return the typing speed meter, measured against {@link #getClock()}
+     */
+    public TypingSpeedMeter getSpeedMeter() {
+        return speedMeter;
+    }
+
+    /**
+     * Gets the difficulty category for a level.
+     *
+     * @param level the game level
+     * @return the difficulty category name
+     */
+    public String getDifficultyCategory(int level) {
+        return wordGenerator.getDifficultyCategory(level);
+    }
+
+    /**
+     * Gets the clock driving this engine.
+     *
+     * @return the game clock
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+}
@@ -1,5 +1,7 @@
 package com.fastwriting.model;
 
+import com.fastwriting.monitoring.LatencyHistogram;
+
 import java.time.Duration;
 import java.time.LocalDateTime;
 
@@ -44,9 +46,29 @@ public class GameStatistics {
     private int incorrectWords;
 
     /**
-     * Total time spent typing (excluding countdown time).
+     * Number of keystrokes that introduced a mismatch while typing a word.
+     */
+    private int typingErrors;
+
+    /**
+     * Raw log of every keystroke of the session.
      */
-    private long totalTimeSpent;
+    private final KeystrokeLog keystrokeLog;
+
+    /**
+     * Key-to-glyph latencies of the session's typed characters, filled in by the game screen.
+     */
+    private final LatencyHistogram inputLatency;
+
+    /**
+     * Completion times and instantaneous speeds of the session's correct words.
+     */
+    private final WordTimings wordTimings;
+
+    /**
+     * Total time spent typing in milliseconds (excluding countdown time).
+     */
+    private long totalTimeSpentMillis;
 
     /**
      * Creates a new GameStatistics instance with default values.
@@ -57,7 +79,11 @@ public class GameStatistics {
         this.wordsAttempted = 0;
         this.correctWords = 0;
         this.incorrectWords = 0;
-        this.totalTimeSpent = 0;
+        this.typingErrors = 0;
+        this.totalTimeSpentMillis = 0;
+        this.keystrokeLog = new KeystrokeLog();
+        this.inputLatency = new LatencyHistogram();
+        this.wordTimings = new WordTimings();
     }
 
     /**
@@ -162,13 +188,88 @@ public class GameStatistics {
         this.incorrectWords++;
     }
 
+    /**
+     * Gets the number of keystrokes that introduced a mismatch.
+     *
+     * @return the number of typing errors
+     */
+    public int getTypingErrors() {
+        return typingErrors;
+    }
+
+    /**
+     * Increments the count of keystrokes that introduced a mismatch.
+     */
+    public void incrementTypingErrors() {
+        this.typingErrors++;
+    }
+
+    /**
+     * Records a keystroke in the session's keystroke log.
+     *
+     * @param nanoTime the monotonic clock time of the keystroke
+     * @param charCode the typed character, or {@link KeystrokeLog#BACKSPACE} for deletions
+     * @param correct whether the input was a correct prefix after the keystroke
+     * @param level the level the keystroke was typed at
+     */
+    public void recordKeystroke(long nanoTime, char charCode, boolean correct, int level) {
+        keystrokeLog.record(nanoTime, charCode, correct, level);
+    }
+
+    /**
+     * Gets the raw keystroke log of the session.
+     *
+     * @return the keystroke log
+     */
+    public KeystrokeLog getKeystrokeLog() {
+        return keystrokeLog;
+    }
+
+    /**
+     * Gets the key-to-glyph latencies of the session's typed characters.
+     * The histogram is empty for sessions played without a screen, such as replays and simulations.
+     *
+     * @return the input latency histogram
+     */
+    public LatencyHistogram getInputLatency() {
+        return inputLatency;
+    }
+
+    /**
+     * Records a correctly completed word in the session's word timings.
+     *
+     * @param completionNanos the time from the word appearing to its completion, in nanoseconds
+     * @param characters the number of characters of the word, including spaces
+     */
+    public void recordWordCompletion(long completionNanos, int characters) {
+        wordTimings.record(completionNanos, characters);
+    }
+
+    /**
+     * Gets the completion times and instantaneous speeds of the session's correct words.
+     *
+     * @return the word timings
+     */
+    public WordTimings getWordTimings() {
+        return wordTimings;
+    }
+
     /**
      * Gets the total time spent typing in seconds.
      *
      * @return the total time spent typing
      */
     public long getTotalTimeSpent() {
-        return totalTimeSpent;
+        return totalTimeSpentMillis / 1000;
+    }
+
+    /**
+     * Gets the total time spent typing in milliseconds.
+     *
+     * @return the total time spent typing in milliseconds
+     */
+    public long getTotalTimeSpentMillis() {
+        return totalTimeSpentMillis;
     }
 
     /**
@@ -177,7 +278,16 @@ public class GameStatistics {
      * @param timeSpent the time to add in seconds
      */
     public void addTimeSpent(long timeSpent) {
-        this.totalTimeSpent += timeSpent;
+        this.totalTimeSpentMillis += timeSpent * 1000;
+    }
+
+    /**
+     * Adds time to the total time spent typing.
+     *
+     * @param timeSpentMillis the time to add in milliseconds
+     */
+    public void addTimeSpentMillis(long timeSpentMillis) {
+        this.totalTimeSpentMillis += timeSpentMillis;
     }
 
     /**
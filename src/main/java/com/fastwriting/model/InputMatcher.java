@@ -0,0 +1,131 @@
+package com.fastwriting.model;
+
+/**
+ * Incrementally compares the player's input with the target word as it is typed.
+ * Appending or deleting a character costs O(1): the matcher only tracks how many
+ * characters were typed and where the first mismatch sits, never the text itself.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class InputMatcher {
+
+    /**
+     * Word or phrase the input is compared with.
+     */
+    private String target;
+
+    /**
+     * Number of characters currently in the input.
+     */
+    private int typedLength;
+
+    /**
+     * Index of the first character that does not match the target, or -1 if the input is a correct prefix.
+     */
+    private int firstErrorIndex;
+
+    /**
+     * Creates a matcher with an empty target.
+     */
+    public InputMatcher() {
+        reset("");
+    }
+
+    /**
+     * Starts matching a new target with an empty input.
+     *
+     * @param target the word or phrase to match
+     */
+    public void reset(String target) {
+        this.target = target;
+        this.typedLength = 0;
+        this.firstErrorIndex = -1;
+    }
+
+    /**
+     * Records one character typed at the end of the input.
+     *
+     * @param c the typed character
+     * @return true if this character introduced the first mismatch of the input
+     */
+    public boolean append(char c) {
+        int position = typedLength++;
+        if (firstErrorIndex < 0 && (position >= target.length() || target.charAt(position) != c)) {
+            firstErrorIndex = position;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records characters removed from the end of the input.
+     *
+     * @param count the number of removed characters
+     */
+    public void deleteLast(int count) {
+        typedLength = Math.max(0, typedLength - count);
+        if (firstErrorIndex >= typedLength) {
+            firstErrorIndex = -1;
+        }
+    }
+
+    /**
+     * Rescans a whole input, used when it was edited somewhere other than at its end.
+     *
+     * @param input the complete current input
+     */
+    public void replace(CharSequence input) {
+        typedLength = 0;
+        firstErrorIndex = -1;
+        for (int i = 0; i < input.length(); i++) {
+            append(input.charAt(i));
+        }
+    }
+
+    /**
+     * Gets the number of leading input characters that match the target.
+     *
+     * @return the length of the correct prefix
+     */
+    public int getCorrectPrefixLength() {
+        return firstErrorIndex < 0 ? typedLength : firstErrorIndex;
+    }
+
+    /**
+     * Gets the position of the first mismatching character.
+     *
+     * @return the zero-based index of the first error, or -1 if there is none
+     */
+    public int getFirstErrorIndex() {
+        return firstErrorIndex;
+    }
+
+    /**
+     * Checks whether the input currently contains a mismatch.
+     *
+     * @return true if the input is not a prefix of the target
+     */
+    public boolean hasError() {
+        return firstErrorIndex >= 0;
+    }
+
+    /**
+     * Gets the number of characters currently in the input.
+     *
+     * @return the input length
+     */
+    public int getTypedLength() {
+        return typedLength;
+    }
+
+    /**
+     * Checks whether the input exactly matches the target.
+     *
+     * @return true if the whole target has been typed without errors
+     */
+    public boolean isComplete() {
+        return firstErrorIndex < 0 && typedLength == target.length();
+    }
+}
@@ -0,0 +1,264 @@
+package com.fastwriting.model;
+
+/**
+ * High-resolution log of every keystroke of a game session, stored in primitive arrays.
+ * Each event holds the nanoseconds since the previous keystroke, the character code,
+ * whether the input was still correct after the keystroke, and the level it was typed at.
+ *
+ * <p>The arrays start small and double until they reach the configured capacity; after that
+ * the log becomes a ring buffer that overwrites its oldest events. Recording never boxes values
+ * or allocates per event, so memory stays bounded during hours-long sessions.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class KeystrokeLog {
+
+    /**
+     * Receives the events of the log without boxing, oldest first.
+     */
+    @FunctionalInterface
+    public interface EventVisitor {
+
+        /**
+         * Visits one keystroke event.
+         *
+         * @param deltaNanos the nanoseconds since the previous keystroke (0 for the first one)
+         * @param charCode the typed character, or {@link KeystrokeLog#BACKSPACE} for deletions
+         * @param correct whether the input was a correct prefix after the keystroke
+         * @param level the level the keystroke was typed at
+         */
+        void visit(long deltaNanos, char charCode, boolean correct, int level);
+    }
+
+    /**
+     * Character code recorded for keystrokes that deleted input.
+     */
+    public static final char BACKSPACE = '\b';
+
+    /**
+     * Default maximum number of events kept, about 768 KB of event data.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /**
+     * Number of events the arrays can hold before their first growth.
+     */
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    /**
+     * Bit set in a packed event when the keystroke left the input correct.
+     */
+    private static final int CORRECT_BIT = 1 << 16;
+
+    /**
+     * Bit position of the level in a packed event.
+     */
+    private static final int LEVEL_SHIFT = 17;
+
+    /**
+     * Largest level that fits in a packed event.
+     */
+    private static final int MAX_LEVEL = (1 << (Integer.SIZE - LEVEL_SHIFT)) - 1;
+
+    /**
+     * Maximum number of events kept; a power of two.
+     */
+    private final int capacity;
+
+    /**
+     * Nanoseconds since the previous keystroke, per event.
+     */
+    private long[] deltas;
+
+    /**
+     * Character code, correct flag and level packed into one int, per event.
+     */
+    private int[] events;
+
+    /**
+     * Total number of events recorded since the log was created or cleared.
+     */
+    private long recorded;
+
+    /**
+     * Clock time of the previous keystroke; meaningless until one was recorded.
+     */
+    private long lastNanoTime;
+
+    /**
+     * Creates a log keeping at most {@link #DEFAULT_CAPACITY} events.
+     */
+    public KeystrokeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a log keeping at most the given number of events.
+     *
+     * @param maxEvents the maximum number of events kept, rounded up to a power of two
+     */
+    public KeystrokeLog(int maxEvents) {
+        if (maxEvents <= 0 || maxEvents > 1 << 30) {
+            throw new IllegalArgumentException("Invalid keystroke log capacity: " + maxEvents);
+        }
+        int roundedCapacity = 1;
+        while (roundedCapacity < maxEvents) {
+            roundedCapacity <<= 1;
+        }
+        this.capacity = roundedCapacity;
+        int initial = Math.min(INITIAL_CAPACITY, capacity);
+        this.deltas = new long[initial];
+        this.events = new int[initial];
+    }
+
+    /**
+     * Records one keystroke.
+     *
+     * @param nanoTime the monotonic clock time of the keystroke
+     * @param charCode the typed character, or {@link #BACKSPACE} for deletions
+     * @param correct whether the input was a correct prefix after the keystroke
+     * @param level the level the keystroke was typed at
+     */
+    public void record(long nanoTime, char charCode, boolean correct, int level) {
+        if (recorded == deltas.length && deltas.length < capacity) {
+            grow();
+        }
+
+        int slot = (int) (recorded & (deltas.length - 1));
+        deltas[slot] = recorded == 0 ? 0 : nanoTime - lastNanoTime;
+        events[slot] = charCode
+                | (correct ? CORRECT_BIT : 0)
+                | Math.min(Math.max(level, 0), MAX_LEVEL) << LEVEL_SHIFT;
+
+        lastNanoTime = nanoTime;
+        recorded++;
+    }
+
+    /**
+     * Doubles the size of the event arrays, up to the capacity.
+     * Only happens while the log has not wrapped, so events keep their slots.
+     */
+    private void grow() {
+        int newLength = Math.min(deltas.length * 2, capacity);
+        long[] newDeltas = new long[newLength];
+        int[] newEvents = new int[newLength];
+        System.arraycopy(deltas, 0, newDeltas, 0, deltas.length);
+        System.arraycopy(events, 0, newEvents, 0, events.length);
+        deltas = newDeltas;
+        events = newEvents;
+    }
+
+    /**
+     * Gets the number of events currently kept in the log.
+     *
+     * @return the number of retained events
+     */
+    public int size() {
+        return (int) Math.min(recorded, deltas.length);
+    }
+
+    /**
+     * Gets the number of events recorded since the log was created or cleared,
+     * including events that were overwritten.
+     *
+     * @return the total number of recorded events
+     */
+    public long getTotalRecorded() {
+        return recorded;
+    }
+
+    /**
+     * Gets the number of old events overwritten because the log was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() {
+        return recorded - size();
+    }
+
+    /**
+     * Gets the maximum number of events this log keeps.
+     *
+     * @return the capacity of the log
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the nanoseconds between an event and the keystroke before it.
+     *
+     * @param index the event index, 0 being the oldest retained event
+     * @return the delta in nanoseconds
+     */
+    public long getDeltaNanos(int index) {
+        return deltas[slotOf(index)];
+    }
+
+    /**
+     * Gets the character code of an event.
+     *
+     * @param index the event index, 0 being the oldest retained event
+     * @return the typed character, or {@link #BACKSPACE} for deletions
+     */
+    public char getCharCode(int index) {
+        return (char) events[slotOf(index)];
+    }
+
+    /**
+     * Checks whether the input was correct after an event.
+     *
+     * @param index the event index, 0 being the oldest retained event
+     * @return true if the input was a correct prefix after the keystroke
+     */
+    public boolean isCorrect(int index) {
+        return (events[slotOf(index)] & CORRECT_BIT) != 0;
+    }
+
+    /**
+     * Gets the level an event was typed at.
+     *
+     * @param index the event index, 0 being the oldest retained event
+     * @return the level of the keystroke
+     */
+    public int getLevel(int index) {
+        return events[slotOf(index)] >>> LEVEL_SHIFT;
+    }
+
+    /**
+     * Visits every retained event, oldest first.
+     *
+     * @param visitor the visitor receiving the events
+     */
+    public void forEach(EventVisitor visitor) {
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            int slot = slotOf(i);
+            int event = events[slot];
+            visitor.visit(deltas[slot], (char) event, (event & CORRECT_BIT) != 0, event >>> LEVEL_SHIFT);
+        }
+    }
+
+    /**
+     * Removes every event, keeping the allocated arrays.
+     */
+    public void clear() {
+        recorded = 0;
+    }
+
+    /**
+     * Maps an event index to its array slot.
+     *
+     * @param index the event index, 0 being the oldest retained event
+     * @return the array slot of the event
+     */
+    private int slotOf(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return (int) ((recorded - size + index) & (deltas.length - 1));
+    }
+}
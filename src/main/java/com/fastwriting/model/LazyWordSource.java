@@ -0,0 +1,78 @@
+package com.fastwriting.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Base class for word sources that load their entries on first use.
+ * Loading happens at most once and is safe to trigger from any thread.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public abstract class LazyWordSource implements WordSource {
+
+    /**
+     * The loaded entries, or null until the source is first used.
+     */
+    private volatile List<String> entries;
+
+    /**
+     * Loads the entries of this source. Called at most once.
+     *
+     * @return the loaded entries
+     * @throws IOException if the entries cannot be read
+     */
+    protected abstract List<String> load() throws IOException;
+
+    /**
+     * Checks whether the entries of this source have been loaded.
+     *
+     * @return true if the source has been loaded
+     */
+    public boolean isLoaded() {
+        return entries != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return getEntries().size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String get(int index) {
+        return getEntries().get(index);
+    }
+
+    /**
+     * Gets the entries, loading them on first access.
+     *
+     * @return the loaded entries
+     * @throws UncheckedIOException if the entries cannot be read
+     */
+    private List<String> getEntries() {
+        List<String> loaded = entries;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = entries;
+                if (loaded == null) {
+                    try {
+                        loaded = load();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    entries = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+}
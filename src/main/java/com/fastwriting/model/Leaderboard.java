@@ -0,0 +1,353 @@
+package com.fastwriting.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Local leaderboard of finished games, ranking them by final level, typing speed and accuracy,
+ * both over all games and within the difficulty category of their final level.
+ *
+ * <p>The leaderboard is an index maintained one game at a time instead of a sort of the whole history.
+ * Each board counts its games in a Fenwick tree over score buckets, so the rank of any score is a prefix
+ * sum found in O(log buckets) no matter how many games are stored, and it keeps its best
+ * {@value #TOP_SIZE} games in a bounded heap for display. Adding a game costs the same logarithmic
+ * amount per board. Games with scores in the same bucket share a rank. All methods are thread-safe.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class Leaderboard {
+
+    /**
+     * Number of best games kept for display on each board.
+     */
+    public static final int TOP_SIZE = 10;
+
+    /**
+     * Category index meaning all games rather than one difficulty category.
+     */
+    public static final int ALL_CATEGORIES = -1;
+
+    /**
+     * Scores the games are ranked by.
+     */
+    public enum Metric {
+
+        /**
+         * Final level reached; every level has its own bucket.
+         */
+        LEVEL(1.0, 1024),
+
+        /**
+         * Typing speed, in buckets of 0.1 WPM up to 400 WPM.
+         */
+        WORDS_PER_MINUTE(0.1, 4001),
+
+        /**
+         * Accuracy, in buckets of 0.1 percentage points.
+         */
+        ACCURACY(0.1, 1001);
+
+        /**
+         * Width of one score bucket.
+         */
+        private final double resolution;
+
+        /**
+         * Number of score buckets; higher scores share the last bucket.
+         */
+        private final int bucketCount;
+
+        /**
+         * Creates a metric.
+         *
+         * @param resolution the width of one score bucket
+         * @param bucketCount the number of score buckets
+         */
+        Metric(double resolution, int bucketCount) {
+            this.resolution = resolution;
+            this.bucketCount = bucketCount;
+        }
+
+        /**
+         * Gets the score of a game.
+         *
+         * @param record the game
+         * @return the score, higher being better
+         */
+        public double scoreOf(SessionRecord record) {
+            switch (this) {
+                case LEVEL:
+                    return record.getFinalLevel();
+                case WORDS_PER_MINUTE:
+                    return record.getWordsPerMinute();
+                default:
+                    return record.getAccuracyPercentage();
+            }
+        }
+
+        /**
+         * Formats a score for display, such as "Level 37", "72.3 WPM" or "95.0%".
+         *
+         * @param score the score
+         * @return the formatted score
+         */
+        public String format(double score) {
+            switch (this) {
+                case LEVEL:
+                    return "Level " + (int) score;
+                case WORDS_PER_MINUTE:
+                    return String.format("%.1f WPM", score);
+                default:
+                    return String.format("%.1f%%", score);
+            }
+        }
+
+        /**
+         * Gets the bucket of a score.
+         *
+         * @param score the score
+         * @return the bucket index, from 0 to the bucket count minus one
+         */
+        private int bucketOf(double score) {
+            // The small epsilon keeps exact multiples of the resolution, such as 95.0%, in their own bucket
+            long bucket = (long) Math.floor(score / resolution + 1e-9);
+            return (int) Math.max(0, Math.min(bucketCount - 1, bucket));
+        }
+    }
+
+    /**
+     * Generator defining the difficulty category of each level.
+     */
+    private final WordGenerator generator;
+
+    /**
+     * Boards over all games, by metric.
+     */
+    private final Board[] globalBoards;
+
+    /**
+     * Boards of each difficulty category, by tier and metric.
+     */
+    private final Board[][] categoryBoards;
+
+    /**
+     * Name of each difficulty category, by tier.
+     */
+    private final String[] categoryNames;
+
+    /**
+     * Creates an empty leaderboard.
+     *
+     * @param generator the generator defining the difficulty category of each level
+     */
+    public Leaderboard(WordGenerator generator) {
+        this.generator = generator;
+        int tierCount = generator.getTierCount();
+        categoryNames = new String[tierCount];
+        int named = 0;
+        for (int level = 1; named < tierCount; level++) {
+            int tier = generator.getTierIndex(level);
+            if (categoryNames[tier] == null) {
+                categoryNames[tier] = generator.getDifficultyCategory(level);
+                named++;
+            }
+        }
+
+        Metric[] metrics = Metric.values();
+        globalBoards = new Board[metrics.length];
+        categoryBoards = new Board[tierCount][metrics.length];
+        for (Metric metric : metrics) {
+            globalBoards[metric.ordinal()] = new Board(metric);
+            for (int tier = 0; tier < tierCount; tier++) {
+                categoryBoards[tier][metric.ordinal()] = new Board(metric);
+            }
+        }
+    }
+
+    /**
+     * Adds a finished game to every board it belongs to.
+     *
+     * @param record the game
+     */
+    public synchronized void add(SessionRecord record) {
+        int tier = getCategory(record);
+        for (Metric metric : Metric.values()) {
+            globalBoards[metric.ordinal()].add(record);
+            categoryBoards[tier][metric.ordinal()].add(record);
+        }
+    }
+
+    /**
+     * Gets the rank a game has, or would have, among all games.
+     *
+     * @param metric the score to rank by
+     * @param record the game
+     * @return the rank, 1 being the best
+     */
+    public synchronized long getRank(Metric metric, SessionRecord record) {
+        return globalBoards[metric.ordinal()].rankOf(metric.scoreOf(record));
+    }
+
+    /**
+     * Gets the rank a game has, or would have, within the difficulty category of its final level.
+     *
+     * @param metric the score to rank by
+     * @param record the game
+     * @return the rank, 1 being the best
+     */
+    public synchronized long getCategoryRank(Metric metric, SessionRecord record) {
+        return categoryBoards[getCategory(record)][metric.ordinal()].rankOf(metric.scoreOf(record));
+    }
+
+    /**
+     * Gets the best games by a metric, best first.
+     *
+     * @param metric the score to rank by
+     * @param category the category index, or {@link #ALL_CATEGORIES}
+     * @return at most {@value #TOP_SIZE} games
+     */
+    public synchronized List<SessionRecord> getTop(Metric metric, int category) {
+        return board(metric, category).top();
+    }
+
+    /**
+     * Gets the number of games on the leaderboard.
+     *
+     * @param category the category index, or {@link #ALL_CATEGORIES}
+     * @return the number of games
+     */
+    public synchronized long getGameCount(int category) {
+        return board(Metric.LEVEL, category).count;
+    }
+
+    /**
+     * Gets the difficulty category of the final level of a game.
+     *
+     * @param record the game
+     * @return the category index
+     */
+    public int getCategory(SessionRecord record) {
+        return generator.getTierIndex(record.getFinalLevel());
+    }
+
+    /**
+     * Gets the number of difficulty categories.
+     *
+     * @return the category count
+     */
+    public int getCategoryCount() {
+        return categoryNames.length;
+    }
+
+    /**
+     * Gets the name of a difficulty category, such as "Medium".
+     *
+     * @param category the category index
+     * @return the category name
+     */
+    public String getCategoryName(int category) {
+        return categoryNames[category];
+    }
+
+    /**
+     * Gets the board of a metric and category.
+     *
+     * @param metric the metric
+     * @param category the category index, or {@link #ALL_CATEGORIES}
+     * @return the board
+     */
+    private Board board(Metric metric, int category) {
+        return category == ALL_CATEGORIES ? globalBoards[metric.ordinal()] : categoryBoards[category][metric.ordinal()];
+    }
+
+    /**
+     * Games ranked by one metric: a Fenwick tree counting them per score bucket and a heap of the best ones.
+     */
+    private static final class Board {
+
+        /**
+         * Metric the board ranks by.
+         */
+        private final Metric metric;
+
+        /**
+         * Fenwick tree of game counts per score bucket, indexed from 1.
+         */
+        private final long[] tree;
+
+        /**
+         * Best games, worst of them at the head so it is the one evicted.
+         */
+        private final PriorityQueue<SessionRecord> best;
+
+        /**
+         * Orders games from worst to best; among equal scores the later game counts as worse.
+         */
+        private final Comparator<SessionRecord> worstFirst;
+
+        /**
+         * Number of games on the board.
+         */
+        private long count;
+
+        /**
+         * Creates an empty board.
+         *
+         * @param metric the metric the board ranks by
+         */
+        private Board(Metric metric) {
+            this.metric = metric;
+            this.tree = new long[metric.bucketCount + 1];
+            this.worstFirst = Comparator.<SessionRecord>comparingDouble(metric::scoreOf)
+                    .thenComparing(Comparator.comparingLong(SessionRecord::getStartMillis).reversed());
+            this.best = new PriorityQueue<>(TOP_SIZE, worstFirst);
+        }
+
+        /**
+         * Adds a game.
+         *
+         * @param record the game
+         */
+        private void add(SessionRecord record) {
+            for (int i = metric.bucketOf(metric.scoreOf(record)) + 1; i < tree.length; i += i & -i) {
+                tree[i]++;
+            }
+            count++;
+            if (best.size() < TOP_SIZE) {
+                best.add(record);
+            } else if (worstFirst.compare(record, best.peek()) > 0) {
+                best.poll();
+                best.add(record);
+            }
+        }
+
+        /**
+         * Gets the rank of a score: one more than the number of games in higher buckets.
+         *
+         * @param score the score
+         * @return the rank, 1 being the best
+         */
+        private long rankOf(double score) {
+            long atOrBelow = 0;
+            for (int i = metric.bucketOf(score) + 1; i > 0; i -= i & -i) {
+                atOrBelow += tree[i];
+            }
+            return count - atOrBelow + 1;
+        }
+
+        /**
+         * Gets the best games, best first.
+         *
+         * @return the games
+         */
+        private List<SessionRecord> top() {
+            List<SessionRecord> top = new ArrayList<>(best);
+            top.sort(worstFirst.reversed());
+            return top;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.fastwriting.model;
+
+import java.text.Normalizer;
+
+/**
+ * A word or phrase together with the data derived from it ahead of time,
+ * so that showing it at a level transition needs no further computation.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public final class PreparedWord {
+
+    /**
+     * Rough size class of a word on screen, used to pick its display style without measuring text.
+     */
+    public enum DisplaySize {
+        /**
+         * Short enough for the regular word font.
+         */
+        NORMAL,
+        /**
+         * Long word or short phrase that needs a smaller font.
+         */
+        LONG,
+        /**
+         * Long phrase that needs the smallest font.
+         */
+        VERY_LONG
+    }
+
+    /**
+     * Longest text shown with {@link DisplaySize#NORMAL}.
+     */
+    private static final int NORMAL_MAX_LENGTH = 20;
+
+    /**
+     * Longest text shown with {@link DisplaySize#LONG}.
+     */
+    private static final int LONG_MAX_LENGTH = 45;
+
+    /**
+     * Text as it is displayed.
+     */
+    private final String text;
+
+    /**
+     * Text in Unicode normalization form C, which typed input is compared with.
+     */
+    private final String normalizedText;
+
+    /**
+     * Display size class of the text.
+     */
+    private final DisplaySize displaySize;
+
+    /**
+     * Prepares a word or phrase.
+     *
+     * @param text the word or phrase
+     */
+    public PreparedWord(String text) {
+        this.text = text;
+        this.normalizedText = normalize(text);
+        this.displaySize = normalizedText.length() <= NORMAL_MAX_LENGTH ? DisplaySize.NORMAL
+                : normalizedText.length() <= LONG_MAX_LENGTH ? DisplaySize.LONG
+                : DisplaySize.VERY_LONG;
+    }
+
+    /**
+     * Converts text to Unicode normalization form C, skipping the work for already normalized text.
+     *
+     * @param text the text to normalize
+     * @return the normalized text
+     */
+    public static String normalize(String text) {
+        return Normalizer.isNormalized(text, Normalizer.Form.NFC) ? text : Normalizer.normalize(text, Normalizer.Form.NFC);
+    }
+
+    /**
+     * Gets the text as it is displayed.
+     *
+     * @return the word or phrase
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Gets the text in Unicode normalization form C, which typed input is compared with.
+     *
+     * @return the normalized word or phrase
+     */
+    public String getNormalizedText() {
+        return normalizedText;
+    }
+
+    /**
+     * Gets the display size class of the text.
+     *
+     * @return the display size
+     */
+    public DisplaySize getDisplaySize() {
+        return displaySize;
+    }
+}
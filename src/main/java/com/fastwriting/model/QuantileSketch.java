@@ -0,0 +1,440 @@
+package com.fastwriting.model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Mergeable streaming sketch of a distribution of doubles that estimates its percentiles in constant
+ * memory, using the merging variant of Ted Dunning's t-digest.
+ *
+ * <p>The distribution is summarized by at most about {@code compression} centroids, each a mean and a
+ * weight, sorted by mean. Centroids near the tails are kept small and those near the median large,
+ * following the arcsine scale function, so extreme percentiles stay accurate to a fraction of a
+ * percent of rank while the median is estimated from a few large centroids. New values go to a buffer
+ * that is sorted and merged into the centroids when it fills, so adding a value is usually just an
+ * array store. Two sketches merge into one of the same size, which is how per-session sketches are
+ * combined across the whole history. Memory is allocated on the first value and never grows.
+ * Instances are not thread-safe.</p>
+ *
+ * <p>Serialized layout (big-endian):</p>
+ * <pre>
+ * double compression
+ * long   count
+ * double sum
+ * double min
+ * double max
+ * int    centroidCount
+ * centroidCount x (double mean, double weight)
+ * </pre>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class QuantileSketch {
+
+    /**
+     * Compression used when none is given: at most about 100 centroids.
+     */
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    /**
+     * Size in bytes of the serialized fields before the centroids.
+     */
+    private static final int HEADER_SIZE = 5 * Double.BYTES + Integer.BYTES;
+
+    /**
+     * Size in bytes of one serialized centroid.
+     */
+    private static final int CENTROID_SIZE = 2 * Double.BYTES;
+
+    /**
+     * Compression: bounds the number of centroids, trading memory for accuracy.
+     */
+    private final double compression;
+
+    /**
+     * Maximum number of centroids after a merge.
+     */
+    private final int capacity;
+
+    /**
+     * Means of the centroids in ascending order, or null until the first value.
+     */
+    private double[] means;
+
+    /**
+     * Weights of the centroids, or null until the first value.
+     */
+    private double[] weights;
+
+    /**
+     * Number of centroids.
+     */
+    private int centroidCount;
+
+    /**
+     * Values added since the last merge, or null until the first value.
+     */
+    private double[] buffer;
+
+    /**
+     * Number of values in the buffer.
+     */
+    private int bufferCount;
+
+    /**
+     * Means of the centroids and buffered values in ascending order during a merge.
+     */
+    private double[] mergeMeans;
+
+    /**
+     * Weights of the centroids and buffered values during a merge.
+     */
+    private double[] mergeWeights;
+
+    /**
+     * Number of values added, including merged sketches.
+     */
+    private long count;
+
+    /**
+     * Sum of the values, for the mean.
+     */
+    private double sum;
+
+    /**
+     * Smallest value, exact.
+     */
+    private double min = Double.POSITIVE_INFINITY;
+
+    /**
+     * Largest value, exact.
+     */
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Creates an empty sketch with the {@link #DEFAULT_COMPRESSION default compression}.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param compression the compression, from 10 up: about the largest number of centroids kept
+     * @throws IllegalArgumentException if the compression is below 10 or too large
+     */
+    public QuantileSketch(double compression) {
+        if (!(compression >= 10 && compression <= 100_000)) {
+            throw new IllegalArgumentException("The compression must be between 10 and 100000: " + compression);
+        }
+        this.compression = compression;
+        // Adjacent centroids span more than one unit of the scale function, whose range is compression / 2
+        this.capacity = (int) Math.ceil(compression) + 2;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value; NaN is ignored
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (buffer == null) {
+            allocate();
+        }
+        if (bufferCount == buffer.length) {
+            flush();
+        }
+        buffer[bufferCount++] = value;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds every value summarized by another sketch to this one. The other sketch is not modified.
+     *
+     * @param other the sketch to merge in
+     */
+    public void merge(QuantileSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (other == this) {
+            other = copy();
+        }
+        if (buffer == null) {
+            allocate();
+        }
+        flush();
+        // Merge the other centroids into this sketch as if they were one large buffer of weighted values
+        int total = centroidCount + other.centroidCount;
+        double[] otherMeans = other.means;
+        double[] combinedMeans = total <= mergeMeans.length ? mergeMeans : new double[total];
+        double[] combinedWeights = total <= mergeWeights.length ? mergeWeights : new double[total];
+        int left = 0;
+        int right = 0;
+        for (int i = 0; i < total; i++) {
+            if (right >= other.centroidCount || (left < centroidCount && means[left] <= otherMeans[right])) {
+                combinedMeans[i] = means[left];
+                combinedWeights[i] = weights[left++];
+            } else {
+                combinedMeans[i] = otherMeans[right];
+                combinedWeights[i] = other.weights[right++];
+            }
+        }
+        long otherCentroidWeight = other.count - other.bufferCount;
+        if (total > 0) {
+            compress(combinedMeans, combinedWeights, total, count + otherCentroidWeight);
+        }
+
+        count += otherCentroidWeight;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        for (int i = 0; i < other.bufferCount; i++) {
+            // Updates the count, sum and extremes of the buffered values itself
+            add(other.buffer[i]);
+        }
+    }
+
+    /**
+     * Allocates the centroid, buffer and merge arrays on the first value.
+     */
+    private void allocate() {
+        int bufferSize = 4 * capacity;
+        means = new double[capacity];
+        weights = new double[capacity];
+        buffer = new double[bufferSize];
+        mergeMeans = new double[capacity + bufferSize];
+        mergeWeights = new double[capacity + bufferSize];
+    }
+
+    /**
+     * Merges the buffered values into the centroids.
+     */
+    private void flush() {
+        if (bufferCount == 0) {
+            return;
+        }
+        Arrays.sort(buffer, 0, bufferCount);
+        int total = centroidCount + bufferCount;
+        int left = 0;
+        int right = 0;
+        for (int i = 0; i < total; i++) {
+            if (right >= bufferCount || (left < centroidCount && means[left] <= buffer[right])) {
+                mergeMeans[i] = means[left];
+                mergeWeights[i] = weights[left++];
+            } else {
+                mergeMeans[i] = buffer[right++];
+                mergeWeights[i] = 1;
+            }
+        }
+        bufferCount = 0;
+        compress(mergeMeans, mergeWeights, total, count);
+    }
+
+    /**
+     * Replaces the centroids with sorted weighted values, merging neighbours as long as each centroid
+     * spans at most one unit of the scale function.
+     *
+     * @param sortedMeans the values in ascending order
+     * @param sortedWeights the weight of each value
+     * @param size the number of values
+     * @param totalWeight the sum of the weights
+     */
+    private void compress(double[] sortedMeans, double[] sortedWeights, int size, double totalWeight) {
+        int out = 0;
+        double currentMean = sortedMeans[0];
+        double currentWeight = sortedWeights[0];
+        double weightBefore = 0;
+        double weightLimit = totalWeight * quantileOf(scaleOf(0) + 1);
+        for (int i = 1; i < size; i++) {
+            double weight = sortedWeights[i];
+            if (weightBefore + currentWeight + weight <= weightLimit) {
+                currentWeight += weight;
+                currentMean += (sortedMeans[i] - currentMean) * weight / currentWeight;
+            } else {
+                means[out] = currentMean;
+                weights[out++] = currentWeight;
+                weightBefore += currentWeight;
+                weightLimit = totalWeight * quantileOf(scaleOf(weightBefore / totalWeight) + 1);
+                currentMean = sortedMeans[i];
+                currentWeight = weight;
+            }
+        }
+        means[out] = currentMean;
+        weights[out++] = currentWeight;
+        centroidCount = out;
+    }
+
+    /**
+     * Maps a quantile to the arcsine scale, which ranges over {@code compression / 2} units and is
+     * steepest at the tails.
+     *
+     * @param quantile the quantile, from 0 to 1
+     * @return the scale value
+     */
+    private double scaleOf(double quantile) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, Math.max(0, quantile)) - 1);
+    }
+
+    /**
+     * Maps a value of the arcsine scale back to a quantile.
+     *
+     * @param scale the scale value
+     * @return the quantile, from 0 to 1
+     */
+    private double quantileOf(double scale) {
+        if (scale >= compression / 4) {
+            return 1;
+        }
+        return (Math.sin(scale * 2 * Math.PI / compression) + 1) / 2;
+    }
+
+    /**
+     * Gets the number of values added.
+     *
+     * @return the value count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean of the values.
+     *
+     * @return the mean, or 0 if nothing was added
+     */
+    public double getMean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * Gets the smallest value.
+     *
+     * @return the minimum, or 0 if nothing was added
+     */
+    public double getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * Gets the largest value.
+     *
+     * @return the maximum, or 0 if nothing was added
+     */
+    public double getMax() {
+        return count == 0 ? 0 : max;
+    }
+
+    /**
+     * Estimates the value below or at which the given percentage of the values fall, interpolating
+     * linearly between the centres of the centroids and out to the exact minimum and maximum.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the value, or 0 if nothing was added
+     */
+    public double getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        flush();
+        double rank = Math.min(Math.max(percentile, 0), 100) / 100.0 * count;
+
+        double firstHalf = weights[0] / 2;
+        if (rank <= firstHalf) {
+            return min + (means[0] - min) * (rank / firstHalf);
+        }
+        double centre = firstHalf;
+        for (int i = 0; i < centroidCount - 1; i++) {
+            double step = (weights[i] + weights[i + 1]) / 2;
+            if (rank <= centre + step) {
+                return means[i] + (means[i + 1] - means[i]) * ((rank - centre) / step);
+            }
+            centre += step;
+        }
+        double lastHalf = weights[centroidCount - 1] / 2;
+        double mean = means[centroidCount - 1];
+        return Math.min(max, mean + (max - mean) * ((rank - centre) / lastHalf));
+    }
+
+    /**
+     * Gets the number of bytes {@link #writeTo(ByteBuffer)} writes.
+     *
+     * @return the serialized size
+     */
+    public int getSerializedSize() {
+        flush();
+        return HEADER_SIZE + centroidCount * CENTROID_SIZE;
+    }
+
+    /**
+     * Writes this sketch at the position of a buffer, which advances by {@link #getSerializedSize()} bytes.
+     *
+     * @param target the buffer to write to
+     */
+    public void writeTo(ByteBuffer target) {
+        flush();
+        target.putDouble(compression);
+        target.putLong(count);
+        target.putDouble(sum);
+        target.putDouble(min);
+        target.putDouble(max);
+        target.putInt(centroidCount);
+        for (int i = 0; i < centroidCount; i++) {
+            target.putDouble(means[i]);
+            target.putDouble(weights[i]);
+        }
+    }
+
+    /**
+     * Reads a sketch at the position of a buffer, which advances past it.
+     *
+     * @param source the buffer to read from
+     * @return the sketch
+     * @throws IllegalArgumentException if the data is not a valid sketch
+     * @throws java.nio.BufferUnderflowException if the buffer ends within the sketch
+     */
+    public static QuantileSketch readFrom(ByteBuffer source) {
+        QuantileSketch sketch = new QuantileSketch(source.getDouble());
+        long count = source.getLong();
+        double sum = source.getDouble();
+        double min = source.getDouble();
+        double max = source.getDouble();
+        int centroids = source.getInt();
+        if (count < 0 || centroids < 0 || centroids > sketch.capacity || (centroids == 0) != (count == 0)) {
+            throw new IllegalArgumentException("Invalid sketch: " + count + " values in " + centroids + " centroids");
+        }
+        if (count > 0) {
+            sketch.allocate();
+            for (int i = 0; i < centroids; i++) {
+                sketch.means[i] = source.getDouble();
+                sketch.weights[i] = source.getDouble();
+            }
+            sketch.centroidCount = centroids;
+            sketch.count = count;
+            sketch.sum = sum;
+            sketch.min = min;
+            sketch.max = max;
+        }
+        return sketch;
+    }
+
+    /**
+     * Creates an independent copy of this sketch.
+     *
+     * @return the copy
+     */
+    public QuantileSketch copy() {
+        QuantileSketch copy = new QuantileSketch(compression);
+        copy.merge(this);
+        return copy;
+    }
+}
@@ -0,0 +1,940 @@
+package com.fastwriting.model;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Persistent, append-only history of finished games, stored as fixed-size {@link SessionRecord}s
+ * in a directory of numbered segment files.
+ *
+ * <p>Every operation runs in order on one background thread, so appending never blocks the JavaFX
+ * application thread and a read always sees the games appended before it. Each run of the application
+ * appends to a fresh segment, so a crash can only tear the last record of that run, which its checksum
+ * then rejects. Segments are read through read-only memory mappings, and the records are kept in memory
+ * after the first read, so showing the history again costs nothing.</p>
+ *
+ * <p>Because every run starts a segment, the history would fragment into many small files. When it is
+ * opened, the history therefore first compacts the under-filled segments at its end into full ones, in
+ * the background and before anything is mapped. The compacted segments are written to temporary files
+ * and renamed into place, and their headers name the segments they replace, so a compaction interrupted
+ * at any point is either completed or rolled back the next time the history is opened.</p>
+ *
+ * <p>Next to the segments, the history keeps the {@link WordTimings} of every game merged into one
+ * file of constant size, rewritten through a temporary file and an atomic rename after each game:</p>
+ * <pre>
+ * int    magic           'FWWT'
+ * short  version         1
+ * short  reserved
+ * int    length          size of the timings
+ * length x byte          timings (see {@link WordTimings#writeTo(ByteBuffer)})
+ * int    checksum        CRC-32C of the preceding bytes
+ * </pre>
+ *
+ * <p>Segment layout (big-endian):</p>
+ * <pre>
+ * int    magic           'FWHS'
+ * short  version         1
+ * short  recordSize      {@value SessionRecord#SIZE}
+ * int    replacesFirst   first segment replaced by this compacted segment, or -1
+ * int    replacesLast    last segment replaced by this compacted segment, or -1
+ * int    compactedCount  number of segments written by the compaction, or 0
+ * int    reserved
+ * recordCount x record   (see {@link SessionRecord})
+ * </pre>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class SessionHistory {
+
+    /**
+     * System property naming the directory the history is stored in.
+     */
+    public static final String DIRECTORY_PROPERTY = "fastwriting.historyDir";
+
+    /**
+     * Maximum number of records in one segment.
+     */
+    public static final int SEGMENT_RECORDS = 4096;
+
+    /**
+     * Magic number identifying a segment file ("FWHS").
+     */
+    private static final int MAGIC = 0x46574853;
+
+    /**
+     * Current version of the segment file format.
+     */
+    private static final short VERSION = 1;
+
+    /**
+     * Size in bytes of the segment header.
+     */
+    private static final int HEADER_SIZE = 24;
+
+    /**
+     * Magic number identifying the word timings file ("FWWT").
+     */
+    private static final int TIMINGS_MAGIC = 0x46575754;
+
+    /**
+     * Size in bytes of the word timings file header.
+     */
+    private static final int TIMINGS_HEADER_SIZE = 12;
+
+    /**
+     * File name of the word timings of every game.
+     */
+    private static final String TIMINGS_FILE = "word-timings.bin";
+
+    /**
+     * Number of under-filled segments at the end of the history that triggers a compaction.
+     */
+    private static final int COMPACTION_THRESHOLD = 16;
+
+    /**
+     * File name prefix of the segments.
+     */
+    private static final String SEGMENT_PREFIX = "history-";
+
+    /**
+     * File name suffix of the segments.
+     */
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    /**
+     * File name suffix of segments being written by a compaction.
+     */
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * Maximum time to wait for pending writes when the history is closed, in milliseconds.
+     */
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+
+    /**
+     * History stored in the default directory, created on first use.
+     */
+    private static SessionHistory defaultHistory;
+
+    /**
+     * Directory holding the segments.
+     */
+    private final Path directory;
+
+    /**
+     * Background thread running every operation of this history in order.
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "session-history");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Segments of the history by index; only accessed on the background thread.
+     */
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+
+    /**
+     * Every record read or appended so far in segment order, or null until the history is first read.
+     */
+    private List<SessionRecord> records;
+
+    /**
+     * Highest final level among the loaded records, kept up to date as records are appended.
+     */
+    private int bestLevel;
+
+    /**
+     * Leaderboard of every game in the history, or null until it is first requested.
+     */
+    private Leaderboard leaderboard;
+
+    /**
+     * Word timings of every game in the history, or null until they are first needed.
+     */
+    private WordTimings wordTimings;
+
+    /**
+     * Channel of the segment this run appends to, or null until the first append.
+     */
+    private FileChannel appendChannel;
+
+    /**
+     * Number of records in the segment this run appends to.
+     */
+    private int appendCount;
+
+    /**
+     * Creates a history stored in a directory, and recovers and compacts its segments in the background.
+     *
+     * @param directory the directory holding the segments, created if missing
+     */
+    public SessionHistory(Path directory) {
+        this.directory = directory;
+        executor.execute(this::openSegments);
+    }
+
+    /**
+     * Gets the history stored in the {@link #getDefaultDirectory() default directory}.
+     *
+     * @return the default history
+     */
+    public static synchronized SessionHistory getDefault() {
+        if (defaultHistory == null) {
+            defaultHistory = new SessionHistory(getDefaultDirectory());
+        }
+        return defaultHistory;
+    }
+
+    /**
+     * Gets the directory named by {@value #DIRECTORY_PROPERTY},
+     * or ".fastwriting/history" in the user's home directory.
+     *
+     * @return the directory of the default history
+     */
+    public static Path getDefaultDirectory() {
+        String configured = System.getProperty(DIRECTORY_PROPERTY);
+        return configured != null && !configured.isBlank()
+                ? Paths.get(configured)
+                : Paths.get(System.getProperty("user.home"), ".fastwriting", "history");
+    }
+
+    /**
+     * Closes the default history, if it was used, after its pending writes.
+     */
+    public static synchronized void closeDefault() {
+        if (defaultHistory != null) {
+            defaultHistory.close();
+            defaultHistory = null;
+        }
+    }
+
+    /**
+     * Appends a finished game to the history on the background thread.
+     *
+     * @param record the game to append
+     * @return a future completed once the record is on disk
+     */
+    public CompletableFuture<Void> append(SessionRecord record) {
+        return CompletableFuture.runAsync(() -> addRecord(record), executor);
+    }
+
+    /**
+     * Appends a finished game and merges its word timings into those of the history, on the background thread.
+     * The timings are copied before this method returns, so the game may keep using them.
+     *
+     * @param record the game to append
+     * @param timings the word timings of the game
+     * @return a future completed once the record and the merged timings are on disk
+     */
+    public CompletableFuture<Void> append(SessionRecord record, WordTimings timings) {
+        WordTimings copy = timings.copy();
+        return CompletableFuture.runAsync(() -> {
+            addRecord(record);
+            loadWordTimings().merge(copy);
+            try {
+                writeWordTimings(directory, wordTimings);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }, executor);
+    }
+
+    /**
+     * Writes a record and adds it to the records and leaderboard already loaded; runs on the background thread.
+     *
+     * @param record the game to append
+     */
+    private void addRecord(SessionRecord record) {
+        try {
+            writeRecord(record);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        if (records != null) {
+            records.add(record);
+            bestLevel = Math.max(bestLevel, record.getFinalLevel());
+        }
+        if (leaderboard != null) {
+            leaderboard.add(record);
+        }
+    }
+
+    /**
+     * Gets the word timings of every game of the history on the background thread, after any pending append.
+     * Only games played since word timings were introduced contribute to them.
+     *
+     * @return a future completed with a copy of the timings
+     */
+    public CompletableFuture<WordTimings> getWordTimingsAsync() {
+        return CompletableFuture.supplyAsync(() -> loadWordTimings().copy(), executor);
+    }
+
+    /**
+     * Reads every game of the history on the background thread, after any pending append.
+     *
+     * @return a future completed with the games in the order they were appended
+     */
+    public CompletableFuture<List<SessionRecord>> readAllAsync() {
+        return CompletableFuture.supplyAsync(() -> Collections.unmodifiableList(new ArrayList<>(loadRecords())),
+                executor);
+    }
+
+    /**
+     * Gets the number of games and the best level of the history on the background thread, after any
+     * pending append. The history is read once; the totals are then kept up to date as games are appended,
+     * so later calls cost the same however many games are stored.
+     *
+     * @return a future completed with the totals
+     */
+    public CompletableFuture<Totals> getTotalsAsync() {
+        return CompletableFuture.supplyAsync(() -> new Totals(loadRecords().size(), bestLevel), executor);
+    }
+
+    /**
+     * Gets the leaderboard of every game of the history on the background thread, after any pending append.
+     * The leaderboard is built from the history once and then kept up to date as games are appended.
+     *
+     * @return a future completed with the leaderboard
+     */
+    public CompletableFuture<Leaderboard> getLeaderboardAsync() {
+        return CompletableFuture.supplyAsync(() -> {
+            if (leaderboard == null) {
+                Leaderboard built = new Leaderboard(new WordGenerator());
+                for (SessionRecord record : loadRecords()) {
+                    built.add(record);
+                }
+                leaderboard = built;
+            }
+            return leaderboard;
+        }, executor);
+    }
+
+    /**
+     * Reads every record of the history the first time it is needed; runs on the background thread.
+     *
+     * @return the records in segment order, kept up to date as games are appended
+     */
+    private List<SessionRecord> loadRecords() {
+        if (records == null) {
+            records = readSegments();
+            for (SessionRecord record : records) {
+                bestLevel = Math.max(bestLevel, record.getFinalLevel());
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Finishes the pending operations and closes the segment being appended to.
+     * Waits at most {@value #CLOSE_TIMEOUT_MILLIS} ms for pending writes.
+     */
+    public void close() {
+        executor.execute(() -> {
+            try {
+                if (appendChannel != null) {
+                    appendChannel.close();
+                    appendChannel = null;
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+        executor.shutdown();
+        try {
+            executor.awaitTermination(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Lists the segments, completes or rolls back an interrupted compaction, and compacts the end of the history.
+     */
+    private void openSegments() {
+        try {
+            Files.createDirectories(directory);
+            listSegments(directory, segments, true);
+            recoverCompactions(segments, true);
+            compact();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Reads every game of a history directory without opening the history: nothing is compacted,
+     * recovered or deleted, so the directory may be a copy, read-only, or in use by a running game.
+     * Segments left over by an interrupted compaction are skipped exactly as opening the history would
+     * remove them, so no game is counted twice.
+     *
+     * @param directory the directory holding the segments
+     * @param consumer receives the games in the order they were appended
+     * @throws IOException if the directory cannot be listed
+     */
+    public static void scan(Path directory, Consumer<SessionRecord> consumer) throws IOException {
+        TreeMap<Integer, Segment> found = new TreeMap<>();
+        listSegments(directory, found, false);
+        recoverCompactions(found, false);
+        for (Segment segment : found.values()) {
+            mapRecords(segment, consumer);
+        }
+    }
+
+    /**
+     * Reads the word timings of every game of a history directory without opening the history.
+     *
+     * @param directory the directory holding the history
+     * @return the timings, empty if the directory has none
+     * @throws IOException if the timings cannot be read or are corrupt
+     */
+    public static WordTimings readWordTimings(Path directory) throws IOException {
+        Path file = directory.resolve(TIMINGS_FILE);
+        if (!Files.exists(file)) {
+            return new WordTimings();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        try {
+            int length = buffer.getInt(8);
+            int checksumOffset = TIMINGS_HEADER_SIZE + length;
+            if (buffer.getInt(0) != TIMINGS_MAGIC || buffer.getShort(4) != VERSION || length < 0
+                    || checksumOffset + Integer.BYTES != buffer.capacity()
+                    || buffer.getInt(checksumOffset) != checksum(buffer, checksumOffset)) {
+                throw new IOException("Corrupt word timings: " + file);
+            }
+            return WordTimings.readFrom(buffer.position(TIMINGS_HEADER_SIZE));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IOException("Corrupt word timings: " + file, e);
+        }
+    }
+
+    /**
+     * Gets the word timings of the history, reading them on first use. Unreadable timings are
+     * reported and replaced with empty ones.
+     *
+     * @return the timings
+     */
+    private WordTimings loadWordTimings() {
+        if (wordTimings == null) {
+            try {
+                wordTimings = readWordTimings(directory);
+            } catch (IOException e) {
+                e.printStackTrace();
+                wordTimings = new WordTimings();
+            }
+        }
+        return wordTimings;
+    }
+
+    /**
+     * Replaces the word timings file of a directory through a temporary file and an atomic rename,
+     * so a crash leaves either the old or the new timings.
+     *
+     * @param directory the directory holding the history
+     * @param timings the timings to write
+     * @throws IOException if the timings cannot be written
+     */
+    private static void writeWordTimings(Path directory, WordTimings timings) throws IOException {
+        int length = timings.getSerializedSize();
+        ByteBuffer buffer = ByteBuffer.allocate(TIMINGS_HEADER_SIZE + length + Integer.BYTES);
+        buffer.putInt(TIMINGS_MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0);
+        buffer.putInt(length);
+        timings.writeTo(buffer);
+        buffer.putInt(checksum(buffer, buffer.position()));
+        buffer.flip();
+
+        Path file = directory.resolve(TIMINGS_FILE);
+        Path temporary = directory.resolve(TIMINGS_FILE + TEMPORARY_SUFFIX);
+        Files.createDirectories(directory);
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Computes the checksum of the start of a buffer.
+     *
+     * @param buffer the buffer
+     * @param length the number of bytes to check, from the start of the buffer
+     * @return the CRC-32C of those bytes
+     */
+    private static int checksum(ByteBuffer buffer, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(0).limit(length));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Lists the segment files of a directory.
+     *
+     * @param directory the directory holding the segments
+     * @param found the map the segments are put into by index
+     * @param cleanUp whether to delete temporary files and segments torn while being created
+     * @throws IOException if the directory cannot be listed or a segment header cannot be read
+     */
+    private static void listSegments(Path directory, TreeMap<Integer, Segment> found, boolean cleanUp)
+            throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMPORARY_SUFFIX) && cleanUp) {
+                    // Left over from a compaction that never renamed its output
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(SEGMENT_SUFFIX)) {
+                    Segment segment;
+                    try {
+                        segment = Segment.open(file, cleanUp);
+                    } catch (UnsupportedSegmentException e) {
+                        // Written by another version of the game: reported and skipped, but never deleted
+                        e.printStackTrace();
+                        continue;
+                    }
+                    if (segment != null) {
+                        found.put(segment.index, segment);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the segments replaced by completed compactions, and the output of incomplete ones.
+     *
+     * @param segments the segments by index
+     * @param deleteFiles whether to delete the removed segment files too
+     * @throws IOException if a segment cannot be deleted
+     */
+    private static void recoverCompactions(TreeMap<Integer, Segment> segments, boolean deleteFiles)
+            throws IOException {
+        for (Segment segment : new ArrayList<>(segments.values())) {
+            if (segment.replacesFirst < 0 || !segments.containsKey(segment.index)
+                    || segments.subMap(segment.replacesFirst, true, segment.replacesLast, true).isEmpty()) {
+                // Not compacted, rolled back already, or its compaction has completed
+                continue;
+            }
+            boolean complete = true;
+            for (int i = 1; i <= segment.compactedCount; i++) {
+                Segment output = segments.get(segment.replacesLast + i);
+                if (output == null || output.replacesFirst != segment.replacesFirst) {
+                    complete = false;
+                }
+            }
+            if (complete) {
+                removeSegments(segments, segment.replacesFirst, segment.replacesLast, deleteFiles);
+            } else {
+                // The sources are only deleted once every output is in place, so they are still complete
+                removeSegments(segments, segment.replacesLast + 1, segment.replacesLast + segment.compactedCount,
+                        deleteFiles);
+            }
+        }
+    }
+
+    /**
+     * Merges the under-filled segments at the end of the history into full segments,
+     * if there are at least {@value #COMPACTION_THRESHOLD} of them.
+     *
+     * @throws IOException if the segments cannot be read or written
+     */
+    private void compact() throws IOException {
+        Integer first = null;
+        for (Segment segment : segments.values()) {
+            if (segment.recordCount < SEGMENT_RECORDS) {
+                first = segment.index;
+                break;
+            }
+        }
+        if (first == null || segments.tailMap(first).size() < COMPACTION_THRESHOLD) {
+            return;
+        }
+        int last = segments.lastKey();
+
+        List<SessionRecord> merged = new ArrayList<>();
+        for (Segment segment : segments.tailMap(first).values()) {
+            // Read into the heap rather than mapping, so the sources can be deleted afterwards on every platform
+            try (FileChannel channel = FileChannel.open(segment.file, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(channel.size(),
+                        HEADER_SIZE + (long) segment.recordCount * SessionRecord.SIZE));
+                readFully(channel, buffer);
+                addRecords(buffer, segment.recordCount, merged::add);
+            }
+        }
+
+        int outputCount = Math.max(1, (merged.size() + SEGMENT_RECORDS - 1) / SEGMENT_RECORDS);
+        List<Path> temporaryFiles = new ArrayList<>();
+        for (int output = 0; output < outputCount; output++) {
+            Path temporary = directory.resolve(segmentName(last + 1 + output) + TEMPORARY_SUFFIX);
+            List<SessionRecord> chunk = merged.subList(output * SEGMENT_RECORDS,
+                    Math.min(merged.size(), (output + 1) * SEGMENT_RECORDS));
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + chunk.size() * SessionRecord.SIZE);
+            writeHeader(buffer, first, last, outputCount);
+            for (SessionRecord record : chunk) {
+                record.writeTo(buffer);
+            }
+            buffer.flip();
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            temporaryFiles.add(temporary);
+        }
+
+        for (int output = 0; output < outputCount; output++) {
+            Path file = directory.resolve(segmentName(last + 1 + output));
+            Files.move(temporaryFiles.get(output), file, StandardCopyOption.ATOMIC_MOVE);
+            int count = Math.min(SEGMENT_RECORDS, merged.size() - output * SEGMENT_RECORDS);
+            segments.put(last + 1 + output, new Segment(file, last + 1 + output, first, last, outputCount, count));
+        }
+        removeSegments(segments, first, last, true);
+    }
+
+    /**
+     * Removes the segments within a range of indices.
+     *
+     * @param segments the segments by index
+     * @param first the first index of the range
+     * @param last the last index of the range
+     * @param deleteFiles whether to delete the segment files too
+     * @throws IOException if a segment cannot be deleted
+     */
+    private static void removeSegments(TreeMap<Integer, Segment> segments, int first, int last, boolean deleteFiles)
+            throws IOException {
+        if (first > last) {
+            return;
+        }
+        Map<Integer, Segment> range = segments.subMap(first, true, last, true);
+        if (deleteFiles) {
+            for (Segment segment : range.values()) {
+                Files.deleteIfExists(segment.file);
+            }
+        }
+        range.clear();
+    }
+
+    /**
+     * Maps every segment and decodes its records, skipping torn or corrupt ones.
+     *
+     * @return the records in segment order
+     */
+    private List<SessionRecord> readSegments() {
+        List<SessionRecord> result = new ArrayList<>();
+        for (Segment segment : segments.values()) {
+            mapRecords(segment, result::add);
+        }
+        return result;
+    }
+
+    /**
+     * Maps a segment and decodes its records, skipping torn or corrupt ones.
+     *
+     * @param segment the segment
+     * @param consumer receives the records in order
+     */
+    private static void mapRecords(Segment segment, Consumer<SessionRecord> consumer) {
+        try (FileChannel channel = FileChannel.open(segment.file, StandardOpenOption.READ)) {
+            int count = (int) ((channel.size() - HEADER_SIZE) / SessionRecord.SIZE);
+            if (count <= 0) {
+                return;
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    HEADER_SIZE + (long) count * SessionRecord.SIZE);
+            addRecords(mapped, count, consumer);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes a record to the end of the segment this run appends to, starting a new segment when needed.
+     *
+     * @param record the record to write
+     * @throws IOException if the record cannot be written
+     */
+    private void writeRecord(SessionRecord record) throws IOException {
+        if (appendChannel == null || appendCount == SEGMENT_RECORDS) {
+            if (appendChannel != null) {
+                appendChannel.close();
+                appendChannel = null;
+            }
+            int index = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+            Path file = directory.resolve(segmentName(index));
+            Files.createDirectories(directory);
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            writeHeader(header, -1, -1, 0);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            segments.put(index, new Segment(file, index, -1, -1, 0, 0));
+            appendChannel = channel;
+            appendCount = 0;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(SessionRecord.SIZE);
+        record.writeTo(buffer);
+        buffer.flip();
+        long position = HEADER_SIZE + (long) appendCount * SessionRecord.SIZE;
+        while (buffer.hasRemaining()) {
+            position += appendChannel.write(buffer, position);
+        }
+        appendChannel.force(false);
+        appendCount++;
+        segments.lastEntry().getValue().recordCount = appendCount;
+    }
+
+    /**
+     * Decodes the records following the header of a segment, skipping those whose checksum does not match.
+     *
+     * @param buffer the segment content, starting with its header
+     * @param count the number of records in the segment
+     * @param consumer receives the valid records in order
+     */
+    private static void addRecords(ByteBuffer buffer, int count, Consumer<SessionRecord> consumer) {
+        for (int i = 0; i < count; i++) {
+            SessionRecord record = SessionRecord.readFrom(buffer, HEADER_SIZE + i * SessionRecord.SIZE);
+            if (record != null) {
+                consumer.accept(record);
+            }
+        }
+    }
+
+    /**
+     * Writes a segment header at the position of a buffer.
+     *
+     * @param buffer the buffer to write to
+     * @param replacesFirst the first segment replaced by a compacted segment, or -1
+     * @param replacesLast the last segment replaced by a compacted segment, or -1
+     * @param compactedCount the number of segments written by the compaction, or 0
+     */
+    private static void writeHeader(ByteBuffer buffer, int replacesFirst, int replacesLast, int compactedCount) {
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) SessionRecord.SIZE);
+        buffer.putInt(replacesFirst);
+        buffer.putInt(replacesLast);
+        buffer.putInt(compactedCount);
+        buffer.putInt(0);
+    }
+
+    /**
+     * Reads from a channel until the buffer is full or the end of the channel is reached.
+     *
+     * @param channel the channel to read from
+     * @param buffer the buffer to fill
+     * @throws IOException if the channel cannot be read
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // Keep reading until the buffer is full
+        }
+    }
+
+    /**
+     * Gets the file name of a segment.
+     *
+     * @param index the index of the segment
+     * @return the file name
+     */
+    private static String segmentName(int index) {
+        return String.format("%s%010d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Segment file of the history and the fields of its header.
+     */
+    private static final class Segment {
+
+        /**
+         * Path of the segment file.
+         */
+        private final Path file;
+
+        /**
+         * Index of the segment, from its file name.
+         */
+        private final int index;
+
+        /**
+         * First segment replaced by this compacted segment, or -1.
+         */
+        private final int replacesFirst;
+
+        /**
+         * Last segment replaced by this compacted segment, or -1.
+         */
+        private final int replacesLast;
+
+        /**
+         * Number of segments written by the compaction that wrote this one, or 0.
+         */
+        private final int compactedCount;
+
+        /**
+         * Number of whole records in the segment.
+         */
+        private int recordCount;
+
+        /**
+         * Creates a segment.
+         *
+         * @param file the path of the segment file
+         * @param index the index of the segment
+         * @param replacesFirst the first segment replaced by this compacted segment, or -1
+         * @param replacesLast the last segment replaced by this compacted segment, or -1
+         * @param compactedCount the number of segments written by the compaction, or 0
+         * @param recordCount the number of whole records in the segment
+         */
+        private Segment(Path file, int index, int replacesFirst, int replacesLast, int compactedCount,
+                        int recordCount) {
+            this.file = file;
+            this.index = index;
+            this.replacesFirst = replacesFirst;
+            this.replacesLast = replacesLast;
+            this.compactedCount = compactedCount;
+            this.recordCount = recordCount;
+        }
+
+        /**
+         * Reads the header of a segment file.
+         * A file too short to hold a header was torn while being created.
+         *
+         * @param file the segment file
+         * @param deleteTorn whether to delete the file if it was torn
+         * @return the segment, or null if the file is not a segment or was torn
+         * @throws UnsupportedSegmentException if the segment was written in another format
+         * @throws IOException if the file cannot be read
+         */
+        private static Segment open(Path file, boolean deleteTorn) throws IOException {
+            String name = file.getFileName().toString();
+            int index;
+            try {
+                index = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            long size;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                size = channel.size();
+                if (size >= HEADER_SIZE) {
+                    readFully(channel, header);
+                }
+            }
+            // The file is closed before a torn one is deleted, which Windows requires
+            if (size < HEADER_SIZE) {
+                if (deleteTorn) {
+                    Files.delete(file);
+                }
+                return null;
+            }
+            header.flip();
+            if (header.getInt() != MAGIC || header.getShort() != VERSION
+                    || header.getShort() != SessionRecord.SIZE) {
+                throw new UnsupportedSegmentException(file);
+            }
+            int replacesFirst = header.getInt();
+            int replacesLast = header.getInt();
+            int compactedCount = header.getInt();
+            int recordCount = (int) Math.min(SEGMENT_RECORDS, (size - HEADER_SIZE) / SessionRecord.SIZE);
+            return new Segment(file, index, replacesFirst, replacesLast, compactedCount, recordCount);
+        }
+    }
+
+    /**
+     * Number of games and best level of a history.
+     */
+    public static final class Totals {
+
+        /**
+         * Number of games in the history.
+         */
+        private final int gameCount;
+
+        /**
+         * Highest final level reached, or 0 if there are no games.
+         */
+        private final int bestLevel;
+
+        /**
+         * Creates totals.
+         *
+         * @param gameCount the number of games
+         * @param bestLevel the highest final level reached
+         */
+        private Totals(int gameCount, int bestLevel) {
+            this.gameCount = gameCount;
+            this.bestLevel = bestLevel;
+        }
+
+        /**
+         * Gets the number of games in the history.
+         *
+         * @return the game count
+         */
+        public int getGameCount() {
+            return gameCount;
+        }
+
+        /**
+         * Gets the highest final level reached in the history.
+         *
+         * @return the best level, or 0 if there are no games
+         */
+        public int getBestLevel() {
+            return bestLevel;
+        }
+    }
+
+    /**
+     * Thrown when a segment file was written in a format this version cannot read.
+     */
+    private static final class UnsupportedSegmentException extends IOException {
+
+        /**
+         * Serialization version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates the exception.
+         *
+         * @param file the segment file
+         */
+        private UnsupportedSegmentException(Path file) {
+            super("Unsupported history segment " + file);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.fastwriting.model;
+
+import com.fastwriting.monitoring.LatencyHistogram;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.zip.CRC32C;
+
+/**
+ * Summary of one finished game as stored in the {@link SessionHistory}, in a fixed-size binary record.
+ *
+ * <p>Record layout ({@value #SIZE} bytes, big-endian):</p>
+ * <pre>
+ * long   startMillis        start of the game, epoch milliseconds
+ * long   endMillis          end of the game, epoch milliseconds
+ * long   typingMillis       time spent typing the completed words
+ * int    finalLevel
+ * int    wordsAttempted
+ * int    correctWords
+ * int    incorrectWords
+ * int    typingErrors
+ * int    keystrokes
+ * int    latencyP50Micros   median key-to-glyph latency, 0 if not measured
+ * int    latencyP99Micros   99th percentile key-to-glyph latency, 0 if not measured
+ * int    reserved
+ * int    checksum           CRC-32C of the preceding 60 bytes
+ * </pre>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public final class SessionRecord {
+
+    /**
+     * Size in bytes of an encoded record.
+     */
+    public static final int SIZE = 64;
+
+    /**
+     * Number of bytes covered by the checksum.
+     */
+    private static final int CHECKSUM_OFFSET = SIZE - Integer.BYTES;
+
+    /**
+     * Number of nanoseconds in one microsecond.
+     */
+    private static final long NANOS_PER_MICRO = 1_000L;
+
+    /**
+     * Start of the game, in epoch milliseconds.
+     */
+    private final long startMillis;
+
+    /**
+     * End of the game, in epoch milliseconds.
+     */
+    private final long endMillis;
+
+    /**
+     * Time spent typing the completed words, in milliseconds.
+     */
+    private final long typingMillis;
+
+    /**
+     * Final level reached.
+     */
+    private final int finalLevel;
+
+    /**
+     * Number of words attempted.
+     */
+    private final int wordsAttempted;
+
+    /**
+     * Number of words typed correctly.
+     */
+    private final int correctWords;
+
+    /**
+     * Number of words typed incorrectly.
+     */
+    private final int incorrectWords;
+
+    /**
+     * Number of keystrokes that introduced a mismatch.
+     */
+    private final int typingErrors;
+
+    /**
+     * Number of keystrokes logged.
+     */
+    private final int keystrokes;
+
+    /**
+     * Median key-to-glyph latency in microseconds, or 0 if not measured.
+     */
+    private final int latencyP50Micros;
+
+    /**
+     * 99th percentile key-to-glyph latency in microseconds, or 0 if not measured.
+     */
+    private final int latencyP99Micros;
+
+    /**
+     * Creates a record.
+     *
+     * @param startMillis the start of the game, in epoch milliseconds
+     * @param endMillis the end of the game, in epoch milliseconds
+     * @param typingMillis the time spent typing the completed words, in milliseconds
+     * @param finalLevel the final level reached
+     * @param wordsAttempted the number of words attempted
+     * @param correctWords the number of words typed correctly
+     * @param incorrectWords the number of words typed incorrectly
+     * @param typingErrors the number of keystrokes that introduced a mismatch
+     * @param keystrokes the number of keystrokes logged
+     * @param latencyP50Micros the median key-to-glyph latency in microseconds, or 0
+     * @param latencyP99Micros the 99th percentile key-to-glyph latency in microseconds, or 0
+     */
+    public SessionRecord(long startMillis, long endMillis, long typingMillis, int finalLevel, int wordsAttempted,
+                         int correctWords, int incorrectWords, int typingErrors, int keystrokes,
+                         int latencyP50Micros, int latencyP99Micros) {
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+        this.typingMillis = typingMillis;
+        this.finalLevel = finalLevel;
+        this.wordsAttempted = wordsAttempted;
+        this.correctWords = correctWords;
+        this.incorrectWords = incorrectWords;
+        this.typingErrors = typingErrors;
+        this.keystrokes = keystrokes;
+        this.latencyP50Micros = latencyP50Micros;
+        this.latencyP99Micros = latencyP99Micros;
+    }
+
+    /**
+     * Summarizes the statistics of a finished game.
+     *
+     * @param statistics the statistics of the game
+     * @return the record of the game
+     */
+    public static SessionRecord of(GameStatistics statistics) {
+        long start = toEpochMillis(statistics.getStartTime());
+        LocalDateTime endTime = statistics.getEndTime();
+        long end = endTime != null ? toEpochMillis(endTime) : System.currentTimeMillis();
+        LatencyHistogram latency = statistics.getInputLatency();
+        return new SessionRecord(start, Math.max(start, end), statistics.getTotalTimeSpentMillis(),
+                statistics.getFinalLevel(), statistics.getWordsAttempted(), statistics.getCorrectWords(),
+                statistics.getIncorrectWords(), statistics.getTypingErrors(), statistics.getKeystrokeLog().size(),
+                toMicros(latency.getValueAtPercentile(50)), toMicros(latency.getValueAtPercentile(99)));
+    }
+
+    /**
+     * Writes this record at the position of a buffer, which advances by {@link #SIZE} bytes.
+     *
+     * @param buffer the buffer to write to
+     */
+    public void writeTo(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putLong(startMillis);
+        buffer.putLong(endMillis);
+        buffer.putLong(typingMillis);
+        buffer.putInt(finalLevel);
+        buffer.putInt(wordsAttempted);
+        buffer.putInt(correctWords);
+        buffer.putInt(incorrectWords);
+        buffer.putInt(typingErrors);
+        buffer.putInt(keystrokes);
+        buffer.putInt(latencyP50Micros);
+        buffer.putInt(latencyP99Micros);
+        buffer.putInt(0);
+        buffer.putInt(checksum(buffer, start));
+    }
+
+    /**
+     * Reads a record at an absolute offset of a buffer without moving its position.
+     *
+     * @param buffer the buffer to read from
+     * @param offset the offset of the record
+     * @return the record, or null if its checksum does not match, e.g. after a torn write
+     */
+    public static SessionRecord readFrom(ByteBuffer buffer, int offset) {
+        if (buffer.getInt(offset + CHECKSUM_OFFSET) != checksum(buffer, offset)) {
+            return null;
+        }
+        return new SessionRecord(buffer.getLong(offset), buffer.getLong(offset + 8), buffer.getLong(offset + 16),
+                buffer.getInt(offset + 24), buffer.getInt(offset + 28), buffer.getInt(offset + 32),
+                buffer.getInt(offset + 36), buffer.getInt(offset + 40), buffer.getInt(offset + 44),
+                buffer.getInt(offset + 48), buffer.getInt(offset + 52));
+    }
+
+    /**
+     * Computes the checksum of the record at an offset of a buffer.
+     *
+     * @param buffer the buffer holding the record
+     * @param offset the offset of the record
+     * @return the CRC-32C of the record's first {@value #CHECKSUM_OFFSET} bytes
+     */
+    private static int checksum(ByteBuffer buffer, int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().limit(offset + CHECKSUM_OFFSET).position(offset));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Converts a local date and time of this machine to epoch milliseconds.
+     *
+     * @param dateTime the local date and time
+     * @return the epoch milliseconds
+     */
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Converts nanoseconds to whole microseconds that fit the record.
+     *
+     * @param nanos the nanoseconds
+     * @return the microseconds
+     */
+    private static int toMicros(long nanos) {
+        return (int) Math.min(Integer.MAX_VALUE, nanos / NANOS_PER_MICRO);
+    }
+
+    /**
+     * Gets the start of the game.
+     *
+     * @return the start, in epoch milliseconds
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * Gets the start of the game in the time zone of this machine.
+     *
+     * @return the start date and time
+     */
+    public LocalDateTime getStartTime() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(startMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * Gets the end of the game.
+     *
+     * @return the end, in epoch milliseconds
+     */
+    public long getEndMillis() {
+        return endMillis;
+    }
+
+    /**
+     * Gets the length of the game.
+     *
+     * @return the duration in milliseconds
+     */
+    public long getDurationMillis() {
+        return endMillis - startMillis;
+    }
+
+    /**
+     * Gets the time spent typing the completed words.
+     *
+     * @return the typing time in milliseconds
+     */
+    public long getTypingMillis() {
+        return typingMillis;
+    }
+
+    /**
+     * Gets the final level reached.
+     *
+     * @return the final level
+     */
+    public int getFinalLevel() {
+        return finalLevel;
+    }
+
+    /**
+     * Gets the number of words attempted.
+     *
+     * @return the number of words attempted
+     */
+    public int getWordsAttempted() {
+        return wordsAttempted;
+    }
+
+    /**
+     * Gets the number of words typed correctly.
+     *
+     * @return the number of correct words
+     */
+    public int getCorrectWords() {
+        return correctWords;
+    }
+
+    /**
+     * Gets the number of words typed incorrectly.
+     *
+     * @return the number of incorrect words
+     */
+    public int getIncorrectWords() {
+        return incorrectWords;
+    }
+
+    /**
+     * Gets the number of keystrokes that introduced a mismatch.
+     *
+     * @return the number of typing errors
+     */
+    public int getTypingErrors() {
+        return typingErrors;
+    }
+
+    /**
+     * Gets the number of keystrokes logged.
+     *
+     * @return the keystroke count
+     */
+    public int getKeystrokes() {
+        return keystrokes;
+    }
+
+    /**
+     * Gets the median key-to-glyph latency.
+     *
+     * @return the latency in microseconds, or 0 if not measured
+     */
+    public int getLatencyP50Micros() {
+        return latencyP50Micros;
+    }
+
+    /**
+     * Gets the 99th percentile key-to-glyph latency.
+     *
+     * @return the latency in microseconds, or 0 if not measured
+     */
+    public int getLatencyP99Micros() {
+        return latencyP99Micros;
+    }
+
+    /**
+     * Calculates the accuracy, the same way as {@link GameStatistics#getAccuracyPercentage()}.
+     *
+     * @return the accuracy as a percentage (0-100)
+     */
+    public double getAccuracyPercentage() {
+        if (wordsAttempted == 0) {
+            return 0.0;
+        }
+        return (double) correctWords / wordsAttempted * 100.0;
+    }
+
+    /**
+     * Calculates the typing speed, the same way as {@link GameStatistics#getWordsPerMinute()}.
+     *
+     * @return the typing speed in WPM
+     */
+    public double getWordsPerMinute() {
+        long seconds = getDurationMillis() / 1000;
+        if (seconds == 0 || correctWords == 0) {
+            return 0.0;
+        }
+        return correctWords / (seconds / 60.0);
+    }
+}
@@ -0,0 +1,506 @@
+package com.fastwriting.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Compact recording of one game session: the seed of its words, every word shown and every input
+ * the engine received, with the time of each event.
+ *
+ * <p>Events are appended to a byte array as they happen. Each event starts with one varint holding
+ * the nanoseconds since the previous event shifted left by four bits, with the event type in the low bits,
+ * followed by its payload: typed characters as varints, deletion counts as varints and texts as
+ * length-prefixed UTF-8. A keystroke typically takes five to six bytes. Because the seed fixes the words,
+ * replaying the events against an engine started with the same seed reproduces the session exactly;
+ * the recorded words let the replay detect when it has diverged.</p>
+ *
+ * <p>File layout (big-endian):</p>
+ * <pre>
+ * int     magic ("FWGR")
+ * int     version
+ * long    seed
+ * boolean live validation at the start of the game
+ * int     event count
+ * int     event data length
+ * byte[]  event data
+ * </pre>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class SessionRecording {
+
+    /**
+     * Kind of a recorded event.
+     */
+    public enum EventType {
+        /**
+         * Characters typed at the end of the input; the text holds them.
+         */
+        TYPE,
+        /**
+         * Characters deleted from the end of the input; the count holds how many.
+         */
+        DELETE,
+        /**
+         * The whole input was replaced after an edit that was not at its end; the text holds the new input.
+         */
+        REPLACE,
+        /**
+         * An answer was submitted; the text holds it.
+         */
+        SUBMIT,
+        /**
+         * A new word was shown; the text holds it.
+         */
+        NEXT_WORD,
+        /**
+         * Live validation was switched; the count is 1 if it was turned on.
+         */
+        LIVE_VALIDATION,
+        /**
+         * The game was paused.
+         */
+        PAUSE,
+        /**
+         * The game was resumed.
+         */
+        RESUME,
+        /**
+         * The player ended the game.
+         */
+        END,
+        /**
+         * The current word ran out of time, ending the game.
+         */
+        TIME_UP
+    }
+
+    /**
+     * Receives the events of a recording, oldest first.
+     */
+    @FunctionalInterface
+    public interface EventVisitor {
+
+        /**
+         * Visits one event.
+         *
+         * @param type the type of the event
+         * @param offsetNanos the nanoseconds between the start of the game and the event
+         * @param text the text of the event, or null for events without text
+         * @param count the count of the event, or 0 for events without count
+         */
+        void visit(EventType type, long offsetNanos, String text, int count);
+    }
+
+    /**
+     * Magic number identifying a recording file ("FWGR").
+     */
+    private static final int MAGIC = 0x46574752;
+
+    /**
+     * Current version of the recording file format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Number of low bits of an event header holding the event type.
+     */
+    private static final int TYPE_BITS = 4;
+
+    /**
+     * Mask selecting the event type from an event header.
+     */
+    private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+
+    /**
+     * Initial size of the event data array.
+     */
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    /**
+     * Event types by ordinal.
+     */
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    /**
+     * Seed of the words of the session.
+     */
+    private final long seed;
+
+    /**
+     * Whether live validation was on when the game started.
+     */
+    private final boolean liveValidation;
+
+    /**
+     * Clock time the game started at; unused for a loaded recording.
+     */
+    private final long startNanoTime;
+
+    /**
+     * Whether the recording was loaded from a file, and so cannot be appended to.
+     */
+    private final boolean loaded;
+
+    /**
+     * Encoded events; only the first {@link #length} bytes are used.
+     */
+    private byte[] data;
+
+    /**
+     * Number of bytes of event data.
+     */
+    private int length;
+
+    /**
+     * Number of recorded events.
+     */
+    private int eventCount;
+
+    /**
+     * Offset from the start of the game of the last recorded event.
+     */
+    private long lastOffsetNanos;
+
+    /**
+     * Creates an empty recording for a game that starts now.
+     *
+     * @param seed the seed of the words of the game
+     * @param liveValidation whether live validation is on at the start of the game
+     * @param startNanoTime the clock time the game starts at
+     */
+    public SessionRecording(long seed, boolean liveValidation, long startNanoTime) {
+        this.seed = seed;
+        this.liveValidation = liveValidation;
+        this.startNanoTime = startNanoTime;
+        this.loaded = false;
+        this.data = new byte[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates a recording from loaded event data.
+     *
+     * @param seed the seed of the words of the game
+     * @param liveValidation whether live validation was on at the start of the game
+     * @param data the encoded events
+     * @param eventCount the number of events
+     */
+    private SessionRecording(long seed, boolean liveValidation, byte[] data, int eventCount) {
+        this.seed = seed;
+        this.liveValidation = liveValidation;
+        this.startNanoTime = 0;
+        this.loaded = true;
+        this.data = data;
+        this.length = data.length;
+        this.eventCount = eventCount;
+    }
+
+    /**
+     * Records an event without payload.
+     *
+     * @param type the type of the event
+     * @param nanoTime the clock time of the event
+     */
+    public void record(EventType type, long nanoTime) {
+        writeHeader(type, nanoTime);
+    }
+
+    /**
+     * Records an event carrying a text: typed characters, an input or a word.
+     *
+     * @param type the type of the event
+     * @param nanoTime the clock time of the event
+     * @param text the text of the event
+     */
+    public void record(EventType type, long nanoTime, CharSequence text) {
+        writeHeader(type, nanoTime);
+        if (type == EventType.TYPE) {
+            writeVarInt(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                writeVarInt(text.charAt(i));
+            }
+        } else {
+            byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, data, length, bytes.length);
+            length += bytes.length;
+        }
+    }
+
+    /**
+     * Records an event carrying a count: a number of deleted characters or a switch state.
+     *
+     * @param type the type of the event
+     * @param nanoTime the clock time of the event
+     * @param count the count of the event
+     */
+    public void record(EventType type, long nanoTime, int count) {
+        writeHeader(type, nanoTime);
+        writeVarInt(count);
+    }
+
+    /**
+     * Visits every event, oldest first.
+     *
+     * @param visitor the visitor receiving the events
+     * @throws IllegalStateException if the event data is corrupt
+     */
+    public void forEach(EventVisitor visitor) {
+        int[] position = {0};
+        long offsetNanos = 0;
+        for (int i = 0; i < eventCount; i++) {
+            long header = readVarLong(position);
+            EventType type = typeOf((int) (header & TYPE_MASK));
+            offsetNanos += header >>> TYPE_BITS;
+
+            String text = null;
+            int count = 0;
+            switch (type) {
+                case TYPE:
+                    int chars = (int) readVarLong(position);
+                    StringBuilder typed = new StringBuilder(chars);
+                    for (int c = 0; c < chars; c++) {
+                        typed.append((char) readVarLong(position));
+                    }
+                    text = typed.toString();
+                    break;
+                case REPLACE:
+                case SUBMIT:
+                case NEXT_WORD:
+                    int byteCount = (int) readVarLong(position);
+                    if (byteCount < 0 || position[0] + byteCount > length) {
+                        throw new IllegalStateException("Corrupt session recording at byte " + position[0]);
+                    }
+                    text = new String(data, position[0], byteCount, StandardCharsets.UTF_8);
+                    position[0] += byteCount;
+                    break;
+                case DELETE:
+                case LIVE_VALIDATION:
+                    count = (int) readVarLong(position);
+                    break;
+                default:
+                    break;
+            }
+            visitor.visit(type, offsetNanos, text, count);
+        }
+    }
+
+    /**
+     * Gets the seed of the words of the session.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Checks whether live validation was on when the game started.
+     *
+     * @return true if words completed without submitting at the start of the game
+     */
+    public boolean isLiveValidation() {
+        return liveValidation;
+    }
+
+    /**
+     * Gets the number of recorded events.
+     *
+     * @return the event count
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Gets the size of the encoded events.
+     *
+     * @return the number of bytes of event data
+     */
+    public int getDataLength() {
+        return length;
+    }
+
+    /**
+     * Gets the time between the start of the game and the last event.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getDurationNanos() {
+        if (!loaded) {
+            return lastOffsetNanos;
+        }
+        long[] last = {0};
+        forEach((type, offsetNanos, text, count) -> last[0] = offsetNanos);
+        return last[0];
+    }
+
+    /**
+     * Writes the recording to a file.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        try (OutputStream fileOut = Files.newOutputStream(file)) {
+            writeTo(fileOut);
+        }
+    }
+
+    /**
+     * Writes the recording to a stream.
+     *
+     * @param output the stream to write to; it is flushed but not closed
+     * @throws IOException if the stream cannot be written
+     */
+    public void writeTo(OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(seed);
+        out.writeBoolean(liveValidation);
+        out.writeInt(eventCount);
+        out.writeInt(length);
+        out.write(data, 0, length);
+        out.flush();
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param file the file to read
+     * @return the loaded recording
+     * @throws IOException if the file cannot be read or is not a session recording
+     */
+    public static SessionRecording load(Path file) throws IOException {
+        try (InputStream fileIn = Files.newInputStream(file)) {
+            return readFrom(fileIn);
+        }
+    }
+
+    /**
+     * Reads a recording from a stream.
+     *
+     * @param input the stream to read from; it is not closed
+     * @return the loaded recording
+     * @throws IOException if the stream cannot be read or does not hold a session recording
+     */
+    public static SessionRecording readFrom(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a session recording");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported session recording version " + version);
+        }
+        long seed = in.readLong();
+        boolean liveValidation = in.readBoolean();
+        int eventCount = in.readInt();
+        int dataLength = in.readInt();
+        if (eventCount < 0 || dataLength < 0) {
+            throw new IOException("Corrupt session recording header");
+        }
+        byte[] data = new byte[dataLength];
+        in.readFully(data);
+        return new SessionRecording(seed, liveValidation, data, eventCount);
+    }
+
+    /**
+     * Writes the header varint of an event.
+     *
+     * @param type the type of the event
+     * @param nanoTime the clock time of the event
+     */
+    private void writeHeader(EventType type, long nanoTime) {
+        if (loaded) {
+            throw new IllegalStateException("Loaded recordings cannot be appended to");
+        }
+        long offsetNanos = Math.max(nanoTime - startNanoTime, lastOffsetNanos);
+        writeVarLong((offsetNanos - lastOffsetNanos) << TYPE_BITS | type.ordinal());
+        lastOffsetNanos = offsetNanos;
+        eventCount++;
+    }
+
+    /**
+     * Appends a non-negative int as a varint.
+     *
+     * @param value the value to append
+     */
+    private void writeVarInt(int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Appends a non-negative long as a varint of seven bits per byte, least significant group first.
+     *
+     * @param value the value to append
+     */
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * Reads a varint.
+     *
+     * @param position the read position, advanced past the varint
+     * @return the decoded value
+     * @throws IllegalStateException if the varint runs past the end of the data
+     */
+    private long readVarLong(int[] position) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            if (position[0] >= length) {
+                throw new IllegalStateException("Corrupt session recording at byte " + position[0]);
+            }
+            byte b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Corrupt session recording at byte " + position[0]);
+    }
+
+    /**
+     * Maps an encoded event type to its enum constant.
+     *
+     * @param ordinal the encoded type
+     * @return the event type
+     * @throws IllegalStateException if the type is unknown
+     */
+    private static EventType typeOf(int ordinal) {
+        if (ordinal >= EVENT_TYPES.length) {
+            throw new IllegalStateException("Unknown session event type " + ordinal);
+        }
+        return EVENT_TYPES[ordinal];
+    }
+
+    /**
+     * Makes room for more event data.
+     *
+     * @param extra the number of bytes about to be appended
+     */
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+}
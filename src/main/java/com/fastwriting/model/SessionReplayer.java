@@ -0,0 +1,222 @@
+package com.fastwriting.model;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Plays a {@link SessionRecording} back into a headless {@link GameEngine} driven by a {@link VirtualClock}.
+ *
+ * <p>The engine is started with the recorded seed and receives every recorded input at its recorded
+ * offset from the start of the game, so it goes through exactly the states of the original session.
+ * Playback either follows the original timing in wall-clock time or runs as fast as possible,
+ * for example to push recorded real sessions through the game rules as a throughput benchmark.
+ * Words that differ from the recorded ones are counted as divergences, which happens when the engine
+ * uses different word sources than the recorded game.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class SessionReplayer {
+
+    /**
+     * Speed of a playback.
+     */
+    public enum Pace {
+        /**
+         * Events are applied at their original times, measured in wall-clock time.
+         */
+        REAL_TIME,
+        /**
+         * Events are applied back to back; only the virtual clock follows the original times.
+         */
+        MAXIMUM
+    }
+
+    /**
+     * Outcome of a playback.
+     */
+    public static final class Result {
+
+        /**
+         * Number of events applied.
+         */
+        private final int eventCount;
+
+        /**
+         * Number of shown words or time-ups that differed from the recording.
+         */
+        private final int divergences;
+
+        /**
+         * Level the engine reached.
+         */
+        private final int finalLevel;
+
+        /**
+         * Wall-clock time the playback took, in nanoseconds.
+         */
+        private final long elapsedNanos;
+
+        /**
+         * Creates a playback outcome.
+         *
+         * @param eventCount the number of events applied
+         * @param divergences the number of events that differed from the recording
+         * @param finalLevel the level the engine reached
+         * @param elapsedNanos the wall-clock time the playback took
+         */
+        private Result(int eventCount, int divergences, int finalLevel, long elapsedNanos) {
+            this.eventCount = eventCount;
+            this.divergences = divergences;
+            this.finalLevel = finalLevel;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Gets the number of events applied.
+         *
+         * @return the event count
+         */
+        public int getEventCount() {
+            return eventCount;
+        }
+
+        /**
+         * Gets the number of shown words or time-ups that differed from the recording.
+         *
+         * @return 0 if the playback reproduced the session exactly
+         */
+        public int getDivergences() {
+            return divergences;
+        }
+
+        /**
+         * Gets the level the engine reached.
+         *
+         * @return the final level
+         */
+        public int getFinalLevel() {
+            return finalLevel;
+        }
+
+        /**
+         * Gets the wall-clock time the playback took.
+         *
+         * @return the elapsed time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+
+    /**
+     * Recording being played back.
+     */
+    private final SessionRecording recording;
+
+    /**
+     * Creates a replayer for a recording.
+     *
+     * @param recording the recording to play back
+     */
+    public SessionReplayer(SessionRecording recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Plays the recording back into a new engine with the {@link WordGenerator#createConfigured() configured}
+     * word lists, so a game recorded with a custom corpus replays with the same corpus configured.
+     *
+     * @param pace the speed of the playback
+     * @return the outcome of the playback
+     */
+    public Result replay(Pace pace) {
+        VirtualClock clock = new VirtualClock();
+        return replay(new GameEngine(WordGenerator.createConfigured(), clock), clock, pace);
+    }
+
+    /**
+     * Plays the recording back into an engine. The engine must use the given clock and the same
+     * word sources as the recorded game; its current game, if any, is replaced.
+     *
+     * @param engine the engine to drive
+     * @param clock the virtual clock of the engine
+     * @param pace the speed of the playback
+     * @return the outcome of the playback
+     */
+    public Result replay(GameEngine engine, VirtualClock clock, Pace pace) {
+        long wallStart = System.nanoTime();
+        long clockStart = clock.nanoTime();
+        int[] divergences = {0};
+        boolean[] firstWord = {true};
+
+        engine.setLiveValidation(recording.isLiveValidation());
+        engine.start(recording.getSeed());
+
+        recording.forEach((type, offsetNanos, text, count) -> {
+            if (pace == Pace.REAL_TIME) {
+                long waitNanos = wallStart + offsetNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+            }
+            long lagNanos = clockStart + offsetNanos - clock.nanoTime();
+            if (lagNanos > 0) {
+                clock.advanceNanos(lagNanos);
+            }
+
+            switch (type) {
+                case TYPE:
+                    engine.typeText(text);
+                    break;
+                case DELETE:
+                    // The game screen re-evaluates the input after a deletion, which can complete a live word
+                    engine.deleteInput(count);
+                    engine.typeText("");
+                    break;
+                case REPLACE:
+                    engine.replaceInput(text);
+                    break;
+                case SUBMIT:
+                    // The game screen empties the input after a wrong answer without recording it
+                    if (engine.submit(text) == GameEngine.SubmitResult.INCORRECT) {
+                        engine.clearInput();
+                    }
+                    break;
+                case NEXT_WORD:
+                    // The first word is shown by start()
+                    if (firstWord[0]) {
+                        firstWord[0] = false;
+                    } else {
+                        engine.nextWord();
+                    }
+                    if (!text.equals(engine.getCurrentWord())) {
+                        divergences[0]++;
+                    }
+                    break;
+                case LIVE_VALIDATION:
+                    engine.setLiveValidation(count != 0);
+                    break;
+                case PAUSE:
+                    engine.pause();
+                    break;
+                case RESUME:
+                    engine.resume();
+                    break;
+                case END:
+                    engine.end();
+                    break;
+                case TIME_UP:
+                    if (!engine.checkTimeUp()) {
+                        divergences[0]++;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        });
+
+        return new Result(recording.getEventCount(), divergences[0], engine.getCurrentLevel(),
+                System.nanoTime() - wallStart);
+    }
+}
@@ -0,0 +1,57 @@
+package com.fastwriting.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Word source backed by a plain-text file with one entry per line.
+ * The file is streamed line by line the first time the source is used;
+ * blank lines are skipped and surrounding whitespace is trimmed.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class TextFileWordSource extends LazyWordSource {
+
+    /**
+     * The text file holding the entries.
+     */
+    private final Path file;
+
+    /**
+     * Creates a source for the given text file. The file is not read until first use.
+     *
+     * @param file the text file to read
+     */
+    public TextFileWordSource(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<String> load() throws IOException {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return toEntries(lines);
+        }
+    }
+
+    /**
+     * Collects the non-blank, trimmed lines of a stream.
+     *
+     * @param lines the lines to collect
+     * @return the entries found in the lines
+     */
+    static List<String> toEntries(Stream<String> lines) {
+        return lines.map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,164 @@
+package com.fastwriting.model;
+
+/**
+ * Rolling typing speed over the last few seconds, for a live speed display.
+ *
+ * <p>Each input event is stored as a timestamp and a character count in a fixed circular buffer, and
+ * the meter keeps the sum of the counts still inside the window. Recording an event is two array stores
+ * and an addition; reading the speed first drops the events that left the window from the head of the
+ * buffer, so every event is added and removed exactly once and both cost O(1) amortized, however often
+ * the speed is read. Speeds are characters per minute over the window, and words per minute in the
+ * standard {@value WordTimings#CHARACTERS_PER_WORD}-characters-per-word measure. Until the window has
+ * filled, the time since the first event is used instead. Instances are not thread-safe.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class TypingSpeedMeter {
+
+    /**
+     * Default length of the window, ten seconds.
+     */
+    public static final long DEFAULT_WINDOW_NANOS = 10_000_000_000L;
+
+    /**
+     * Shortest time the speed is measured over, so the first keystrokes do not show absurd speeds.
+     */
+    private static final long MIN_SPAN_NANOS = 1_000_000_000L;
+
+    /**
+     * Number of events the buffer holds; a power of two. Faster input is merged into the newest event.
+     */
+    private static final int CAPACITY = 512;
+
+    /**
+     * Number of nanoseconds in one minute.
+     */
+    private static final double NANOS_PER_MINUTE = 60_000_000_000.0;
+
+    /**
+     * Length of the window in nanoseconds.
+     */
+    private final long windowNanos;
+
+    /**
+     * Time of each event in the buffer.
+     */
+    private final long[] times = new long[CAPACITY];
+
+    /**
+     * Number of characters of each event in the buffer.
+     */
+    private final int[] counts = new int[CAPACITY];
+
+    /**
+     * Index of the oldest event in the buffer.
+     */
+    private int head;
+
+    /**
+     * Number of events in the buffer.
+     */
+    private int size;
+
+    /**
+     * Sum of the character counts of the events in the buffer.
+     */
+    private long characters;
+
+    /**
+     * Whether an event was recorded since the last reset.
+     */
+    private boolean started;
+
+    /**
+     * Time of the first event since the last reset; meaningless until one was recorded.
+     */
+    private long firstNanos;
+
+    /**
+     * Creates a meter with the {@link #DEFAULT_WINDOW_NANOS default window}.
+     */
+    public TypingSpeedMeter() {
+        this(DEFAULT_WINDOW_NANOS);
+    }
+
+    /**
+     * Creates a meter.
+     *
+     * @param windowNanos the length of the window in nanoseconds
+     * @throws IllegalArgumentException if the window is shorter than one second
+     */
+    public TypingSpeedMeter(long windowNanos) {
+        if (windowNanos < MIN_SPAN_NANOS) {
+            throw new IllegalArgumentException("The window must be at least one second long: " + windowNanos);
+        }
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * Forgets every event, such as when a new game starts.
+     */
+    public void reset() {
+        head = 0;
+        size = 0;
+        characters = 0;
+        started = false;
+    }
+
+    /**
+     * Records characters entered at a point in time. Times must not go backwards.
+     *
+     * @param nanoTime the monotonic clock time of the input
+     * @param count the number of characters entered, such as 1 for a keystroke or more for a paste
+     */
+    public void record(long nanoTime, int count) {
+        if (count <= 0) {
+            return;
+        }
+        if (!started) {
+            started = true;
+            firstNanos = nanoTime;
+        }
+        characters += count;
+        if (size == CAPACITY) {
+            counts[(head + size - 1) & (CAPACITY - 1)] += count;
+            return;
+        }
+        int tail = (head + size) & (CAPACITY - 1);
+        times[tail] = nanoTime;
+        counts[tail] = count;
+        size++;
+    }
+
+    /**
+     * Gets the typing speed in characters per minute over the window ending at a point in time.
+     *
+     * @param nanoTime the monotonic clock time to measure at
+     * @return the speed in CPM, or 0 if nothing was typed within the window
+     */
+    public double getCharactersPerMinute(long nanoTime) {
+        long windowStart = nanoTime - windowNanos;
+        while (size > 0 && times[head] <= windowStart) {
+            characters -= counts[head];
+            head = (head + 1) & (CAPACITY - 1);
+            size--;
+        }
+        if (characters == 0) {
+            return 0;
+        }
+        long span = Math.max(MIN_SPAN_NANOS, Math.min(windowNanos, nanoTime - firstNanos));
+        return characters * NANOS_PER_MINUTE / span;
+    }
+
+    /**
+     * Gets the typing speed in words per minute over the window ending at a point in time.
+     *
+     * @param nanoTime the monotonic clock time to measure at
+     * @return the speed in WPM, or 0 if nothing was typed within the window
+     */
+    public double getWordsPerMinute(long nanoTime) {
+        return getCharactersPerMinute(nanoTime) / WordTimings.CHARACTERS_PER_WORD;
+    }
+}
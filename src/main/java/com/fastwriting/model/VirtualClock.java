@@ -0,0 +1,79 @@
+package com.fastwriting.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Manually advanced clock for running the game rules without real time passing.
+ * Time only moves when {@link #advance(Duration)} or {@link #advanceNanos(long)} is called.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class VirtualClock implements GameClock {
+
+    /**
+     * Wall-clock date and time corresponding to virtual time zero.
+     */
+    private final LocalDateTime origin;
+
+    /**
+     * Virtual nanoseconds elapsed since the origin.
+     */
+    private long nanos;
+
+    /**
+     * Creates a virtual clock whose wall-clock origin is the current date and time.
+     */
+    public VirtualClock() {
+        this(LocalDateTime.now());
+    }
+
+    /**
+     * Creates a virtual clock starting at the given wall-clock date and time.
+     *
+     * @param origin the wall-clock date and time of virtual time zero
+     */
+    public VirtualClock(LocalDateTime origin) {
+        this.origin = origin;
+        this.nanos = 0;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param nanosToAdd the number of nanoseconds to advance, must not be negative
+     */
+    public void advanceNanos(long nanosToAdd) {
+        if (nanosToAdd < 0) {
+            throw new IllegalArgumentException("A clock cannot move backwards: " + nanosToAdd);
+        }
+        nanos += nanosToAdd;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param duration the amount of time to advance, must not be negative
+     */
+    public void advance(Duration duration) {
+        advanceNanos(duration.toNanos());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nanoTime() {
+        return nanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LocalDateTime now() {
+        return origin.plusNanos(nanos);
+    }
+}
@@ -0,0 +1,99 @@
+package com.fastwriting.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Word source backed by a plain-text frequency list with one entry per line,
+ * optionally followed by a tab and the entry's relative frequency.
+ * Lines without a frequency weigh 1; blank lines are skipped and surrounding whitespace is trimmed.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class WeightedTextFileWordSource extends LazyWordSource {
+
+    /**
+     * The text file holding the entries and their frequencies.
+     */
+    private final Path file;
+
+    /**
+     * Weight of each entry; written by {@link #load()} before the entries are published.
+     */
+    private double[] weights;
+
+    /**
+     * Creates a source for the given frequency list. The file is not read until first use.
+     *
+     * @param file the text file to read
+     */
+    public WeightedTextFileWordSource(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<String> load() throws IOException {
+        List<String> entries = new ArrayList<>();
+        double[] loadedWeights = new double[64];
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                double weight = 1.0;
+                int tab = line.lastIndexOf('\t');
+                if (tab >= 0) {
+                    try {
+                        weight = Double.parseDouble(line.substring(tab + 1).trim());
+                    } catch (NumberFormatException e) {
+                        throw new IOException("Invalid frequency on line " + lineNumber + " of " + file, e);
+                    }
+                    if (!(weight >= 0) || Double.isInfinite(weight)) {
+                        throw new IOException("Invalid frequency on line " + lineNumber + " of " + file);
+                    }
+                    line = line.substring(0, tab);
+                }
+                String entry = line.trim();
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                if (entries.size() == loadedWeights.length) {
+                    loadedWeights = Arrays.copyOf(loadedWeights, loadedWeights.length * 2);
+                }
+                loadedWeights[entries.size()] = weight;
+                entries.add(entry);
+            }
+        }
+        weights = Arrays.copyOf(loadedWeights, entries.size());
+        return entries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isWeighted() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getWeight(int index) {
+        // Loading publishes the entries through a volatile write after the weights are stored
+        size();
+        return weights[index];
+    }
+}
@@ -0,0 +1,280 @@
+package com.fastwriting.model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Read-only, memory-mapped binary word corpus.
+ * Each difficulty tier is stored as an offsets table followed by a UTF-8 blob,
+ * so entries are decoded one at a time on demand instead of being kept on the heap.
+ *
+ * <p>File layout (big-endian):</p>
+ * <pre>
+ * int    magic        'FWGC'
+ * int    version      1
+ * int    tierCount
+ * tierCount x { long sectionStart, int entryCount, int blobLength }
+ * tierCount x section:
+ *     int[entryCount + 1] offsets   (relative to the start of the blob)
+ *     byte[blobLength]     blob     (UTF-8 entries, back to back)
+ * </pre>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class WordCorpus {
+
+    /**
+     * Magic number identifying a corpus file ("FWGC").
+     */
+    private static final int MAGIC = 0x46574743;
+
+    /**
+     * Current version of the corpus file format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Size in bytes of the fixed file header (magic, version, tier count).
+     */
+    private static final int HEADER_SIZE = 12;
+
+    /**
+     * Size in bytes of one tier directory entry.
+     */
+    private static final int DIRECTORY_ENTRY_SIZE = 16;
+
+    /**
+     * Mapped section (offsets table plus blob) of each tier.
+     */
+    private final MappedByteBuffer[] sections;
+
+    /**
+     * Number of entries in each tier.
+     */
+    private final int[] counts;
+
+    /**
+     * Creates a corpus over already mapped tier sections.
+     *
+     * @param sections the mapped section of each tier
+     * @param counts the number of entries in each tier
+     */
+    private WordCorpus(MappedByteBuffer[] sections, int[] counts) {
+        this.sections = sections;
+        this.counts = counts;
+    }
+
+    /**
+     * Opens a corpus file and maps each tier section into memory.
+     * Only the small header is read eagerly; entries are paged in by the OS as they are used.
+     *
+     * @param file the corpus file to open
+     * @return the opened corpus
+     * @throws IOException if the file cannot be read or is not a valid corpus file
+     */
+    public static WordCorpus open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(channel, header, 0);
+            header.flip();
+
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a word corpus file: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported corpus version " + version + " in " + file);
+            }
+            int tierCount = header.getInt();
+            long fileSize = channel.size();
+            long directoryEnd = HEADER_SIZE + (long) tierCount * DIRECTORY_ENTRY_SIZE;
+            if (tierCount <= 0 || directoryEnd > fileSize) {
+                throw new IOException("Corrupt corpus header in " + file);
+            }
+
+            ByteBuffer directory = ByteBuffer.allocate((int) (directoryEnd - HEADER_SIZE));
+            readFully(channel, directory, HEADER_SIZE);
+            directory.flip();
+
+            MappedByteBuffer[] sections = new MappedByteBuffer[tierCount];
+            int[] counts = new int[tierCount];
+            for (int tier = 0; tier < tierCount; tier++) {
+                long sectionStart = directory.getLong();
+                int count = directory.getInt();
+                int blobLength = directory.getInt();
+                long sectionLength = (count + 1L) * Integer.BYTES + blobLength;
+                if (count <= 0 || blobLength < 0 || sectionStart < directoryEnd
+                        || sectionLength > fileSize - sectionStart) {
+                    throw new IOException("Corrupt corpus directory in " + file);
+                }
+                if (sectionLength > Integer.MAX_VALUE) {
+                    // A mapping, and the int offsets of the entries, cannot go past 2 GiB
+                    throw new IOException("Tier " + tier + " exceeds the maximum corpus section size in " + file);
+                }
+                counts[tier] = count;
+                sections[tier] = channel.map(FileChannel.MapMode.READ_ONLY, sectionStart, sectionLength);
+                if (!hasValidOffsets(sections[tier], count, blobLength)) {
+                    throw new IOException("Corrupt offsets table of tier " + tier + " in " + file);
+                }
+            }
+            // The mappings remain valid after the channel is closed
+            return new WordCorpus(sections, counts);
+        }
+    }
+
+    /**
+     * Checks that the offsets table of a section starts at 0, never decreases and ends at the blob length,
+     * so that every entry lies within the blob. Only the table is read, not the blob.
+     *
+     * @param section the mapped section
+     * @param count the number of entries in the section
+     * @param blobLength the length of the blob in bytes
+     * @return true if the offsets are valid
+     */
+    private static boolean hasValidOffsets(MappedByteBuffer section, int count, int blobLength) {
+        int previous = section.getInt(0);
+        if (previous != 0) {
+            return false;
+        }
+        for (int i = 1; i <= count; i++) {
+            int offset = section.getInt(i * Integer.BYTES);
+            if (offset < previous) {
+                return false;
+            }
+            previous = offset;
+        }
+        return previous == blobLength;
+    }
+
+    /**
+     * Writes the given tiers into a corpus file, replacing any existing file.
+     * Every tier must have at least one entry.
+     *
+     * @param file the corpus file to write
+     * @param tiers the entries of each tier, in tier order
+     * @throws IOException if the file cannot be written, or a tier has no entries or is too large
+     */
+    public static void write(Path file, List<? extends List<String>> tiers) throws IOException {
+        int tierCount = tiers.size();
+        if (tierCount == 0) {
+            throw new IOException("A word corpus needs at least one tier");
+        }
+        byte[][][] encoded = new byte[tierCount][][];
+        long[] sectionStarts = new long[tierCount];
+        int[] blobLengths = new int[tierCount];
+
+        long position = HEADER_SIZE + (long) tierCount * DIRECTORY_ENTRY_SIZE;
+        for (int tier = 0; tier < tierCount; tier++) {
+            List<String> entries = tiers.get(tier);
+            if (entries.isEmpty()) {
+                throw new IOException("Tier " + tier + " of a word corpus has no entries");
+            }
+            encoded[tier] = new byte[entries.size()][];
+            long blobLength = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                encoded[tier][i] = entries.get(i).getBytes(StandardCharsets.UTF_8);
+                blobLength += encoded[tier][i].length;
+            }
+            if ((entries.size() + 1L) * Integer.BYTES + blobLength > Integer.MAX_VALUE) {
+                throw new IOException("Tier " + tier + " exceeds the maximum corpus section size");
+            }
+            sectionStarts[tier] = position;
+            blobLengths[tier] = (int) blobLength;
+            position += (entries.size() + 1L) * Integer.BYTES + blobLength;
+        }
+
+        try (OutputStream fileOut = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(tierCount);
+            for (int tier = 0; tier < tierCount; tier++) {
+                out.writeLong(sectionStarts[tier]);
+                out.writeInt(encoded[tier].length);
+                out.writeInt(blobLengths[tier]);
+            }
+            for (byte[][] entries : encoded) {
+                int offset = 0;
+                out.writeInt(offset);
+                for (byte[] entry : entries) {
+                    offset += entry.length;
+                    out.writeInt(offset);
+                }
+                for (byte[] entry : entries) {
+                    out.write(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of tiers stored in this corpus.
+     *
+     * @return the tier count
+     */
+    public int getTierCount() {
+        return counts.length;
+    }
+
+    /**
+     * Gets the number of entries stored in a tier.
+     *
+     * @param tier the tier index
+     * @return the number of entries in the tier
+     */
+    public int size(int tier) {
+        return counts[tier];
+    }
+
+    /**
+     * Decodes a single entry from the mapped file.
+     *
+     * @param tier the tier index
+     * @param index the entry index within the tier
+     * @return the decoded word or phrase
+     */
+    public String get(int tier, int index) {
+        int count = counts[tier];
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for tier size " + count);
+        }
+        MappedByteBuffer section = sections[tier];
+        int blobStart = (count + 1) * Integer.BYTES;
+        int start = section.getInt(index * Integer.BYTES);
+        int end = section.getInt((index + 1) * Integer.BYTES);
+
+        byte[] bytes = new byte[end - start];
+        section.get(blobStart + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads from the channel until the buffer is full.
+     *
+     * @param channel the channel to read from
+     * @param buffer the buffer to fill
+     * @param position the file position to start reading at
+     * @throws IOException if the file ends before the buffer is full
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of corpus file");
+            }
+            position += read;
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package com.fastwriting.model;
 
-import java.util.Arrays;
+import com.fastwriting.monitoring.WordGeneratedEvent;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Generates random words and phrases for the Fast Writing game.
  * Provides different difficulty levels with increasingly complex content.
  *
+ * <p>Every tier draws from its own random stream derived from the generator's seed, so a seed fixes
+ * the sequence of words of each tier no matter how draws of different tiers interleave.
+ * Unless {@link #setSeed(long) set}, the seed is chosen at random.</p>
+ *
  * @author [William Rooselbelt May Barreto]
  * @version 2.0
  * @since 2025
@@ -15,131 +27,249 @@ import java.util.Random;
 public class WordGenerator {
 
     /**
-     * Random number generator for selecting words and phrases.
+     * Number of difficulty tiers, from easy words to complex phrases.
+     */
+    private static final int TIER_COUNT = 6;
+
+    /**
+     * Default number of recently drawn entries of a tier that cannot come up again.
+     */
+    public static final int DEFAULT_NO_REPEAT_WINDOW = 8;
+
+    /**
+     * System property naming a corpus file, or a directory of tier lists, the game draws its words from
+     * instead of the built-in lists.
      */
-    private final Random random;
+    public static final String CORPUS_PROPERTY = "fastwriting.corpus";
 
     /**
-     * List of easy words for beginner levels (1-10).
+     * Value mixed into the date to derive the seed of a daily challenge.
      */
-    private final List<String> easyWords;
+    private static final long DAILY_SEED_SALT = 0x46617374_57726974L;
 
     /**
-     * List of medium difficulty words for intermediate levels (11-20).
+     * Seed the tier streams were last derived from.
      */
-    private final List<String> mediumWords;
+    private volatile long seed;
 
     /**
-     * List of hard words for advanced levels (21-30).
+     * Source of the words and phrases of each difficulty tier, from easy words (index 0)
+     * to complex phrases (index 5). Sources load their content on first use.
      */
-    private final List<String> hardWords;
+    private final WordSource[] tierSources;
 
     /**
-     * List of expert words for challenging levels (31-40).
+     * Weighted sampler of each tier, excluding recently drawn entries.
      */
-    private final List<String> expertWords;
+    private final WordSampler[] tierSamplers;
 
     /**
-     * List of short phrases for high-level gameplay (41-50).
+     * Number of recently drawn entries of a tier that cannot come up again.
      */
-    private final List<String> shortPhrases;
+    private int noRepeatWindow = DEFAULT_NO_REPEAT_WINDOW;
 
     /**
-     * List of complex phrases for master levels (51+).
+     * Constructs a WordGenerator backed by a binary corpus file.
+     * Entries are decoded from the mapped file on demand, so startup time and heap
+     * use do not grow with the size of the corpus.
+     *
+     * @param corpusFile the corpus file with six tiers, easiest first
+     * @throws IOException if the corpus file cannot be opened or has the wrong number of tiers
      */
-    private final List<String> complexPhrases;
+    public WordGenerator(Path corpusFile) throws IOException {
+        WordCorpus corpus = WordCorpus.open(corpusFile);
+        if (corpus.getTierCount() != TIER_COUNT) {
+            throw new IOException("Expected " + TIER_COUNT + " tiers in " + corpusFile
+                    + " but found " + corpus.getTierCount());
+        }
+
+        tierSources = new WordSource[TIER_COUNT];
+        for (int tier = 0; tier < TIER_COUNT; tier++) {
+            tierSources[tier] = new CorpusWordSource(corpus, tier);
+        }
+        tierSamplers = createSamplers(new SplittableRandom().nextLong());
+    }
 
     /**
-     * Constructs a new WordGenerator and initializes word lists.
+     * Constructs a WordGenerator that delegates each difficulty tier to the given source.
+     * Sources are only asked for content once the game reaches their level range.
+     *
+     * @param sources the six tier sources, from easy words to complex phrases
+     */
+    public WordGenerator(List<? extends WordSource> sources) {
+        if (sources.size() != TIER_COUNT) {
+            throw new IllegalArgumentException("Expected " + TIER_COUNT + " tier sources but got " + sources.size());
+        }
+        tierSources = sources.toArray(new WordSource[0]);
+        tierSamplers = createSamplers(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a new WordGenerator using the built-in word lists.
+     * Each list is only built the first time its level range is reached.
      */
     public WordGenerator() {
-        random = new Random();
-
-        easyWords = Arrays.asList(
-                "cat", "dog", "sun", "moon", "book", "tree", "car", "home", "love", "life",
-                "time", "water", "fire", "earth", "music", "dance", "smile", "happy", "peace", "light",
-                "blue", "green", "house", "phone", "work", "play", "food", "hand", "face", "door",
-                "window", "chair", "table", "paper", "money", "world", "school", "friend", "family", "heart"
-        );
-
-        mediumWords = Arrays.asList(
-                "computer", "keyboard", "programming", "development", "technology", "innovation",
-                "creativity", "challenge", "adventure", "discovery", "knowledge", "education",
-                "communication", "friendship", "beautiful", "wonderful", "amazing", "fantastic",
-                "incredible", "extraordinary", "magnificent", "spectacular", "brilliant", "excellent",
-                "important", "different", "interesting", "experience", "environment", "government",
-                "information", "organization", "performance", "opportunity", "community", "application",
-                "management", "relationship", "understanding", "responsibility", "international", "professional"
-        );
-
-        hardWords = Arrays.asList(
-                "sophisticated", "unprecedented", "extraordinary", "incomprehensible", "revolutionary",
-                "philosophical", "psychological", "technological", "entrepreneurial", "constitutional",
-                "interdisciplinary", "multidimensional", "internationally", "environmentally",
-                "characteristically", "uncharacteristically", "disproportionately", "overwhelmingly",
-                "indistinguishable", "incontrovertible", "straightforwardness", "counterproductive",
-                "incompatibility", "misunderstanding", "disappointment", "accomplishment", "establishment",
-                "entertainment", "advertisement", "recommendation", "transformation", "investigation",
-                "collaboration", "concentration", "demonstration", "experimentation", "implementation",
-                "communication", "transportation", "administration", "rehabilitation", "representation"
-        );
-
-        expertWords = Arrays.asList(
-                "antidisestablishmentarianism", "floccinaucinihilipilification", "pneumonoultramicroscopicsilicovolcanoconiosiss",
-                "supercalifragilisticexpialidocious", "hippopotomonstrosesquippedaliophobia", "pseudopseudohypoparathyroidism",
-                "incomprehensibilities", "immunoelectrophoresis", "psychopharmacologically", "radioimmunoelectrophoresis",
-                "tetraiodophenolphthalein", "hepaticocholangiocholecystenterostomies", "spectrophotometrically", "electroencephalograph",
-                "esophagogastroduodenoscopy", "electrocardiographically", "immunoelectrophoretically", "psychoneuroendocrinology",
-                "pneumoencephalographically", "electroretinographically", "magnetohydrodynamically", "crystallographically",
-                "electroencephalographically", "psychopharmacologically", "immunoelectrophoretically", "spectrophotometrically",
-                "electrocardiographically", "pneumoencephalographically", "electroretinographically", "magnetohydrodynamically"
-        );
-
-        shortPhrases = Arrays.asList(
-                "The quick brown fox jumps over the lazy dog.",
-                "To be or not to be, that is the question.",
-                "A journey of a thousand miles begins with a single step.",
-                "The only thing we have to fear is fear itself.",
-                "Ask not what your country can do for you.",
-                "I have a dream that one day this nation will rise up.",
-                "That's one small step for man, one giant leap for mankind.",
-                "The way to get started is to quit talking and begin doing.",
-                "Life is what happens to you while you're busy making other plans.",
-                "The future belongs to those who believe in the beauty of their dreams.",
-                "It is during our darkest moments that we must focus to see the light.",
-                "Success is not final, failure is not fatal: it is the courage to continue.",
-                "The greatest glory in living lies not in never falling, but in rising every time we fall.",
-                "In the end, we will remember not the words of our enemies, but the silence of our friends.",
-                "Darkness cannot drive out darkness: only light can do that. Hate cannot drive out hate: only love can do that.",
-                "Be yourself; everyone else is already taken.",
-                "Two things are infinite: the universe and human stupidity; and I'm not sure about the universe.",
-                "A room without books is like a body without a soul.",
-                "You only live once, but if you do it right, once is enough.",
-                "If you want to know what a man's like, take a good look at how he treats his inferiors, not his equals."
-        );
-
-        complexPhrases = Arrays.asList(
-                "Programming is the art of telling another human what one wants the computer to do.",
-                "Innovation distinguishes between a leader and a follower in today's competitive marketplace.",
-                "The complexity of modern software development requires a deep understanding of multiple programming paradigms.",
-                "Artificial intelligence and machine learning are revolutionizing the way we approach problem-solving in various industries.",
-                "The implementation of advanced algorithms requires both theoretical knowledge and practical programming experience.",
-                "Object-oriented programming principles such as encapsulation, inheritance, and polymorphism form the foundation of modern software design.",
-                "Database management systems play a crucial role in storing, retrieving, and managing large amounts of structured and unstructured data.",
-                "User interface design must balance functionality with aesthetics to create engaging and intuitive user experiences.",
-                "Software testing methodologies including unit testing, integration testing, and system testing ensure the reliability and quality of applications.",
-                "The emergence of cloud computing has transformed the way organizations deploy, scale, and maintain their software infrastructure.",
-                "Cybersecurity threats continue to evolve, requiring constant vigilance and advanced security measures to protect sensitive information.",
-                "Agile development methodologies emphasize iterative development, collaboration, and adaptability to changing requirements throughout the project lifecycle.",
-                "Data structures and algorithms form the fundamental building blocks of efficient and scalable software solutions.",
-                "The Internet of Things (IoT) connects everyday objects to the internet, enabling smart homes, cities, and industrial automation.",
-                "Version control systems like Git enable teams of developers to collaborate effectively on large-scale software projects.",
-                "Microservices architecture breaks down monolithic applications into smaller, independently deployable services for improved scalability and maintainability.",
-                "Responsive web design ensures that websites and applications provide optimal viewing experiences across a wide range of devices and screen sizes.",
-                "Big data analytics involves processing and analyzing large volumes of data to extract meaningful insights and support data-driven decision making.",
-                "DevOps practices integrate software development and IT operations to improve collaboration, automation, and continuous delivery of software products.",
-                "Machine learning algorithms can automatically learn and improve from experience without being explicitly programmed for every possible scenario."
-        );
+        tierSources = new WordSource[TIER_COUNT];
+        for (int tier = 0; tier < TIER_COUNT; tier++) {
+            tierSources[tier] = new BuiltInWordSource(tier);
+        }
+        tierSamplers = createSamplers(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates the generator the game uses, from the corpus file or tier directory named by
+     * {@value #CORPUS_PROPERTY}, or from the built-in word lists if the property is not set or the
+     * corpus cannot be opened. See {@link #fromDirectory(Path)} for the layout of a tier directory.
+     *
+     * @return the configured generator
+     */
+    public static WordGenerator createConfigured() {
+        String configured = System.getProperty(CORPUS_PROPERTY);
+        if (configured == null || configured.isBlank()) {
+            return new WordGenerator();
+        }
+        try {
+            Path corpus = Paths.get(configured);
+            return Files.isDirectory(corpus) ? fromDirectory(corpus) : new WordGenerator(corpus);
+        } catch (IOException | InvalidPathException e) {
+            e.printStackTrace();
+            return new WordGenerator();
+        }
+    }
+
+    /**
+     * Creates a generator from a directory holding the lists of some or all tiers, numbered 1 to 6
+     * from easy words to complex phrases. Tier n is read from the subdirectory "tier<i>n</i>" (every file
+     * in it, one entry per line), else from "tier<i>n</i>.tsv" (one entry per line followed by a tab and
+     * its frequency), else from "tier<i>n</i>.txt" (one entry per line). Tiers with none of these use
+     * their built-in list. Files are only read once the game reaches their level range.
+     *
+     * @param directory the directory of tier lists
+     * @return the generator
+     * @throws IOException if the directory holds no list of any tier
+     */
+    public static WordGenerator fromDirectory(Path directory) throws IOException {
+        List<WordSource> sources = new ArrayList<>(TIER_COUNT);
+        boolean found = false;
+        for (int tier = 0; tier < TIER_COUNT; tier++) {
+            String name = "tier" + (tier + 1);
+            Path subdirectory = directory.resolve(name);
+            Path weightedFile = directory.resolve(name + ".tsv");
+            Path textFile = directory.resolve(name + ".txt");
+            if (Files.isDirectory(subdirectory)) {
+                sources.add(WordSource.ofDirectory(subdirectory));
+            } else if (Files.isRegularFile(weightedFile)) {
+                sources.add(WordSource.ofWeightedFile(weightedFile));
+            } else if (Files.isRegularFile(textFile)) {
+                sources.add(WordSource.ofFile(textFile));
+            } else {
+                sources.add(new BuiltInWordSource(tier));
+                continue;
+            }
+            found = true;
+        }
+        if (!found) {
+            throw new IOException("No tier lists (tier1 to tier" + TIER_COUNT + ") in " + directory);
+        }
+        return new WordGenerator(sources);
+    }
+
+    /**
+     * Constructs a generator drawing from the given samplers.
+     *
+     * @param tierSources the six tier sources
+     * @param tierSamplers the sampler of each tier
+     * @param seed the seed reported by the generator
+     * @param noRepeatWindow the no-repeat window of the samplers
+     */
+    private WordGenerator(WordSource[] tierSources, WordSampler[] tierSamplers, long seed, int noRepeatWindow) {
+        this.tierSources = tierSources;
+        this.tierSamplers = tierSamplers;
+        this.seed = seed;
+        this.noRepeatWindow = noRepeatWindow;
+    }
+
+    /**
+     * Creates the sampler of each tier. Their tables are built on the first draw of the tier.
+     *
+     * @param seed the seed the tier streams are derived from
+     * @return the tier samplers
+     */
+    private WordSampler[] createSamplers(long seed) {
+        this.seed = seed;
+        long[] tierSeeds = deriveTierSeeds(seed);
+        WordSampler[] samplers = new WordSampler[TIER_COUNT];
+        for (int tier = 0; tier < TIER_COUNT; tier++) {
+            samplers[tier] = new WordSampler(tierSources[tier], noRepeatWindow, tierSeeds[tier]);
+        }
+        return samplers;
+    }
+
+    /**
+     * Derives the seed of each tier's stream from the generator's seed.
+     *
+     * @param seed the generator's seed
+     * @return one seed per tier
+     */
+    private static long[] deriveTierSeeds(long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        long[] tierSeeds = new long[TIER_COUNT];
+        for (int tier = 0; tier < TIER_COUNT; tier++) {
+            tierSeeds[tier] = root.nextLong();
+        }
+        return tierSeeds;
+    }
+
+    /**
+     * Restarts every tier from the given seed and forgets the recently drawn words.
+     * Afterwards each level produces the same sequence as any other generator with the same sources,
+     * no-repeat window and seed.
+     *
+     * @param seed the seed
+     */
+    public void setSeed(long seed) {
+        long[] tierSeeds = deriveTierSeeds(seed);
+        for (int tier = 0; tier < TIER_COUNT; tier++) {
+            tierSamplers[tier].reseed(tierSeeds[tier]);
+        }
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the seed the tier streams were last derived from.
+     * Generators created by {@link #split()} report the seed of the generator they were split from.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Creates an independent generator over the same sources, for example for one thread of a
+     * parallel simulation. The split generator shares the sources and alias tables of this one but
+     * draws from streams split off this generator's streams, so splitting a freshly seeded generator
+     * always yields the same sequence of generators.
+     *
+     * @return a new generator with its own random streams and an empty recent history
+     */
+    public WordGenerator split() {
+        WordSampler[] samplers = new WordSampler[TIER_COUNT];
+        for (int tier = 0; tier < TIER_COUNT; tier++) {
+            samplers[tier] = tierSamplers[tier].split();
+        }
+        return new WordGenerator(tierSources, samplers, seed, noRepeatWindow);
+    }
+
+    /**
+     * Gets the seed of the shared challenge of a day. Everyone playing the challenge of the same
+     * date gets the same words, without any server involved.
+     *
+     * @param date the date of the challenge, usually today's date in UTC
+     * @return the seed of the day's challenge
+     */
+    public static long dailySeed(LocalDate date) {
+        return new SplittableRandom(date.toEpochDay() ^ DAILY_SEED_SALT).nextLong();
     }
 
     /**
@@ -150,30 +280,107 @@ public class WordGenerator {
      * @return a random word or phrase appropriate for the level
      */
     public String getRandomWord(int level) {
+        return getRandomWordFromTier(getTierIndex(level));
+    }
+
+    /**
+     * Returns a random word or phrase from a difficulty tier, drawn in constant time according to the
+     * weights of the tier's source. None of the last {@link #getNoRepeatWindow()} entries drawn from the
+     * tier comes up again, as long as the tier has more entries than that.
+     *
+     * @param tier the tier index, from 0 (easy words) to 5 (complex phrases)
+     * @return a random entry of the tier
+     */
+    public String getRandomWordFromTier(int tier) {
+        WordGeneratedEvent event = new WordGeneratedEvent();
+        event.begin();
+        String word = tierSamplers[tier].next();
+        event.commit(tier, word.length());
+        return word;
+    }
+
+    /**
+     * Gets the number of recently drawn entries of a tier that cannot come up again.
+     *
+     * @return the no-repeat window
+     */
+    public int getNoRepeatWindow() {
+        return noRepeatWindow;
+    }
+
+    /**
+     * Sets the number of recently drawn entries of a tier that cannot come up again.
+     * Tiers with fewer entries exclude all but one of them.
+     *
+     * @param noRepeatWindow the no-repeat window, 0 to allow immediate repeats
+     */
+    public void setNoRepeatWindow(int noRepeatWindow) {
+        for (WordSampler sampler : tierSamplers) {
+            sampler.setWindow(noRepeatWindow);
+        }
+        this.noRepeatWindow = noRepeatWindow;
+    }
+
+    /**
+     * Maps a game level to its difficulty tier index.
+     *
+     * @param level the current game level
+     * @return the tier index, from 0 (easy words) to 5 (complex phrases)
+     */
+    public int getTierIndex(int level) {
         if (level <= 10) {
-            return getRandomFromList(easyWords);
+            return 0;
         } else if (level <= 20) {
-            return getRandomFromList(mediumWords);
+            return 1;
         } else if (level <= 30) {
-            return getRandomFromList(hardWords);
+            return 2;
         } else if (level <= 40) {
-            return getRandomFromList(expertWords);
+            return 3;
         } else if (level <= 50) {
-            return getRandomFromList(shortPhrases);
+            return 4;
         } else {
-            return getRandomFromList(complexPhrases);
+            return 5;
         }
     }
 
     /**
-     * Selects a random element from the provided list.
+     * Gets the number of difficulty tiers.
      *
-     * @param list the list to select from
-     * @return a random element from the list
+     * @return the number of tiers
      */
-    private String getRandomFromList(List<String> list) {
-        int index = random.nextInt(list.size());
-        return list.get(index);
+    public int getTierCount() {
+        return TIER_COUNT;
+    }
+
+    /**
+     * Gets the number of entries available in a difficulty tier.
+     * Lazy sources load the tier if it has not been used yet.
+     *
+     * @param tier the tier index
+     * @return the number of entries in the tier
+     */
+    private int getTierSize(int tier) {
+        return tierSources[tier].size();
+    }
+
+    /**
+     * Writes the built-in word lists to a binary corpus file.
+     * The resulting file can be opened with {@link #WordGenerator(Path)}.
+     *
+     * @param corpusFile the corpus file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void exportBuiltInCorpus(Path corpusFile) throws IOException {
+        List<List<String>> tiers = new ArrayList<>();
+        for (int tier = 0; tier < TIER_COUNT; tier++) {
+            WordSource source = new BuiltInWordSource(tier);
+            List<String> entries = new ArrayList<>(source.size());
+            for (int i = 0; i < source.size(); i++) {
+                entries.add(source.get(i));
+            }
+            tiers.add(entries);
+        }
+        WordCorpus.write(corpusFile, tiers);
     }
 
     /**
@@ -182,7 +389,7 @@ public class WordGenerator {
      * @return the count of easy words
      */
     public int getEasyWordsCount() {
-        return easyWords.size();
+        return getTierSize(0);
     }
 
     /**
@@ -191,7 +398,7 @@ public class WordGenerator {
      * @return the count of medium words
      */
     public int getMediumWordsCount() {
-        return mediumWords.size();
+        return getTierSize(1);
     }
 
     /**
@@ -200,7 +407,7 @@ public class WordGenerator {
      * @return the count of hard words
      */
     public int getHardWordsCount() {
-        return hardWords.size();
+        return getTierSize(2);
     }
 
     /**
@@ -209,7 +416,7 @@ public class WordGenerator {
      * @return the count of expert words
      */
     public int getExpertWordsCount() {
-        return expertWords.size();
+        return getTierSize(3);
     }
 
     /**
@@ -218,7 +425,7 @@ public class WordGenerator {
      * @return the count of short phrases
      */
     public int getShortPhrasesCount() {
-        return shortPhrases.size();
+        return getTierSize(4);
     }
 
     /**
@@ -227,7 +434,7 @@ public class WordGenerator {
      * @return the count of complex phrases
      */
     public int getComplexPhrasesCount() {
-        return complexPhrases.size();
+        return getTierSize(5);
     }
 
     /**
@@ -258,7 +465,10 @@ public class WordGenerator {
      * @return the total count of all words and phrases
      */
     public int getTotalContentCount() {
-        return easyWords.size() + mediumWords.size() + hardWords.size() +
-                expertWords.size() + shortPhrases.size() + complexPhrases.size();
+        int total = 0;
+        for (int tier = 0; tier < TIER_COUNT; tier++) {
+            total += getTierSize(tier);
+        }
+        return total;
     }
 }
\ No newline at end of file
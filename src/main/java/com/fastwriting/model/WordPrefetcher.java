@@ -0,0 +1,251 @@
+package com.fastwriting.model;
+
+import com.fastwriting.monitoring.WordTakenEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Keeps a bounded queue of prepared words ready for each difficulty tier, filled in the background.
+ *
+ * <p>Words only depend on the tier of a level, so the prefetcher keeps up to {@code depth} words
+ * for the tier of the current level and the tier of the next one. Taking a word schedules a refill
+ * on the executor; if a queue is ever empty the word is generated on the calling thread, so callers
+ * never block on the background work.</p>
+ *
+ * <p>Each tier's queue is guarded by its own lock, and words are generated and taken under that lock,
+ * so words come out of a tier in exactly the order the generator produced them.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class WordPrefetcher {
+
+    /**
+     * Default number of words kept ready per tier.
+     */
+    public static final int DEFAULT_DEPTH = 4;
+
+    /**
+     * Shared background thread filling the queues of the game's prefetchers.
+     */
+    private static final ExecutorService BACKGROUND_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "word-prefetcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Generator producing the words.
+     */
+    private final WordGenerator wordGenerator;
+
+    /**
+     * Maximum number of words kept per tier.
+     */
+    private final int depth;
+
+    /**
+     * Executor running the refills.
+     */
+    private final Executor executor;
+
+    /**
+     * Prepared words per tier, oldest first. Each queue is also the lock of its tier.
+     */
+    private final List<ArrayDeque<PreparedWord>> queues;
+
+    /**
+     * Whether a refill of each tier is already scheduled.
+     */
+    private final boolean[] refillScheduled;
+
+    /**
+     * Creates a prefetcher filling its queues on the shared background thread.
+     *
+     * @param wordGenerator the generator producing the words
+     */
+    public WordPrefetcher(WordGenerator wordGenerator) {
+        this(wordGenerator, DEFAULT_DEPTH, BACKGROUND_EXECUTOR);
+    }
+
+    /**
+     * Creates a prefetcher.
+     *
+     * @param wordGenerator the generator producing the words
+     * @param depth the maximum number of words kept per tier
+     * @param executor the executor running the refills; {@code Runnable::run} refills synchronously
+     */
+    public WordPrefetcher(WordGenerator wordGenerator, int depth, Executor executor) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Prefetch depth must be positive: " + depth);
+        }
+        this.wordGenerator = wordGenerator;
+        this.depth = depth;
+        this.executor = executor;
+
+        int tierCount = wordGenerator.getTierCount();
+        this.queues = new ArrayList<>(tierCount);
+        this.refillScheduled = new boolean[tierCount];
+        for (int tier = 0; tier < tierCount; tier++) {
+            queues.add(new ArrayDeque<>(depth));
+        }
+    }
+
+    /**
+     * Gets the generator producing the words.
+     *
+     * @return the word generator
+     */
+    public WordGenerator getWordGenerator() {
+        return wordGenerator;
+    }
+
+    /**
+     * Takes the next word for a level and schedules refills for that level and the next one.
+     *
+     * @param level the game level
+     * @return the prepared word
+     */
+    public PreparedWord next(int level) {
+        WordTakenEvent event = new WordTakenEvent();
+        event.begin();
+        int tier = wordGenerator.getTierIndex(level);
+        PreparedWord word;
+        boolean prefetched;
+        ArrayDeque<PreparedWord> queue = queues.get(tier);
+        synchronized (queue) {
+            word = queue.poll();
+            prefetched = word != null;
+            if (word == null) {
+                word = generate(tier);
+            }
+        }
+        prefetch(level);
+        event.commit(level, tier, prefetched);
+        return word;
+    }
+
+    /**
+     * Schedules refills of the tiers of a level and of the level after it.
+     *
+     * @param level the game level about to be played
+     */
+    public void prefetch(int level) {
+        int tier = wordGenerator.getTierIndex(level);
+        int nextTier = wordGenerator.getTierIndex(level + 1);
+        scheduleRefill(tier);
+        if (nextTier != tier) {
+            scheduleRefill(nextTier);
+        }
+    }
+
+    /**
+     * Restarts the generator from a seed and drops every prepared word, so the words taken afterwards
+     * are exactly the sequence the seed produces. Refills of the current and next level are scheduled again
+     * by the next call to {@link #next(int)} or {@link #prefetch(int)}.
+     *
+     * @param seed the seed
+     */
+    public void reseed(long seed) {
+        reseedLocked(0, seed);
+    }
+
+    /**
+     * Takes the locks of the tiers from the given one upwards, then reseeds the generator and clears the queues.
+     * Holding every tier's lock keeps refills from adding words drawn before the new seed took effect.
+     *
+     * @param tier the first tier whose lock is not held yet
+     * @param seed the seed
+     */
+    private void reseedLocked(int tier, long seed) {
+        if (tier == queues.size()) {
+            wordGenerator.setSeed(seed);
+            for (ArrayDeque<PreparedWord> queue : queues) {
+                queue.clear();
+            }
+            return;
+        }
+        synchronized (queues.get(tier)) {
+            reseedLocked(tier + 1, seed);
+        }
+    }
+
+    /**
+     * Gets the number of words currently ready for a tier.
+     *
+     * @param tier the tier index
+     * @return the number of prepared words queued
+     */
+    public int getReadyCount(int tier) {
+        ArrayDeque<PreparedWord> queue = queues.get(tier);
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Schedules a refill of a tier unless one is already pending.
+     *
+     * @param tier the tier index
+     */
+    private void scheduleRefill(int tier) {
+        ArrayDeque<PreparedWord> queue = queues.get(tier);
+        synchronized (queue) {
+            if (refillScheduled[tier] || queue.size() >= depth) {
+                return;
+            }
+            refillScheduled[tier] = true;
+        }
+        try {
+            executor.execute(() -> refill(tier));
+        } catch (RejectedExecutionException e) {
+            synchronized (queue) {
+                refillScheduled[tier] = false;
+            }
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Fills the queue of a tier up to the prefetch depth.
+     *
+     * @param tier the tier index
+     */
+    private void refill(int tier) {
+        ArrayDeque<PreparedWord> queue = queues.get(tier);
+        try {
+            while (true) {
+                synchronized (queue) {
+                    if (queue.size() >= depth) {
+                        refillScheduled[tier] = false;
+                        return;
+                    }
+                    queue.add(generate(tier));
+                }
+            }
+        } catch (RuntimeException e) {
+            // The next take generates on the caller thread and reports the failure there
+            synchronized (queue) {
+                refillScheduled[tier] = false;
+            }
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Generates and prepares one word of a tier. Called with the tier's lock held.
+     *
+     * @param tier the tier index
+     * @return the prepared word
+     */
+    private PreparedWord generate(int tier) {
+        return new PreparedWord(wordGenerator.getRandomWordFromTier(tier));
+    }
+}
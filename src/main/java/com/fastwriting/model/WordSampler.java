@@ -0,0 +1,235 @@
+package com.fastwriting.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws entries of one word source by weight while keeping recently drawn entries out.
+ *
+ * <p>The alias tables of the source are built on the first draw, after which every draw takes constant
+ * time regardless of the size of the source. The last {@code window} drawn indices are kept in a small
+ * ring and a draw that hits one of them is retried; the window is capped one below the size of the
+ * source so a fresh entry always exists. If the remaining entries are so rare that every retry lands
+ * in the window, the last draw is accepted as a repeat rather than searching the whole source.</p>
+ *
+ * <p>Each sampler draws from its own {@link SplittableRandom}, so the sequence of a seeded sampler
+ * only depends on its seed, and {@link #split()} hands out independent samplers for parallel use.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class WordSampler {
+
+    /**
+     * Number of draws tried before a recently drawn entry is accepted.
+     */
+    private static final int MAX_ATTEMPTS = 32;
+
+    /**
+     * Source the entries are drawn from.
+     */
+    private final WordSource source;
+
+    /**
+     * Random number generator of this sampler.
+     */
+    private SplittableRandom random;
+
+    /**
+     * Alias tables of the source, or null until the first draw.
+     */
+    private AliasSampler sampler;
+
+    /**
+     * Number of recently drawn entries excluded from the next draw, as configured.
+     */
+    private int window;
+
+    /**
+     * Recently drawn indices, as a ring; only the first {@link #recentCount} slots are used.
+     */
+    private int[] recent = new int[0];
+
+    /**
+     * Number of valid indices in {@link #recent}.
+     */
+    private int recentCount;
+
+    /**
+     * Slot of {@link #recent} the next drawn index is written to.
+     */
+    private int recentNext;
+
+    /**
+     * Creates a sampler for a source. The source is not touched until the first draw.
+     *
+     * @param source the source to draw from
+     * @param window the number of recently drawn entries to exclude from each draw
+     * @param seed the seed of the sampler's random number generator
+     */
+    public WordSampler(WordSource source, int window, long seed) {
+        this(source, null, window, new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a sampler sharing the tables of another one.
+     *
+     * @param source the source to draw from
+     * @param sampler the alias tables of the source, or null to build them on the first draw
+     * @param window the number of recently drawn entries to exclude from each draw
+     * @param random the random number generator of the sampler
+     */
+    private WordSampler(WordSource source, AliasSampler sampler, int window, SplittableRandom random) {
+        this.source = source;
+        this.sampler = sampler;
+        this.random = random;
+        setWindow(window);
+    }
+
+    /**
+     * Restarts the sampler from a seed and forgets the recently drawn entries,
+     * so the draws that follow are the same as those of a new sampler with that seed.
+     *
+     * @param seed the new seed
+     */
+    public synchronized void reseed(long seed) {
+        random = new SplittableRandom(seed);
+        recentCount = 0;
+        recentNext = 0;
+    }
+
+    /**
+     * Creates an independent sampler over the same source, sharing the alias tables of this one.
+     * Its random number generator is split off this sampler's, so a seeded sampler
+     * always splits into the same sequence of samplers.
+     *
+     * @return a new sampler with an empty recent history
+     */
+    public synchronized WordSampler split() {
+        ensureTables();
+        return new WordSampler(source, sampler, window, random.split());
+    }
+
+    /**
+     * Changes the number of recently drawn entries excluded from each draw.
+     * Shrinking the window forgets the oldest entries.
+     *
+     * @param window the number of recent entries to exclude, 0 to allow immediate repeats
+     */
+    public synchronized void setWindow(int window) {
+        if (window < 0) {
+            throw new IllegalArgumentException("No-repeat window must not be negative: " + window);
+        }
+        this.window = window;
+        if (sampler != null) {
+            resizeRecent();
+        }
+    }
+
+    /**
+     * Draws the index of an entry that is not among the recently drawn ones.
+     *
+     * @return the index of the drawn entry
+     */
+    public synchronized int nextIndex() {
+        ensureTables();
+
+        int index = sampler.sample(random);
+        for (int attempt = 1; attempt < MAX_ATTEMPTS && isRecent(index); attempt++) {
+            index = sampler.sample(random);
+        }
+        remember(index);
+        return index;
+    }
+
+    /**
+     * Draws an entry that is not among the recently drawn ones.
+     *
+     * @return the drawn word or phrase
+     */
+    public String next() {
+        return source.get(nextIndex());
+    }
+
+    /**
+     * Builds the alias tables and the ring of recent indices on first use.
+     */
+    private void ensureTables() {
+        if (sampler == null) {
+            sampler = buildSampler(source);
+        }
+        resizeRecent();
+    }
+
+    /**
+     * Builds the alias tables of a source, skipping the weights of unweighted sources.
+     *
+     * @param source the source to build the tables for
+     * @return the sampler over the entries of the source
+     */
+    private static AliasSampler buildSampler(WordSource source) {
+        int size = source.size();
+        if (size == 0) {
+            throw new IllegalStateException("Word source has no entries");
+        }
+        if (!source.isWeighted()) {
+            return new AliasSampler(size);
+        }
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = source.getWeight(i);
+        }
+        return new AliasSampler(weights);
+    }
+
+    /**
+     * Resizes the ring of recent indices to the window, keeping the most recent ones.
+     */
+    private void resizeRecent() {
+        int capacity = Math.min(window, sampler.size() - 1);
+        if (capacity == recent.length) {
+            return;
+        }
+        int[] resized = new int[capacity];
+        int kept = Math.min(recentCount, capacity);
+        for (int i = 0; i < kept; i++) {
+            // Walk back from the newest index
+            int slot = Math.floorMod(recentNext - 1 - i, Math.max(recent.length, 1));
+            resized[kept - 1 - i] = recent[slot];
+        }
+        recent = resized;
+        recentCount = kept;
+        recentNext = capacity == 0 ? 0 : kept % capacity;
+    }
+
+    /**
+     * Checks whether an index is among the recently drawn ones.
+     *
+     * @param index the index to check
+     * @return true if the index was drawn within the window
+     */
+    private boolean isRecent(int index) {
+        for (int i = 0; i < recentCount; i++) {
+            if (recent[i] == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records a drawn index, evicting the oldest one once the window is full.
+     *
+     * @param index the drawn index
+     */
+    private void remember(int index) {
+        if (recent.length == 0) {
+            return;
+        }
+        recent[recentNext] = index;
+        recentNext = (recentNext + 1) % recent.length;
+        if (recentCount < recent.length) {
+            recentCount++;
+        }
+    }
+}
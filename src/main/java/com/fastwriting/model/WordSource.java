@@ -0,0 +1,82 @@
+package com.fastwriting.model;
+
+import java.nio.file.Path;
+
+/**
+ * Source of the words and phrases for a single difficulty tier.
+ * {@link WordGenerator} delegates to one source per tier, so content can come from
+ * built-in lists, text files, directories of files or a binary corpus.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public interface WordSource {
+
+    /**
+     * Gets the number of entries available in this source.
+     * Lazy sources load their content the first time this method is called.
+     *
+     * @return the number of entries
+     */
+    int size();
+
+    /**
+     * Gets the entry at the given index.
+     *
+     * @param index the index of the entry, from 0 to {@link #size()} - 1
+     * @return the word or phrase at the index
+     */
+    String get(int index);
+
+    /**
+     * Checks whether the entries of this source carry individual weights.
+     * Unweighted sources are sampled uniformly without building any tables.
+     *
+     * @return true if {@link #getWeight(int)} may differ between entries
+     */
+    default boolean isWeighted() {
+        return false;
+    }
+
+    /**
+     * Gets the relative frequency with which the entry at the given index should be drawn.
+     *
+     * @param index the index of the entry, from 0 to {@link #size()} - 1
+     * @return the non-negative weight of the entry; 1 unless the source is weighted
+     */
+    default double getWeight(int index) {
+        return 1.0;
+    }
+
+    /**
+     * Creates a source that lazily streams a plain-text file, one entry per line.
+     *
+     * @param file the text file to read
+     * @return the lazy file source
+     */
+    static WordSource ofFile(Path file) {
+        return new TextFileWordSource(file);
+    }
+
+    /**
+     * Creates a source that lazily streams a plain-text file of weighted entries,
+     * one entry per line followed by a tab and its frequency.
+     *
+     * @param file the text file to read
+     * @return the lazy weighted file source
+     */
+    static WordSource ofWeightedFile(Path file) {
+        return new WeightedTextFileWordSource(file);
+    }
+
+    /**
+     * Creates a source that lazily streams every regular file in a directory, one entry per line.
+     *
+     * @param directory the directory to read
+     * @return the lazy directory source
+     */
+    static WordSource ofDirectory(Path directory) {
+        return new DirectoryWordSource(directory);
+    }
+}
@@ -0,0 +1,210 @@
+package com.fastwriting.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Distributions of how fast single words were completed, as a pair of {@link QuantileSketch}es:
+ * the completion time of each correct word and the instantaneous typing speed it represents.
+ *
+ * <p>Unlike {@link GameStatistics#getWordsPerMinute()}, which divides the correct words of a whole game
+ * by its wall-clock length including the pauses between words, these only measure the time from a word
+ * appearing to it being completed, as counted by the word's timer, and express the speed in the standard
+ * {@value #CHARACTERS_PER_WORD}-characters-per-word measure so that long phrases and short words compare
+ * fairly. Each game keeps its own timings, and the {@link SessionHistory} merges them into timings of
+ * every game played, both in constant memory. Instances are not thread-safe.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class WordTimings {
+
+    /**
+     * Characters counted as one word for typing speeds, the standard measure.
+     */
+    public static final int CHARACTERS_PER_WORD = 5;
+
+    /**
+     * Number of milliseconds in one minute.
+     */
+    private static final double MILLIS_PER_MINUTE = 60_000.0;
+
+    /**
+     * Number of nanoseconds in one millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Completion time of each correct word, in milliseconds.
+     */
+    private final QuantileSketch completionMillis;
+
+    /**
+     * Instantaneous typing speed of each correct word, in WPM.
+     */
+    private final QuantileSketch wordsPerMinute;
+
+    /**
+     * Creates empty timings.
+     */
+    public WordTimings() {
+        this(new QuantileSketch(), new QuantileSketch());
+    }
+
+    /**
+     * Creates timings from existing sketches.
+     *
+     * @param completionMillis the completion time of each correct word, in milliseconds
+     * @param wordsPerMinute the instantaneous typing speed of each correct word, in WPM
+     */
+    private WordTimings(QuantileSketch completionMillis, QuantileSketch wordsPerMinute) {
+        this.completionMillis = completionMillis;
+        this.wordsPerMinute = wordsPerMinute;
+    }
+
+    /**
+     * Records a correctly completed word.
+     *
+     * @param completionNanos the time from the word appearing to its completion, in nanoseconds
+     * @param characters the number of characters of the word, including spaces
+     */
+    public void record(long completionNanos, int characters) {
+        double millis = Math.max(1, completionNanos) / NANOS_PER_MILLI;
+        completionMillis.add(millis);
+        wordsPerMinute.add((double) characters / CHARACTERS_PER_WORD / (millis / MILLIS_PER_MINUTE));
+    }
+
+    /**
+     * Adds every word recorded in other timings to these.
+     *
+     * @param other the timings to merge in
+     */
+    public void merge(WordTimings other) {
+        completionMillis.merge(other.completionMillis);
+        wordsPerMinute.merge(other.wordsPerMinute);
+    }
+
+    /**
+     * Creates an independent copy of these timings.
+     *
+     * @return the copy
+     */
+    public WordTimings copy() {
+        return new WordTimings(completionMillis.copy(), wordsPerMinute.copy());
+    }
+
+    /**
+     * Gets the number of words recorded.
+     *
+     * @return the word count
+     */
+    public long getWordCount() {
+        return completionMillis.getCount();
+    }
+
+    /**
+     * Gets the distribution of the completion time of each correct word.
+     *
+     * @return the sketch of completion times in milliseconds
+     */
+    public QuantileSketch getCompletionMillis() {
+        return completionMillis;
+    }
+
+    /**
+     * Gets the distribution of the instantaneous typing speed of each correct word.
+     *
+     * @return the sketch of speeds in WPM
+     */
+    public QuantileSketch getWordsPerMinute() {
+        return wordsPerMinute;
+    }
+
+    /**
+     * Formats the median and 90th percentile of the completion time and the median and 10th percentile
+     * of the speed, such as "p50 2.1 s · p90 3.4 s per word · p50 48 · p10 31 WPM".
+     *
+     * @return the summary, or "no data" if no word was recorded
+     */
+    public String formatSummary() {
+        if (getWordCount() == 0) {
+            return "no data";
+        }
+        return formatCompletionTime() + " per word · " + formatSpeed();
+    }
+
+    /**
+     * Formats the median and 90th percentile of the completion time, such as "p50 2.1 s · p90 3.4 s".
+     *
+     * @return the completion time summary, or "no data" if no word was recorded
+     */
+    public String formatCompletionTime() {
+        if (getWordCount() == 0) {
+            return "no data";
+        }
+        return String.format("p50 %.1f s · p90 %.1f s",
+                completionMillis.getValueAtPercentile(50) / 1000.0,
+                completionMillis.getValueAtPercentile(90) / 1000.0);
+    }
+
+    /**
+     * Formats the median and 10th percentile of the speed, such as "p50 48 · p10 31 WPM".
+     *
+     * @return the speed summary, or "no data" if no word was recorded
+     */
+    public String formatSpeed() {
+        if (getWordCount() == 0) {
+            return "no data";
+        }
+        // The slowest tenth of the words by time are the slowest tenth by speed too, hence p10 of the speed
+        return String.format("p50 %.0f · p10 %.0f WPM",
+                wordsPerMinute.getValueAtPercentile(50),
+                wordsPerMinute.getValueAtPercentile(10));
+    }
+
+    /**
+     * Formats the median completion time and speed of a word, such as "2.1 s, 48 WPM".
+     *
+     * @return the typical word, or "no data" if no word was recorded
+     */
+    public String formatTypicalWord() {
+        if (getWordCount() == 0) {
+            return "no data";
+        }
+        return String.format("%.1f s, %.0f WPM",
+                completionMillis.getValueAtPercentile(50) / 1000.0,
+                wordsPerMinute.getValueAtPercentile(50));
+    }
+
+    /**
+     * Gets the number of bytes {@link #writeTo(ByteBuffer)} writes.
+     *
+     * @return the serialized size
+     */
+    public int getSerializedSize() {
+        return completionMillis.getSerializedSize() + wordsPerMinute.getSerializedSize();
+    }
+
+    /**
+     * Writes these timings at the position of a buffer, which advances by {@link #getSerializedSize()} bytes.
+     *
+     * @param buffer the buffer to write to
+     */
+    public void writeTo(ByteBuffer buffer) {
+        completionMillis.writeTo(buffer);
+        wordsPerMinute.writeTo(buffer);
+    }
+
+    /**
+     * Reads timings at the position of a buffer, which advances past them.
+     *
+     * @param buffer the buffer to read from
+     * @return the timings
+     * @throws IllegalArgumentException if the data is not valid timings
+     * @throws java.nio.BufferUnderflowException if the buffer ends within the timings
+     */
+    public static WordTimings readFrom(ByteBuffer buffer) {
+        QuantileSketch completion = QuantileSketch.readFrom(buffer);
+        return new WordTimings(completion, QuantileSketch.readFrom(buffer));
+    }
+}
@@ -0,0 +1,125 @@
+package com.fastwriting.monitoring;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Continuous in-memory Flight Recorder recording that is dumped to a file when something worth
+ * investigating happens, such as the player running out of time.
+ *
+ * <p>Started with {@code -Dfastwriting.jfrDumpDir=<directory>}. The recording uses the JDK's
+ * low-overhead default settings plus the game's own events and never touches the disk until it is dumped;
+ * it keeps the most recent events that fit in Flight Recorder's memory buffers. Dumps are written on a
+ * background thread so the JavaFX Application Thread never waits for them.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public final class FlightRecording {
+
+    /**
+     * System property naming the directory recordings are dumped to.
+     */
+    public static final String DUMP_DIRECTORY_PROPERTY = "fastwriting.jfrDumpDir";
+
+    /**
+     * Format of the timestamp in the names of dump files.
+     */
+    private static final DateTimeFormatter DUMP_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * Background thread writing the dumps.
+     */
+    private static final ExecutorService DUMP_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jfr-dump");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The running recording, or null if none was started.
+     */
+    private static Recording recording;
+
+    /**
+     * Directory the recording is dumped to.
+     */
+    private static Path dumpDirectory;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private FlightRecording() {
+    }
+
+    /**
+     * Starts the continuous recording if a dump directory is configured and no recording runs yet.
+     *
+     * @return true if the recording is running
+     */
+    public static synchronized boolean startIfRequested() {
+        if (recording != null) {
+            return true;
+        }
+        String directory = System.getProperty(DUMP_DIRECTORY_PROPERTY);
+        if (directory == null || directory.isBlank()) {
+            return false;
+        }
+
+        try {
+            Recording continuous = new Recording(Configuration.getConfiguration("default"));
+            continuous.setName("fastwriting-continuous");
+            continuous.setToDisk(false);
+            continuous.start();
+            dumpDirectory = Paths.get(directory);
+            recording = continuous;
+            return true;
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the continuous recording is running.
+     *
+     * @return true if the recording is running
+     */
+    public static synchronized boolean isRunning() {
+        return recording != null;
+    }
+
+    /**
+     * Writes the current content of the recording to a new file on the background thread.
+     * Does nothing if no recording is running.
+     *
+     * @param reason a short file-name-safe description of why the recording is dumped, such as "timeup-level37"
+     */
+    public static synchronized void dumpAsync(String reason) {
+        if (recording == null) {
+            return;
+        }
+        Recording running = recording;
+        Path file = dumpDirectory.resolve("fastwriting-" + LocalDateTime.now().format(DUMP_NAME_FORMAT)
+                + "-" + reason + ".jfr");
+        DUMP_EXECUTOR.execute(() -> {
+            try {
+                Files.createDirectories(dumpDirectory);
+                running.dump(file);
+            } catch (IOException | IllegalStateException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package com.fastwriting.monitoring;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Metrics of the game screen and the JVM, registered with the shared {@link MetricsRegistry}.
+ * Like the Flight Recorder events, they are updated from the game's input and navigation paths;
+ * headless engines used by tools and simulations do not touch them.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameMetrics {
+
+    /**
+     * Bucket bounds of the latency histograms, in seconds, from 50 microseconds to one second.
+     */
+    private static final double[] LATENCY_BOUNDS = {
+            0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1
+    };
+
+    /**
+     * Number of milliseconds in one second, converting the collectors' times.
+     */
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    /**
+     * Registry the metrics are registered with.
+     */
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.getInstance();
+
+    /**
+     * Number of input validations triggered by Enter or the Submit button.
+     */
+    public static final MetricsRegistry.Counter SUBMIT_VALIDATIONS = REGISTRY.counter("fastwriting_validations_total",
+            "Input validations by trigger", "mode", "submit");
+
+    /**
+     * Number of input validations triggered by live-mode keystrokes.
+     */
+    public static final MetricsRegistry.Counter LIVE_VALIDATIONS = REGISTRY.counter("fastwriting_validations_total",
+            "Input validations by trigger", "mode", "live");
+
+    /**
+     * Number of words answered correctly.
+     */
+    public static final MetricsRegistry.Counter CORRECT_ANSWERS = REGISTRY.counter("fastwriting_answers_total",
+            "Submitted or live-completed answers by result", "result", "correct");
+
+    /**
+     * Number of submitted answers that did not match the word.
+     */
+    public static final MetricsRegistry.Counter INCORRECT_ANSWERS = REGISTRY.counter("fastwriting_answers_total",
+            "Submitted or live-completed answers by result", "result", "incorrect");
+
+    /**
+     * Number of correct answers that reduced the time limit.
+     */
+    public static final MetricsRegistry.Counter LEVEL_UPS = REGISTRY.counter("fastwriting_level_ups_total",
+            "Correct answers that reduced the time limit");
+
+    /**
+     * Number of games started, including restarts and replays.
+     */
+    public static final MetricsRegistry.Counter GAMES_STARTED = REGISTRY.counter("fastwriting_games_started_total",
+            "Games started, including restarts");
+
+    /**
+     * Time taken by each input validation.
+     */
+    public static final MetricsRegistry.Histogram VALIDATION_SECONDS = REGISTRY.histogram("fastwriting_validation_seconds",
+            "Time taken by input validations", LATENCY_BOUNDS);
+
+    /**
+     * Key-to-glyph latency of each typed character.
+     */
+    public static final MetricsRegistry.Histogram INPUT_LATENCY_SECONDS = REGISTRY.histogram(
+            "fastwriting_input_latency_seconds", "Time from a typed key to the layout pass showing it", LATENCY_BOUNDS);
+
+    static {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        REGISTRY.gauge("fastwriting_jvm_heap_used_bytes", "Heap memory in use",
+                () -> memory.getHeapMemoryUsage().getUsed());
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            REGISTRY.counterFunction("fastwriting_gc_collections_total", "Garbage collections by collector",
+                    collector::getCollectionCount, "collector", collector.getName());
+            REGISTRY.counterFunction("fastwriting_gc_pause_seconds_total",
+                    "Time spent in garbage collections by collector; pauses for stop-the-world collectors",
+                    () -> collector.getCollectionTime() / MILLIS_PER_SECOND, "collector", collector.getName());
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private GameMetrics() {
+    }
+
+    /**
+     * Makes sure every metric of this class is registered, so that scrapes list them before they are first updated.
+     */
+    static void register() {
+        // Loading the class registers the metrics
+    }
+
+    /**
+     * Counts a word served to the player.
+     *
+     * @param tier the difficulty tier of the word
+     */
+    public static void wordServed(int tier) {
+        REGISTRY.counter("fastwriting_words_served_total", "Words shown to the player by difficulty tier",
+                "tier", Integer.toString(tier)).increment();
+    }
+
+    /**
+     * Counts a screen change and records how long it took.
+     *
+     * @param view the FXML path of the view that was shown
+     * @param async whether the view was loaded asynchronously
+     * @param nanos the transition time in nanoseconds
+     */
+    public static void sceneSwitched(String view, boolean async, long nanos) {
+        String name = view.substring(view.lastIndexOf('/') + 1);
+        REGISTRY.counter("fastwriting_scene_switches_total", "Screen changes by view", "view", name).increment();
+        REGISTRY.histogram("fastwriting_scene_switch_seconds", "Time from a screen change request until the view is shown",
+                LATENCY_BOUNDS, "async", Boolean.toString(async)).observeNanos(nanos);
+    }
+}
@@ -0,0 +1,154 @@
+package com.fastwriting.monitoring;
+
+import javafx.event.EventHandler;
+import javafx.scene.Scene;
+import javafx.scene.control.TextInputControl;
+import javafx.scene.input.KeyEvent;
+
+/**
+ * Measures the key-to-glyph latency of a text field: the time from a typed key reaching the field
+ * to the end of the layout pass of the next pulse, which is the pass that lays out the typed character
+ * and hands it to the renderer.
+ *
+ * <p>An event filter stamps each typed character with {@link System#nanoTime()} the moment it arrives,
+ * before the field or the game logic handles it, and a post-layout pulse listener records the age of
+ * every stamped key into a {@link LatencyHistogram} and the station's {@link GameMetrics}. The measured
+ * span therefore covers the game's own input handling, the coalesced screen updates and the CSS and
+ * layout work of the pulse. Keys that a disabled or read-only field rejects are not measured, since they
+ * never show a glyph. Everything runs on the JavaFX Application Thread.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class InputLatencyProbe {
+
+    /**
+     * Maximum number of keys waiting for a pulse; further keys before the pulse are not measured.
+     */
+    private static final int MAX_PENDING_KEYS = 64;
+
+    /**
+     * Text field whose typed keys are measured.
+     */
+    private final TextInputControl field;
+
+    /**
+     * Arrival times of the keys waiting for the next pulse.
+     */
+    private final long[] pendingArrivals = new long[MAX_PENDING_KEYS];
+
+    /**
+     * Number of keys waiting for the next pulse.
+     */
+    private int pendingCount;
+
+    /**
+     * Histogram the latencies are recorded into, or null to measure nothing.
+     */
+    private LatencyHistogram histogram;
+
+    /**
+     * Filter stamping each typed key on arrival.
+     */
+    private final EventHandler<KeyEvent> keyTypedFilter = this::onKeyTyped;
+
+    /**
+     * Listener recording the latencies after each layout pass.
+     */
+    private final Runnable pulseListener = this::onPulse;
+
+    /**
+     * Scene the pulse listener is registered with, or null while detached.
+     */
+    private Scene scene;
+
+    /**
+     * Creates a probe for a text field.
+     *
+     * @param field the text field whose typed keys are measured
+     */
+    public InputLatencyProbe(TextInputControl field) {
+        this.field = field;
+    }
+
+    /**
+     * Sets the histogram the latencies are recorded into, such as the one of a new game.
+     * Keys still waiting for a pulse are dropped.
+     *
+     * @param histogram the histogram, or null to measure nothing
+     */
+    public void setHistogram(LatencyHistogram histogram) {
+        this.histogram = histogram;
+        pendingCount = 0;
+    }
+
+    /**
+     * Gets the histogram the latencies are recorded into.
+     *
+     * @return the histogram, or null if nothing is measured
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Starts measuring the keys typed into the field, on the pulses of the given scene.
+     *
+     * @param scene the scene showing the field
+     */
+    public void attach(Scene scene) {
+        if (this.scene == scene) {
+            return;
+        }
+        detach();
+        this.scene = scene;
+        if (scene != null) {
+            field.addEventFilter(KeyEvent.KEY_TYPED, keyTypedFilter);
+            scene.addPostLayoutPulseListener(pulseListener);
+        }
+    }
+
+    /**
+     * Stops measuring. Keys still waiting for a pulse are dropped.
+     */
+    public void detach() {
+        if (scene != null) {
+            field.removeEventFilter(KeyEvent.KEY_TYPED, keyTypedFilter);
+            scene.removePostLayoutPulseListener(pulseListener);
+            scene = null;
+        }
+        pendingCount = 0;
+    }
+
+    /**
+     * Stamps a typed key with its arrival time if it will show a glyph.
+     *
+     * @param event the key event
+     */
+    private void onKeyTyped(KeyEvent event) {
+        if (histogram == null || pendingCount == MAX_PENDING_KEYS || field.isDisabled() || !field.isEditable()) {
+            return;
+        }
+        String character = event.getCharacter();
+        if (character.isEmpty() || Character.isISOControl(character.charAt(0))) {
+            return;
+        }
+        pendingArrivals[pendingCount++] = System.nanoTime();
+    }
+
+    /**
+     * Records the latency of every key typed since the previous pulse.
+     */
+    private void onPulse() {
+        if (pendingCount == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (int i = 0; i < pendingCount; i++) {
+            histogram.record(now - pendingArrivals[i]);
+            GameMetrics.INPUT_LATENCY_SECONDS.observeNanos(now - pendingArrivals[i]);
+        }
+        pendingCount = 0;
+    }
+}
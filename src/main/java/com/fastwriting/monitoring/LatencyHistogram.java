@@ -0,0 +1,221 @@
+package com.fastwriting.monitoring;
+
+/**
+ * Fixed-memory histogram of latencies in nanoseconds with logarithmic buckets, in the style of
+ * HdrHistogram.
+ *
+ * <p>Every power of two is split into {@value #SUB_BUCKET_COUNT} equal sub-buckets, so recorded values
+ * keep about 3% relative precision from one nanosecond up to {@link #MAX_TRACKABLE_NANOS}; larger
+ * values are counted in the last bucket. The counts live in one array of about eight kilobytes that
+ * never grows, and recording is a few shifts and an array increment, so the histogram can sit on
+ * the input path of every keystroke. Instances are not thread-safe; each is meant to be written by
+ * one thread, such as the JavaFX Application Thread.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class LatencyHistogram {
+
+    /**
+     * Number of bits selecting the sub-bucket within a power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * Number of sub-buckets per power of two.
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Largest power of two tracked; values from 2^(MAX_EXPONENT + 1) on share the last bucket.
+     */
+    private static final int MAX_EXPONENT = 36;
+
+    /**
+     * Largest value recorded with full precision, about 137 seconds.
+     */
+    public static final long MAX_TRACKABLE_NANOS = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    /**
+     * Number of buckets: one per value below {@link #SUB_BUCKET_COUNT}, then one row per power of two.
+     */
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    /**
+     * Number of nanoseconds in one millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Number of recorded values per bucket.
+     */
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    /**
+     * Number of recorded values.
+     */
+    private long totalCount;
+
+    /**
+     * Sum of the recorded values, for the mean.
+     */
+    private long totalNanos;
+
+    /**
+     * Smallest recorded value, or {@link Long#MAX_VALUE} if none.
+     */
+    private long minNanos = Long.MAX_VALUE;
+
+    /**
+     * Largest recorded value, exact rather than bucketed.
+     */
+    private long maxNanos;
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts[bucketOf(Math.min(value, MAX_TRACKABLE_NANOS))]++;
+        totalCount++;
+        totalNanos += value;
+        minNanos = Math.min(minNanos, value);
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    /**
+     * Adds every value recorded in another histogram to this one.
+     *
+     * @param other the histogram to merge in
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        totalNanos += other.totalNanos;
+        minNanos = Math.min(minNanos, other.minNanos);
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    /**
+     * Removes every recorded value.
+     */
+    public void reset() {
+        java.util.Arrays.fill(counts, 0);
+        totalCount = 0;
+        totalNanos = 0;
+        minNanos = Long.MAX_VALUE;
+        maxNanos = 0;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the value count
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return the maximum in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Gets the smallest recorded value.
+     *
+     * @return the minimum in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMinNanos() {
+        return totalCount == 0 ? 0 : minNanos;
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return the mean in nanoseconds, or 0 if nothing was recorded
+     */
+    public double getMeanNanos() {
+        return totalCount == 0 ? 0 : (double) totalNanos / totalCount;
+    }
+
+    /**
+     * Gets the value below or at which the given percentage of the recorded values fall.
+     * The result is the upper end of the bucket holding that value, capped at the exact maximum;
+     * values beyond {@link #MAX_TRACKABLE_NANOS} are reported as the maximum.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the value in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double clamped = Math.min(Math.max(percentile, 0), 100);
+        long rank = Math.max(1, (long) Math.ceil(clamped / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i == BUCKET_COUNT - 1 ? maxNanos : Math.min(highestValueOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Formats the median, 99th percentile and maximum in milliseconds, such as "p50 8.2 ms · p99 16.7 ms · max 24.1 ms".
+     *
+     * @return the summary, or "no data" if nothing was recorded
+     */
+    public String formatSummary() {
+        if (totalCount == 0) {
+            return "no data";
+        }
+        return String.format("p50 %.1f ms · p99 %.1f ms · max %.1f ms",
+                getValueAtPercentile(50) / NANOS_PER_MILLI,
+                getValueAtPercentile(99) / NANOS_PER_MILLI,
+                maxNanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Maps a value to its bucket.
+     *
+     * @param value the value, from 0 to {@link #MAX_TRACKABLE_NANOS}
+     * @return the bucket index
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Gets the largest value that maps to a bucket.
+     *
+     * @param bucket the bucket index
+     * @return the upper end of the bucket, inclusive
+     */
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        int subBucket = (bucket - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        long lowest = (1L << (shift + SUB_BUCKET_BITS)) + ((long) subBucket << shift);
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,478 @@
+package com.fastwriting.monitoring;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the game's internal metrics: counters, gauges and histograms that any thread may update
+ * without locking, written out in the Prometheus text exposition format.
+ *
+ * <p>Metrics are identified by a name and optional label pairs, such as {@code tier="2"}. Asking for
+ * the same name and labels again returns the same metric, so call sites may either keep the returned
+ * object or look it up each time. Counters and histograms are striped over {@link LongAdder}s, so
+ * concurrent updates do not contend; a scrape reads them without stopping the writers and may see
+ * an update in one series but not yet in another.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class MetricsRegistry {
+
+    /**
+     * Kind of a metric family, as written in its TYPE line.
+     */
+    private enum Type {
+        /**
+         * Monotonically increasing count.
+         */
+        COUNTER("counter"),
+        /**
+         * Value that may go up and down.
+         */
+        GAUGE("gauge"),
+        /**
+         * Distribution of observed values in cumulative buckets.
+         */
+        HISTOGRAM("histogram");
+
+        /**
+         * Name of the type in the exposition format.
+         */
+        private final String exposedName;
+
+        /**
+         * Creates a type.
+         *
+         * @param exposedName the name of the type in the exposition format
+         */
+        Type(String exposedName) {
+            this.exposedName = exposedName;
+        }
+    }
+
+    /**
+     * Metric that can write its samples in the exposition format.
+     */
+    private interface Series {
+
+        /**
+         * Appends the samples of this series.
+         *
+         * @param out the buffer to append to
+         * @param name the name of the metric family
+         * @param labels the rendered labels of the series, without braces, possibly empty
+         */
+        void writeSamples(StringBuilder out, String name, String labels);
+    }
+
+    /**
+     * Counter that only goes up.
+     */
+    public static final class Counter implements Series {
+
+        /**
+         * Current count.
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * Creates a counter starting at zero.
+         */
+        private Counter() {
+        }
+
+        /**
+         * Adds one to the counter.
+         */
+        public void increment() {
+            count.increment();
+        }
+
+        /**
+         * Adds an amount to the counter.
+         *
+         * @param amount the amount to add, not negative
+         */
+        public void add(long amount) {
+            count.add(amount);
+        }
+
+        /**
+         * Gets the current count.
+         *
+         * @return the count
+         */
+        public long get() {
+            return count.sum();
+        }
+
+        @Override
+        public void writeSamples(StringBuilder out, String name, String labels) {
+            writeSample(out, name, labels, count.sum());
+        }
+    }
+
+    /**
+     * Metric whose value is read from a function at every scrape, such as a gauge of the heap in use.
+     */
+    private static final class FunctionSeries implements Series {
+
+        /**
+         * Function reading the value.
+         */
+        private final DoubleSupplier value;
+
+        /**
+         * Creates a series reading its value from a function.
+         *
+         * @param value the function reading the value
+         */
+        private FunctionSeries(DoubleSupplier value) {
+            this.value = value;
+        }
+
+        @Override
+        public void writeSamples(StringBuilder out, String name, String labels) {
+            writeSample(out, name, labels, value.getAsDouble());
+        }
+    }
+
+    /**
+     * Histogram counting observations in fixed buckets.
+     */
+    public static final class Histogram implements Series {
+
+        /**
+         * Inclusive upper bounds of the buckets, in ascending order.
+         */
+        private final double[] bounds;
+
+        /**
+         * Number of observations per bucket; the last bucket holds those above every bound.
+         */
+        private final LongAdder[] buckets;
+
+        /**
+         * Sum of the observed values.
+         */
+        private final DoubleAdder sum = new DoubleAdder();
+
+        /**
+         * Creates an empty histogram.
+         *
+         * @param bounds the inclusive upper bounds of the buckets, in ascending order
+         */
+        private Histogram(double[] bounds) {
+            this.bounds = bounds.clone();
+            this.buckets = new LongAdder[bounds.length + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Records one observation.
+         *
+         * @param value the observed value
+         */
+        public void observe(double value) {
+            int bucket = 0;
+            while (bucket < bounds.length && value > bounds[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+            sum.add(value);
+        }
+
+        /**
+         * Records one observed duration in seconds.
+         *
+         * @param nanos the duration in nanoseconds
+         */
+        public void observeNanos(long nanos) {
+            observe(nanos / NANOS_PER_SECOND);
+        }
+
+        /**
+         * Gets the number of observations.
+         *
+         * @return the observation count
+         */
+        public long getCount() {
+            long count = 0;
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        @Override
+        public void writeSamples(StringBuilder out, String name, String labels) {
+            String separator = labels.isEmpty() ? "" : labels + ",";
+            long cumulative = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                cumulative += buckets[i].sum();
+                String bound = i < bounds.length ? formatValue(bounds[i]) : "+Inf";
+                writeSample(out, name + "_bucket", separator + "le=\"" + bound + "\"", cumulative);
+            }
+            writeSample(out, name + "_sum", labels, sum.sum());
+            writeSample(out, name + "_count", labels, cumulative);
+        }
+    }
+
+    /**
+     * Metrics sharing a name, with their help text and type.
+     */
+    private static final class Family {
+
+        /**
+         * Description written in the HELP line.
+         */
+        private final String help;
+
+        /**
+         * Type written in the TYPE line.
+         */
+        private final Type type;
+
+        /**
+         * Series of the family by their rendered labels.
+         */
+        private final Map<String, Series> series = new ConcurrentSkipListMap<>();
+
+        /**
+         * Creates an empty family.
+         *
+         * @param help the description of the metric
+         * @param type the type of the metric
+         */
+        private Family(String help, Type type) {
+            this.help = help;
+            this.type = type;
+        }
+    }
+
+    /**
+     * Number of nanoseconds in one second.
+     */
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /**
+     * Registry shared by the whole game.
+     */
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    /**
+     * Metric families by name, sorted so that scrapes list them in a stable order.
+     */
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+    /**
+     * Gets the registry shared by the whole game.
+     *
+     * @return the shared registry
+     */
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets or creates a counter.
+     *
+     * @param name the metric name, such as "fastwriting_words_served_total"
+     * @param help the description of the metric
+     * @param labels alternating label names and values
+     * @return the counter
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) series(name, help, Type.COUNTER, labels, Counter::new);
+    }
+
+    /**
+     * Registers a counter whose value is read from a function at every scrape, replacing any earlier
+     * function with the same name and labels. Suits totals kept elsewhere, such as collector statistics.
+     *
+     * @param name the metric name
+     * @param help the description of the metric
+     * @param value the function reading the current total
+     * @param labels alternating label names and values
+     */
+    public void counterFunction(String name, String help, DoubleSupplier value, String... labels) {
+        family(name, help, Type.COUNTER).series.put(renderLabels(labels), new FunctionSeries(value));
+    }
+
+    /**
+     * Registers a gauge whose value is read from a function at every scrape, replacing any earlier
+     * gauge with the same name and labels.
+     *
+     * @param name the metric name
+     * @param help the description of the metric
+     * @param value the function reading the current value
+     * @param labels alternating label names and values
+     */
+    public void gauge(String name, String help, DoubleSupplier value, String... labels) {
+        family(name, help, Type.GAUGE).series.put(renderLabels(labels), new FunctionSeries(value));
+    }
+
+    /**
+     * Gets or creates a histogram. The bucket bounds of an existing histogram are kept.
+     *
+     * @param name the metric name, such as "fastwriting_validation_seconds"
+     * @param help the description of the metric
+     * @param bounds the inclusive upper bounds of the buckets, in ascending order
+     * @param labels alternating label names and values
+     * @return the histogram
+     */
+    public Histogram histogram(String name, String help, double[] bounds, String... labels) {
+        for (int i = 1; i < bounds.length; i++) {
+            if (!(bounds[i] > bounds[i - 1])) {
+                throw new IllegalArgumentException("Histogram bounds must be ascending");
+            }
+        }
+        return (Histogram) series(name, help, Type.HISTOGRAM, labels, () -> new Histogram(bounds));
+    }
+
+    /**
+     * Writes every metric in the Prometheus text exposition format.
+     *
+     * @return the exposition text
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            String name = entry.getKey();
+            Family family = entry.getValue();
+            out.append("# HELP ").append(name).append(' ').append(escapeHelp(family.help)).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(family.type.exposedName).append('\n');
+            for (Map.Entry<String, Series> series : family.series.entrySet()) {
+                series.getValue().writeSamples(out, name, series.getKey());
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Gets or creates a series of a family.
+     *
+     * @param name the metric name
+     * @param help the description of the metric
+     * @param type the type of the metric
+     * @param labels alternating label names and values
+     * @param factory the factory creating the series if it does not exist yet
+     * @return the series
+     */
+    private Series series(String name, String help, Type type, String[] labels,
+                          Supplier<Series> factory) {
+        return family(name, help, type).series.computeIfAbsent(renderLabels(labels), key -> factory.get());
+    }
+
+    /**
+     * Gets or creates a metric family.
+     *
+     * @param name the metric name
+     * @param help the description of the metric
+     * @param type the type of the metric
+     * @return the family
+     * @throws IllegalArgumentException if the name is not a valid metric name or is registered with another type
+     */
+    private Family family(String name, String help, Type type) {
+        Family family = families.get(name);
+        if (family == null) {
+            if (!name.matches("[a-zA-Z_:][a-zA-Z0-9_:]*")) {
+                throw new IllegalArgumentException("Invalid metric name: " + name);
+            }
+            family = families.computeIfAbsent(name, key -> new Family(help, type));
+        }
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " is a " + family.type.exposedName);
+        }
+        return family;
+    }
+
+    /**
+     * Renders label pairs as they appear between the braces of a sample.
+     *
+     * @param labels alternating label names and values
+     * @return the rendered labels, such as {@code tier="2"}, or an empty string
+     * @throws IllegalArgumentException if a label has no value
+     */
+    private static String renderLabels(String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name and value pairs");
+        }
+        if (labels.length == 0) {
+            return "";
+        }
+        StringBuilder rendered = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                rendered.append(',');
+            }
+            rendered.append(labels[i]).append("=\"");
+            String value = labels[i + 1];
+            for (int c = 0; c < value.length(); c++) {
+                char ch = value.charAt(c);
+                if (ch == '\\' || ch == '"') {
+                    rendered.append('\\').append(ch);
+                } else if (ch == '\n') {
+                    rendered.append("\\n");
+                } else {
+                    rendered.append(ch);
+                }
+            }
+            rendered.append('"');
+        }
+        return rendered.toString();
+    }
+
+    /**
+     * Appends one sample line.
+     *
+     * @param out the buffer to append to
+     * @param name the sample name
+     * @param labels the rendered labels, possibly empty
+     * @param value the sample value
+     */
+    private static void writeSample(StringBuilder out, String name, String labels, double value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(formatValue(value)).append('\n');
+    }
+
+    /**
+     * Formats a sample value, writing whole numbers without a fraction and no exponents.
+     *
+     * @param value the value
+     * @return the formatted value
+     */
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Escapes a help text for its HELP line.
+     *
+     * @param help the help text
+     * @return the escaped text
+     */
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
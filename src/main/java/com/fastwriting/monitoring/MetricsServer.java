@@ -0,0 +1,145 @@
+package com.fastwriting.monitoring;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP endpoint serving the {@link MetricsRegistry} at {@code /metrics} in the Prometheus
+ * text format, so that the game stations of a lab can be scraped instead of read off their screens.
+ *
+ * <p>Started with {@code -Dfastwriting.metrics.port=<port>}. The server listens on the loopback address
+ * only; expose it to a scraper through a local agent or an SSH tunnel. Requests are answered on one
+ * daemon thread, so scrapes never run on the JavaFX Application Thread.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public final class MetricsServer {
+
+    /**
+     * System property holding the port to listen on.
+     */
+    public static final String PORT_PROPERTY = "fastwriting.metrics.port";
+
+    /**
+     * Content type of the Prometheus text exposition format.
+     */
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * The running server, or null if none was started.
+     */
+    private static HttpServer server;
+
+    /**
+     * Thread answering the requests of the running server.
+     */
+    private static ExecutorService executor;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private MetricsServer() {
+    }
+
+    /**
+     * Starts the endpoint if a port is configured and no server runs yet.
+     *
+     * @return true if the server is running
+     */
+    public static synchronized boolean startIfRequested() {
+        if (server != null) {
+            return true;
+        }
+        String port = System.getProperty(PORT_PROPERTY);
+        if (port == null || port.isBlank()) {
+            return false;
+        }
+
+        try {
+            return start(Integer.parseInt(port.trim())) > 0;
+        } catch (NumberFormatException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Starts the endpoint on a port of the loopback address.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @return the port the server listens on, or -1 if it could not be started
+     */
+    public static synchronized int start(int port) {
+        if (server != null) {
+            return server.getAddress().getPort();
+        }
+        // Register the game and JVM metrics before the first scrape
+        GameMetrics.register();
+
+        try {
+            HttpServer created = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            created.createContext("/metrics", MetricsServer::handle);
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-http");
+                thread.setDaemon(true);
+                return thread;
+            });
+            created.setExecutor(executor);
+            created.start();
+            server = created;
+            return created.getAddress().getPort();
+        } catch (IOException | IllegalArgumentException e) {
+            e.printStackTrace();
+            return -1;
+        }
+    }
+
+    /**
+     * Stops the endpoint, if it is running, so that it does not keep the JVM alive.
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdown();
+            server = null;
+            executor = null;
+        }
+    }
+
+    /**
+     * Answers one request with the current metrics.
+     *
+     * @param exchange the request and its response
+     * @throws IOException if the response cannot be written
+     */
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = MetricsRegistry.getInstance().scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
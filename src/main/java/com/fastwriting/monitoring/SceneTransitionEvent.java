@@ -0,0 +1,61 @@
+package com.fastwriting.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for a screen change of the scene manager.
+ * Asynchronous transitions load their view on a background thread, so the event carries the
+ * time from the request until the view was attached rather than a duration of its own.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+@Name("com.fastwriting.SceneTransition")
+@Label("Scene Transition")
+@Category({"Fast Writing", "Rendering"})
+@Description("Switches the visible screen")
+@StackTrace(false)
+public class SceneTransitionEvent extends jdk.jfr.Event {
+
+    /**
+     * FXML path of the view that was shown.
+     */
+    @Label("View")
+    private String view;
+
+    /**
+     * Whether the view was loaded asynchronously.
+     */
+    @Label("Asynchronous")
+    private boolean async;
+
+    /**
+     * Time from the transition request until the view was attached.
+     */
+    @Label("Transition Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long transitionTime;
+
+    /**
+     * Commits a transition if the event is enabled.
+     *
+     * @param view the FXML path of the view that was shown
+     * @param async whether the view was loaded asynchronously
+     * @param transitionNanos the time from the request until the view was attached
+     */
+    public static void emit(String view, boolean async, long transitionNanos) {
+        SceneTransitionEvent event = new SceneTransitionEvent();
+        if (event.isEnabled()) {
+            event.view = view;
+            event.async = async;
+            event.transitionTime = transitionNanos;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.fastwriting.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for applying the pending word, timer, level, feedback, progress and input
+ * changes of the game screen to its nodes, once per pulse.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+@Name("com.fastwriting.ScreenFlush")
+@Label("Game Screen Flush")
+@Category({"Fast Writing", "Rendering"})
+@Description("Applies the coalesced changes of the game screen before a layout pass")
+@StackTrace(false)
+public class ScreenFlushEvent extends jdk.jfr.Event {
+
+    /**
+     * Number of node properties changed.
+     */
+    @Label("Updates")
+    private int updates;
+
+    /**
+     * Whether a feedback message was shown.
+     */
+    @Label("Feedback Shown")
+    private boolean feedback;
+
+    /**
+     * Whether a new word was shown.
+     */
+    @Label("Word Shown")
+    private boolean word;
+
+    /**
+     * Ends the event and commits it if it is enabled, something changed and it lasted long enough.
+     *
+     * @param updates the number of node properties changed
+     * @param feedback whether a feedback message was shown
+     * @param word whether a new word was shown
+     */
+    public void commit(int updates, boolean feedback, boolean word) {
+        if (updates > 0 && shouldCommit()) {
+            this.updates = updates;
+            this.feedback = feedback;
+            this.word = word;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.fastwriting.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one frame of the game loop: the countdown refresh, the time-up check
+ * and any word transition. Only frames slower than the threshold are recorded by default,
+ * which keeps an always-on recording small at sixty frames per second.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+@Name("com.fastwriting.TimerTick")
+@Label("Timer Tick")
+@Category({"Fast Writing", "Game Loop"})
+@Description("Handles one frame of the countdown")
+@StackTrace(false)
+@Threshold("2 ms")
+public class TimerTickEvent extends jdk.jfr.Event {
+
+    /**
+     * Level being played.
+     */
+    @Label("Level")
+    private int level;
+
+    /**
+     * Tier of the level.
+     */
+    @Label("Tier")
+    private int tier;
+
+    /**
+     * Time left for the current word.
+     */
+    @Label("Remaining Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long remaining;
+
+    /**
+     * Ends the event and commits it if it is enabled and lasted long enough.
+     *
+     * @param level the level being played
+     * @param tier the tier of the level
+     * @param remainingNanos the time left for the current word
+     */
+    public void commit(int level, int tier, long remainingNanos) {
+        if (shouldCommit()) {
+            this.level = level;
+            this.tier = tier;
+            this.remaining = remainingNanos;
+            commit();
+        }
+    }
+}
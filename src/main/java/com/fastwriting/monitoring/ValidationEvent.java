@@ -0,0 +1,73 @@
+package com.fastwriting.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for checking the player's input, either a submitted answer
+ * or a single edit of the input field, including the screen updates it triggers.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+@Name("com.fastwriting.Validation")
+@Label("Input Validation")
+@Category({"Fast Writing", "Input"})
+@Description("Checks a submitted answer or an edit of the input against the current word")
+@StackTrace(false)
+public class ValidationEvent extends jdk.jfr.Event {
+
+    /**
+     * Level being played.
+     */
+    @Label("Level")
+    private int level;
+
+    /**
+     * Tier of the level.
+     */
+    @Label("Tier")
+    private int tier;
+
+    /**
+     * Whether an edit was checked rather than a submitted answer.
+     */
+    @Label("Keystroke")
+    private boolean keystroke;
+
+    /**
+     * Length of the input after the edit or at submission.
+     */
+    @Label("Input Length")
+    private int inputLength;
+
+    /**
+     * Outcome reported by the engine.
+     */
+    @Label("Result")
+    private String result;
+
+    /**
+     * Ends the event and commits it if it is enabled and lasted long enough.
+     *
+     * @param level the level being played
+     * @param tier the tier of the level
+     * @param keystroke whether an edit was checked rather than a submitted answer
+     * @param inputLength the length of the input
+     * @param result the outcome reported by the engine
+     */
+    public void commit(int level, int tier, boolean keystroke, int inputLength, Enum<?> result) {
+        if (shouldCommit()) {
+            this.level = level;
+            this.tier = tier;
+            this.keystroke = keystroke;
+            this.inputLength = inputLength;
+            this.result = result.name();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.fastwriting.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for drawing one word or phrase from a difficulty tier.
+ * Words prepared ahead by the prefetcher are drawn on its background thread.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+@Name("com.fastwriting.WordGenerated")
+@Label("Word Generated")
+@Category({"Fast Writing", "Words"})
+@Description("Draws one word or phrase from a difficulty tier")
+@StackTrace(false)
+public class WordGeneratedEvent extends jdk.jfr.Event {
+
+    /**
+     * Tier the word was drawn from.
+     */
+    @Label("Tier")
+    private int tier;
+
+    /**
+     * Length of the drawn word.
+     */
+    @Label("Word Length")
+    private int wordLength;
+
+    /**
+     * Ends the event and commits it if it is enabled and lasted long enough.
+     *
+     * @param tier the tier the word was drawn from
+     * @param wordLength the length of the drawn word
+     */
+    public void commit(int tier, int wordLength) {
+        if (shouldCommit()) {
+            this.tier = tier;
+            this.wordLength = wordLength;
+            commit();
+        }
+    }
+}
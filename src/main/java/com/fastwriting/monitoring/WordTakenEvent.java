@@ -0,0 +1,57 @@
+package com.fastwriting.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for taking the word of a level from the prefetcher,
+ * which only generates on the calling thread when no prepared word is ready.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+@Name("com.fastwriting.WordTaken")
+@Label("Word Taken")
+@Category({"Fast Writing", "Words"})
+@Description("Takes the word of a level, prepared ahead or generated on demand")
+@StackTrace(false)
+public class WordTakenEvent extends jdk.jfr.Event {
+
+    /**
+     * Level the word is for.
+     */
+    @Label("Level")
+    private int level;
+
+    /**
+     * Tier of the level.
+     */
+    @Label("Tier")
+    private int tier;
+
+    /**
+     * Whether the word had been prepared ahead.
+     */
+    @Label("Prefetched")
+    private boolean prefetched;
+
+    /**
+     * Ends the event and commits it if it is enabled and lasted long enough.
+     *
+     * @param level the level the word is for
+     * @param tier the tier of the level
+     * @param prefetched whether the word had been prepared ahead
+     */
+    public void commit(int level, int tier, boolean prefetched) {
+        if (shouldCommit()) {
+            this.level = level;
+            this.tier = tier;
+            this.prefetched = prefetched;
+            commit();
+        }
+    }
+}
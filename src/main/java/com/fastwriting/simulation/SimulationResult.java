@@ -0,0 +1,261 @@
+package com.fastwriting.simulation;
+
+import com.fastwriting.model.WordGenerator;
+
+/**
+ * Distribution of the final levels reached by a population of synthetic typists.
+ * Results of parts of a simulation are merged with {@link #add(SimulationResult)}.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class SimulationResult {
+
+    /**
+     * Number of games per final level; the last entry counts games stopped at the level cap.
+     */
+    private final long[] levelCounts;
+
+    /**
+     * Number of simulated games.
+     */
+    private long typistCount;
+
+    /**
+     * Number of keystrokes typed, including deletions and Enter.
+     */
+    private long keystrokes;
+
+    /**
+     * Number of wrong keystrokes typed.
+     */
+    private long typos;
+
+    /**
+     * Creates an empty result.
+     *
+     * @param maxLevel the highest level a game may reach before it is stopped
+     */
+    public SimulationResult(int maxLevel) {
+        this.levelCounts = new long[maxLevel + 2];
+    }
+
+    /**
+     * Counts one game.
+     *
+     * @param finalLevel the final level of the game
+     */
+    public void record(int finalLevel) {
+        levelCounts[Math.min(Math.max(finalLevel, 1), levelCounts.length - 1)]++;
+        typistCount++;
+    }
+
+    /**
+     * Adds keystroke totals.
+     *
+     * @param keystrokes the number of keystrokes typed
+     * @param typos the number of wrong keystrokes typed
+     */
+    public void addKeystrokes(long keystrokes, long typos) {
+        this.keystrokes += keystrokes;
+        this.typos += typos;
+    }
+
+    /**
+     * Adds every game of another result with the same level cap to this one.
+     *
+     * @param other the result to merge in
+     * @return this result
+     */
+    public SimulationResult add(SimulationResult other) {
+        if (other.levelCounts.length != levelCounts.length) {
+            throw new IllegalArgumentException("Results with different level caps cannot be merged");
+        }
+        for (int level = 0; level < levelCounts.length; level++) {
+            levelCounts[level] += other.levelCounts[level];
+        }
+        typistCount += other.typistCount;
+        keystrokes += other.keystrokes;
+        typos += other.typos;
+        return this;
+    }
+
+    /**
+     * Gets the number of simulated games.
+     *
+     * @return the typist count
+     */
+    public long getTypistCount() {
+        return typistCount;
+    }
+
+    /**
+     * Gets the highest level a game could reach before it was stopped.
+     *
+     * @return the level cap
+     */
+    public int getMaxLevel() {
+        return levelCounts.length - 2;
+    }
+
+    /**
+     * Gets the number of games that ended at a level.
+     *
+     * @param level the final level; the level after the cap counts games stopped at the cap
+     * @return the number of games
+     */
+    public long getLevelCount(int level) {
+        return level >= 0 && level < levelCounts.length ? levelCounts[level] : 0;
+    }
+
+    /**
+     * Gets the number of games that reached a level, whether they ended there or went on.
+     *
+     * @param level the level
+     * @return the number of games
+     */
+    public long getReachedCount(int level) {
+        long reached = 0;
+        for (int i = Math.max(level, 0); i < levelCounts.length; i++) {
+            reached += levelCounts[i];
+        }
+        return reached;
+    }
+
+    /**
+     * Gets the final level below or at which the given percentage of the games ended.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the level, or 0 if no game was simulated
+     */
+    public int getLevelAtPercentile(double percentile) {
+        return levelAtRank(1, levelCounts.length - 1, percentile);
+    }
+
+    /**
+     * Gets the mean final level.
+     *
+     * @return the mean level, or 0 if no game was simulated
+     */
+    public double getMeanLevel() {
+        if (typistCount == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int level = 1; level < levelCounts.length; level++) {
+            sum += (double) level * levelCounts[level];
+        }
+        return sum / typistCount;
+    }
+
+    /**
+     * Gets the number of keystrokes typed, including deletions and Enter.
+     *
+     * @return the keystroke count
+     */
+    public long getKeystrokes() {
+        return keystrokes;
+    }
+
+    /**
+     * Gets the number of wrong keystrokes typed.
+     *
+     * @return the typo count
+     */
+    public long getTypos() {
+        return typos;
+    }
+
+    /**
+     * Formats the distribution as a table with one row per difficulty tier: its levels, how many games
+     * reached it, how many ended in it, and the median and 90th percentile final level of those.
+     *
+     * @param generator the generator defining the tier of each level
+     * @return the report
+     */
+    public String formatReport(WordGenerator generator) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%,d games: mean level %.2f, p10 %d, p50 %d, p90 %d, p99 %d, max %d%n",
+                typistCount, getMeanLevel(), getLevelAtPercentile(10), getLevelAtPercentile(50),
+                getLevelAtPercentile(90), getLevelAtPercentile(99), getLevelAtPercentile(100)));
+        report.append(String.format("%-4s %-10s %-8s %9s %16s %10s %10s%n",
+                "Tier", "Category", "Levels", "Reached", "Ended here", "p50 level", "p90 level"));
+
+        int maxLevel = getMaxLevel();
+        int first = 1;
+        while (first <= maxLevel) {
+            int tier = generator.getTierIndex(first);
+            int last = first;
+            while (last < maxLevel && generator.getTierIndex(last + 1) == tier) {
+                last++;
+            }
+            long ended = 0;
+            for (int level = first; level <= last; level++) {
+                ended += levelCounts[level];
+            }
+            String levels = last == maxLevel && tier == generator.getTierIndex(maxLevel + 1)
+                    ? first + "+" : first + "-" + last;
+            report.append(String.format("%-4d %-10s %-8s %8.2f%% %,9d %5.1f%% %10s %10s%n",
+                    tier, generator.getDifficultyCategory(first), levels, percentOf(getReachedCount(first)),
+                    ended, percentOf(ended), formatLevel(levelAtRank(first, last, 50)),
+                    formatLevel(levelAtRank(first, last, 90))));
+            first = last + 1;
+        }
+        if (levelCounts[maxLevel + 1] > 0) {
+            report.append(String.format("Stopped at the level cap of %d: %,d games (%.2f%%)%n",
+                    maxLevel, levelCounts[maxLevel + 1], percentOf(levelCounts[maxLevel + 1])));
+        }
+        if (keystrokes > 0) {
+            report.append(String.format("%,d keystrokes, %.2f%% wrong%n", keystrokes, typos * 100.0 / keystrokes));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Gets the level at a percentile of the games that ended within a range of levels.
+     *
+     * @param first the first level of the range
+     * @param last the last level of the range
+     * @param percentile the percentile, from 0 to 100
+     * @return the level, or 0 if no game ended in the range
+     */
+    private int levelAtRank(int first, int last, double percentile) {
+        long count = 0;
+        for (int level = first; level <= last; level++) {
+            count += levelCounts[level];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100.0 * count));
+        long seen = 0;
+        for (int level = first; level <= last; level++) {
+            seen += levelCounts[level];
+            if (seen >= rank) {
+                return level;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Gets a number of games as a percentage of all games.
+     *
+     * @param games the number of games
+     * @return the percentage, or 0 if no game was simulated
+     */
+    private double percentOf(long games) {
+        return typistCount == 0 ? 0 : games * 100.0 / typistCount;
+    }
+
+    /**
+     * Formats a level for the report, showing a dash for ranges in which no game ended.
+     *
+     * @param level the level, or 0 if none
+     * @return the formatted level
+     */
+    private static String formatLevel(int level) {
+        return level == 0 ? "-" : Integer.toString(level);
+    }
+}
@@ -0,0 +1,214 @@
+package com.fastwriting.simulation;
+
+import com.fastwriting.model.GameEngine;
+import com.fastwriting.model.VirtualClock;
+
+import java.nio.CharBuffer;
+import java.util.SplittableRandom;
+
+/**
+ * Plays games of a {@link GameEngine} the way a person would, one keystroke at a time on a
+ * {@link VirtualClock}, so the real rules decide how far each synthetic typist gets.
+ *
+ * <p>For every game the typist draws its speed and error rate from a {@link TypistProfile}. It reads each
+ * word, types it character by character, deletes and retypes wrong keystrokes once it notices them, and
+ * presses Enter unless it plays with live validation. The clock is advanced before every action and the
+ * engine is asked whether the time ran out, exactly as the game screen's frame loop does. Instances are
+ * reused across games but are not thread-safe.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class SyntheticTypist {
+
+    /**
+     * Number of nanoseconds in one millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Nanoseconds per keystroke at one word per minute, with five characters to a word.
+     */
+    private static final double NANOS_PER_KEYSTROKE_AT_ONE_WPM = 60e9 / 5;
+
+    /**
+     * Population the typist's traits are drawn from.
+     */
+    private final TypistProfile profile;
+
+    /**
+     * Highest level a game may reach before the typist stops playing.
+     */
+    private final int maxLevel;
+
+    /**
+     * Reused one-character buffer passed to the engine for each keystroke.
+     */
+    private final CharBuffer keystroke = CharBuffer.allocate(1);
+
+    /**
+     * Mean time between keystrokes of the current game, in nanoseconds.
+     */
+    private double keystrokeNanos;
+
+    /**
+     * Probability of a wrong keystroke in the current game.
+     */
+    private double errorRate;
+
+    /**
+     * Number of keystrokes typed, including deletions and Enter.
+     */
+    private long keystrokes;
+
+    /**
+     * Number of wrong keystrokes typed.
+     */
+    private long typos;
+
+    /**
+     * Creates a typist.
+     *
+     * @param profile the population the typist's traits are drawn from
+     * @param maxLevel the highest level a game may reach before the typist stops playing
+     */
+    public SyntheticTypist(TypistProfile profile, int maxLevel) {
+        this.profile = profile;
+        this.maxLevel = maxLevel;
+    }
+
+    /**
+     * Plays one game from level 1 until the time runs out or the maximum level is reached.
+     *
+     * @param engine the engine to play, driven by the given clock
+     * @param clock the virtual clock of the engine
+     * @param random the source of the typist's traits and timing
+     * @return the final level of the game
+     */
+    public int play(GameEngine engine, VirtualClock clock, SplittableRandom random) {
+        double wpm = Math.max(TypistProfile.MIN_WPM,
+                profile.getMeanWpm() + profile.getWpmStdDev() * random.nextGaussian());
+        keystrokeNanos = NANOS_PER_KEYSTROKE_AT_ONE_WPM / wpm;
+        errorRate = Math.min(TypistProfile.MAX_ERROR_RATE,
+                Math.max(0, profile.getMeanErrorRate() + profile.getErrorRateStdDev() * random.nextGaussian()));
+
+        engine.setLiveValidation(profile.isLiveValidation());
+        engine.start();
+        while (engine.isActive() && engine.getCurrentLevel() <= maxLevel) {
+            if (!typeWord(engine, clock, random)) {
+                break;
+            }
+            engine.nextWord();
+        }
+        engine.end();
+        return engine.getStatistics().getFinalLevel();
+    }
+
+    /**
+     * Types the current word and completes it.
+     *
+     * @param engine the engine being played
+     * @param clock the virtual clock of the engine
+     * @param random the source of the typist's timing
+     * @return false if the time ran out first
+     */
+    private boolean typeWord(GameEngine engine, VirtualClock clock, SplittableRandom random) {
+        String word = engine.getCurrentPreparedWord().getNormalizedText();
+        if (!elapse(engine, clock, jitter(profile.getReactionMillis() * NANOS_PER_MILLI, random))) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (errorRate > 0 && random.nextDouble() < errorRate) {
+                if (!press(engine, clock, random, c == 'x' ? 'z' : 'x')) {
+                    return false;
+                }
+                typos++;
+                long noticeNanos = jitter(profile.getCorrectionMillis() * NANOS_PER_MILLI + keystrokeNanos, random);
+                if (!elapse(engine, clock, noticeNanos)) {
+                    return false;
+                }
+                keystrokes++;
+                engine.deleteInput(1);
+            }
+            if (!press(engine, clock, random, c)) {
+                return false;
+            }
+        }
+        if (!engine.isCurrentWordCompleted()) {
+            if (!elapse(engine, clock, jitter(keystrokeNanos, random))) {
+                return false;
+            }
+            keystrokes++;
+            engine.submit(word);
+        }
+        return true;
+    }
+
+    /**
+     * Types one character after the typist's keystroke interval.
+     *
+     * @param engine the engine being played
+     * @param clock the virtual clock of the engine
+     * @param random the source of the typist's timing
+     * @param c the character to type
+     * @return false if the time ran out first
+     */
+    private boolean press(GameEngine engine, VirtualClock clock, SplittableRandom random, char c) {
+        if (!elapse(engine, clock, jitter(keystrokeNanos, random))) {
+            return false;
+        }
+        keystroke.clear();
+        keystroke.put(0, c);
+        keystrokes++;
+        engine.typeText(keystroke);
+        return true;
+    }
+
+    /**
+     * Lets time pass and checks whether the current word ran out of time meanwhile.
+     *
+     * @param engine the engine being played
+     * @param clock the virtual clock of the engine
+     * @param nanos the time to pass
+     * @return false if the time ran out and the game ended
+     */
+    private static boolean elapse(GameEngine engine, VirtualClock clock, long nanos) {
+        clock.advanceNanos(nanos);
+        return !engine.checkTimeUp();
+    }
+
+    /**
+     * Varies a mean duration log-normally, keeping its mean.
+     *
+     * @param meanNanos the mean duration
+     * @param random the source of the variation
+     * @return the varied duration in nanoseconds
+     */
+    private long jitter(double meanNanos, SplittableRandom random) {
+        double sigma = profile.getKeystrokeJitter();
+        if (sigma == 0) {
+            return (long) meanNanos;
+        }
+        return (long) (meanNanos * Math.exp(sigma * random.nextGaussian() - sigma * sigma / 2));
+    }
+
+    /**
+     * Gets the number of keystrokes typed in all games so far, including deletions and Enter.
+     *
+     * @return the keystroke count
+     */
+    public long getKeystrokes() {
+        return keystrokes;
+    }
+
+    /**
+     * Gets the number of wrong keystrokes typed in all games so far.
+     *
+     * @return the typo count
+     */
+    public long getTypos() {
+        return typos;
+    }
+}
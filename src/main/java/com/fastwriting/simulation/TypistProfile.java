@@ -0,0 +1,231 @@
+package com.fastwriting.simulation;
+
+/**
+ * Population of synthetic typists: the distributions their typing speed and error rate are drawn from,
+ * and the timing of their reactions.
+ *
+ * <p>Each typist draws a speed from a normal distribution around {@link #getMeanWpm()} and a per-keystroke
+ * error probability from a normal distribution around {@link #getMeanErrorRate()}, both clamped to sensible
+ * ranges. While playing, the time between keystrokes varies log-normally around the typist's speed, where
+ * a word is five characters, as in the usual WPM measure.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public final class TypistProfile {
+
+    /**
+     * Slowest typing speed a typist can draw, in words per minute.
+     */
+    public static final double MIN_WPM = 5.0;
+
+    /**
+     * Highest per-keystroke error probability a typist can draw.
+     */
+    public static final double MAX_ERROR_RATE = 0.5;
+
+    /**
+     * Mean typing speed of the population, in words per minute.
+     */
+    private final double meanWpm;
+
+    /**
+     * Standard deviation of the typing speed across the population.
+     */
+    private final double wpmStdDev;
+
+    /**
+     * Mean probability of a keystroke being wrong.
+     */
+    private final double meanErrorRate;
+
+    /**
+     * Standard deviation of the error probability across the population.
+     */
+    private final double errorRateStdDev;
+
+    /**
+     * Spread of the log-normal variation of the time between keystrokes; 0 types at a steady pace.
+     */
+    private final double keystrokeJitter;
+
+    /**
+     * Mean time to read a new word before the first keystroke, in milliseconds.
+     */
+    private final double reactionMillis;
+
+    /**
+     * Mean time to notice a wrong keystroke before deleting it, in milliseconds.
+     */
+    private final double correctionMillis;
+
+    /**
+     * Whether words complete as soon as they are typed correctly, instead of by pressing Enter.
+     */
+    private final boolean liveValidation;
+
+    /**
+     * Creates a typist population.
+     *
+     * @param meanWpm the mean typing speed, in words per minute
+     * @param wpmStdDev the standard deviation of the typing speed
+     * @param meanErrorRate the mean probability of a keystroke being wrong, from 0 to {@link #MAX_ERROR_RATE}
+     * @param errorRateStdDev the standard deviation of the error probability
+     * @param keystrokeJitter the spread of the time between keystrokes, 0 for a steady pace
+     * @param reactionMillis the mean time to read a new word, in milliseconds
+     * @param correctionMillis the mean time to notice a wrong keystroke, in milliseconds
+     * @param liveValidation true to complete words without pressing Enter
+     * @throws IllegalArgumentException if a value is negative or out of range
+     */
+    public TypistProfile(double meanWpm, double wpmStdDev, double meanErrorRate, double errorRateStdDev,
+                         double keystrokeJitter, double reactionMillis, double correctionMillis, boolean liveValidation) {
+        if (!(meanWpm >= MIN_WPM)) {
+            throw new IllegalArgumentException("Mean WPM must be at least " + MIN_WPM + ": " + meanWpm);
+        }
+        if (!(meanErrorRate >= 0 && meanErrorRate <= MAX_ERROR_RATE)) {
+            throw new IllegalArgumentException("Mean error rate must be between 0 and " + MAX_ERROR_RATE + ": "
+                    + meanErrorRate);
+        }
+        if (!(wpmStdDev >= 0 && errorRateStdDev >= 0 && keystrokeJitter >= 0
+                && reactionMillis >= 0 && correctionMillis >= 0)) {
+            throw new IllegalArgumentException("Deviations and times must not be negative");
+        }
+        this.meanWpm = meanWpm;
+        this.wpmStdDev = wpmStdDev;
+        this.meanErrorRate = meanErrorRate;
+        this.errorRateStdDev = errorRateStdDev;
+        this.keystrokeJitter = keystrokeJitter;
+        this.reactionMillis = reactionMillis;
+        this.correctionMillis = correctionMillis;
+        this.liveValidation = liveValidation;
+    }
+
+    /**
+     * Creates a population of average casual typists: 60 ± 15 WPM, 3 ± 1.5% wrong keystrokes,
+     * 400 ms to read a word and 250 ms to notice a typo, submitting with Enter.
+     *
+     * @return the default population
+     */
+    public static TypistProfile defaults() {
+        return new TypistProfile(60, 15, 0.03, 0.015, 0.3, 400, 250, false);
+    }
+
+    /**
+     * Creates a copy of this population with another typing speed distribution.
+     *
+     * @param meanWpm the mean typing speed, in words per minute
+     * @param wpmStdDev the standard deviation of the typing speed
+     * @return the new population
+     */
+    public TypistProfile withWpm(double meanWpm, double wpmStdDev) {
+        return new TypistProfile(meanWpm, wpmStdDev, meanErrorRate, errorRateStdDev, keystrokeJitter,
+                reactionMillis, correctionMillis, liveValidation);
+    }
+
+    /**
+     * Creates a copy of this population with another error rate distribution.
+     *
+     * @param meanErrorRate the mean probability of a keystroke being wrong
+     * @param errorRateStdDev the standard deviation of the error probability
+     * @return the new population
+     */
+    public TypistProfile withErrorRate(double meanErrorRate, double errorRateStdDev) {
+        return new TypistProfile(meanWpm, wpmStdDev, meanErrorRate, errorRateStdDev, keystrokeJitter,
+                reactionMillis, correctionMillis, liveValidation);
+    }
+
+    /**
+     * Creates a copy of this population that uses live validation or not.
+     *
+     * @param liveValidation true to complete words without pressing Enter
+     * @return the new population
+     */
+    public TypistProfile withLiveValidation(boolean liveValidation) {
+        return new TypistProfile(meanWpm, wpmStdDev, meanErrorRate, errorRateStdDev, keystrokeJitter,
+                reactionMillis, correctionMillis, liveValidation);
+    }
+
+    /**
+     * Gets the mean typing speed of the population.
+     *
+     * @return the mean speed in words per minute
+     */
+    public double getMeanWpm() {
+        return meanWpm;
+    }
+
+    /**
+     * Gets the standard deviation of the typing speed across the population.
+     *
+     * @return the standard deviation in words per minute
+     */
+    public double getWpmStdDev() {
+        return wpmStdDev;
+    }
+
+    /**
+     * Gets the mean probability of a keystroke being wrong.
+     *
+     * @return the mean error rate
+     */
+    public double getMeanErrorRate() {
+        return meanErrorRate;
+    }
+
+    /**
+     * Gets the standard deviation of the error probability across the population.
+     *
+     * @return the standard deviation of the error rate
+     */
+    public double getErrorRateStdDev() {
+        return errorRateStdDev;
+    }
+
+    /**
+     * Gets the spread of the log-normal variation of the time between keystrokes.
+     *
+     * @return the keystroke jitter
+     */
+    public double getKeystrokeJitter() {
+        return keystrokeJitter;
+    }
+
+    /**
+     * Gets the mean time to read a new word before the first keystroke.
+     *
+     * @return the reaction time in milliseconds
+     */
+    public double getReactionMillis() {
+        return reactionMillis;
+    }
+
+    /**
+     * Gets the mean time to notice a wrong keystroke before deleting it.
+     *
+     * @return the correction time in milliseconds
+     */
+    public double getCorrectionMillis() {
+        return correctionMillis;
+    }
+
+    /**
+     * Checks whether the typists complete words without pressing Enter.
+     *
+     * @return true if the typists play with live validation
+     */
+    public boolean isLiveValidation() {
+        return liveValidation;
+    }
+
+    /**
+     * Describes the population, such as "60.0 ± 15.0 WPM, 3.0 ± 1.5% errors, submit with Enter".
+     *
+     * @return the description
+     */
+    @Override
+    public String toString() {
+        return String.format("%.1f ± %.1f WPM, %.1f ± %.1f%% errors, %s", meanWpm, wpmStdDev,
+                meanErrorRate * 100, errorRateStdDev * 100, liveValidation ? "live validation" : "submit with Enter");
+    }
+}
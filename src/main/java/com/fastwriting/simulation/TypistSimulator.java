@@ -0,0 +1,180 @@
+package com.fastwriting.simulation;
+
+import com.fastwriting.model.GameEngine;
+import com.fastwriting.model.VirtualClock;
+import com.fastwriting.model.WordGenerator;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs large populations of {@link SyntheticTypist}s through the real game rules in parallel,
+ * to see how a typing speed and error distribution fares against the difficulty curve.
+ *
+ * <p>The population is split recursively into fork-join tasks. Each split hands the new task its own
+ * {@link WordGenerator#split() word generator} and {@link SplittableRandom#split() random stream}, so
+ * the results depend only on the seed, not on the number of threads or how the work was stolen. Every
+ * leaf task plays its games on one headless {@link GameEngine} with a {@link VirtualClock}, so
+ * simulating a game costs only the engine's own work per keystroke.</p>
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public class TypistSimulator {
+
+    /**
+     * Default highest level a game may reach before it is stopped.
+     */
+    public static final int DEFAULT_MAX_LEVEL = 200;
+
+    /**
+     * Number of games a task plays itself instead of splitting further.
+     */
+    private static final int GAMES_PER_LEAF = 1024;
+
+    /**
+     * Wall-clock origin of the virtual clocks, fixed so that results do not depend on the time of day.
+     */
+    private static final LocalDateTime CLOCK_ORIGIN = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    /**
+     * Generator whose sources and alias tables the simulated games share.
+     */
+    private final WordGenerator generator;
+
+    /**
+     * Population the typists are drawn from.
+     */
+    private final TypistProfile profile;
+
+    /**
+     * Highest level a game may reach before it is stopped.
+     */
+    private final int maxLevel;
+
+    /**
+     * Creates a simulator with the default level cap.
+     *
+     * @param generator the generator whose word sources the games use
+     * @param profile the population the typists are drawn from
+     */
+    public TypistSimulator(WordGenerator generator, TypistProfile profile) {
+        this(generator, profile, DEFAULT_MAX_LEVEL);
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param generator the generator whose word sources the games use
+     * @param profile the population the typists are drawn from
+     * @param maxLevel the highest level a game may reach before it is stopped
+     */
+    public TypistSimulator(WordGenerator generator, TypistProfile profile, int maxLevel) {
+        if (maxLevel < 1) {
+            throw new IllegalArgumentException("The level cap must be at least 1: " + maxLevel);
+        }
+        this.generator = generator;
+        this.profile = profile;
+        this.maxLevel = maxLevel;
+    }
+
+    /**
+     * Simulates games on the common fork-join pool.
+     *
+     * @param typists the number of games to simulate, one typist each
+     * @param seed the seed of the words and the typists
+     * @return the distribution of the final levels
+     */
+    public SimulationResult run(long typists, long seed) {
+        return run(typists, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Simulates games on the given fork-join pool.
+     *
+     * @param typists the number of games to simulate, one typist each
+     * @param seed the seed of the words and the typists
+     * @param pool the pool running the simulation
+     * @return the distribution of the final levels
+     */
+    public SimulationResult run(long typists, long seed, ForkJoinPool pool) {
+        if (typists < 0) {
+            throw new IllegalArgumentException("The number of typists cannot be negative: " + typists);
+        }
+        WordGenerator words = generator.split();
+        words.setSeed(seed);
+        return pool.invoke(new SimulationTask(typists, words, new SplittableRandom(seed)));
+    }
+
+    /**
+     * Fork-join task simulating a share of the population.
+     */
+    private final class SimulationTask extends RecursiveTask<SimulationResult> {
+
+        /**
+         * Serialization version; tasks are never serialized, but fork-join tasks are {@code Serializable}.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Number of games this task simulates.
+         */
+        private final long games;
+
+        /**
+         * Generator supplying the words of this task's games.
+         */
+        private final WordGenerator words;
+
+        /**
+         * Source of this task's typists and their timing.
+         */
+        private final SplittableRandom random;
+
+        /**
+         * Creates a task.
+         *
+         * @param games the number of games to simulate
+         * @param words the generator supplying the words
+         * @param random the source of the typists and their timing
+         */
+        private SimulationTask(long games, WordGenerator words, SplittableRandom random) {
+            this.games = games;
+            this.words = words;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (games <= GAMES_PER_LEAF) {
+                return simulate();
+            }
+            long half = games / 2;
+            SimulationTask upper = new SimulationTask(games - half, words.split(), random.split());
+            SimulationTask lower = new SimulationTask(half, words, random);
+            upper.fork();
+            SimulationResult result = lower.compute();
+            return result.add(upper.join());
+        }
+
+        /**
+         * Plays this task's games one after another on a single engine.
+         *
+         * @return the distribution of their final levels
+         */
+        private SimulationResult simulate() {
+            VirtualClock clock = new VirtualClock(CLOCK_ORIGIN);
+            GameEngine engine = new GameEngine(words, clock);
+            SyntheticTypist typist = new SyntheticTypist(profile, maxLevel);
+            SimulationResult result = new SimulationResult(maxLevel);
+            for (long game = 0; game < games; game++) {
+                result.record(typist.play(engine, clock, random));
+            }
+            result.addKeystrokes(typist.getKeystrokes(), typist.getTypos());
+            return result;
+        }
+    }
+}
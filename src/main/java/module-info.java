@@ -8,11 +8,18 @@
 module fastwritinggame {
     requires javafx.controls;
     requires javafx.fxml;
+    requires jdk.jfr;
+    requires jdk.httpserver;
+    requires java.management;
+    requires static jdk.incubator.vector;
 
     // Export packages for FXML reflection access
+    exports com.fastwriting.analytics;
     exports com.fastwriting.app;
     exports com.fastwriting.controller;
     exports com.fastwriting.model;
+    exports com.fastwriting.monitoring;
+    exports com.fastwriting.simulation;
     exports com.fastwriting.util;
 
     // Open packages for FXML reflection
@@ -0,0 +1,29 @@
+package com.fastwriting.util;
+
+import javafx.scene.Parent;
+
+/**
+ * A view built by Java code generated from its FXML file at build time.
+ * Creating one instantiates the node tree and the controller directly, without parsing XML
+ * or injecting {@code @FXML} members through reflection.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public interface CompiledView {
+
+    /**
+     * Gets the root node of the view.
+     *
+     * @return the root node
+     */
+    Parent getRoot();
+
+    /**
+     * Gets the controller wired to the view, already initialized.
+     *
+     * @return the controller of the view
+     */
+    Object getController();
+}
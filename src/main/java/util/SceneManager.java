@@ -1,17 +1,39 @@
 package com.fastwriting.util;
 
 import com.fastwriting.model.GameStatistics;
+import com.fastwriting.model.SessionRecording;
+import com.fastwriting.model.WordGenerator;
+import com.fastwriting.monitoring.GameMetrics;
+import com.fastwriting.monitoring.SceneTransitionEvent;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class for managing scene transitions and window navigation.
  * Implements the Singleton pattern to maintain a single instance throughout the application.
  *
+ * <p>Views are created by the builders compiled from their FXML files at build time (see
+ * {@link CompiledViews}); files without a compiled builder are parsed with {@link FXMLLoader}.
+ * Each view is built once and cached together with its controller. All screens share one
+ * long-lived {@link Scene}: switching screens swaps the scene root instead of rebuilding the view
+ * and re-adding the stylesheet. Controllers implementing {@link ScreenController} are notified
+ * whenever their view is shown or hidden.</p>
+ *
  * @author [William Rooselbelt May Barreto]
  * @version 1.0
  * @since 2025
@@ -33,6 +55,16 @@ public class SceneManager {
      */
     private GameStatistics gameStatistics;
 
+    /**
+     * Seed of the words of the games started from the game screen, or null for random words.
+     */
+    private Long gameSeed;
+
+    /**
+     * Recording played back by the game screen instead of the player's input, or null.
+     */
+    private SessionRecording replayRecording;
+
     /**
      * Width of the application window.
      */
@@ -43,6 +75,124 @@ public class SceneManager {
      */
     private static final double WINDOW_HEIGHT = 600;
 
+    /**
+     * Path of the main menu view.
+     */
+    public static final String MENU_VIEW = "/fxml/menu-view.fxml";
+
+    /**
+     * Path of the rules view.
+     */
+    public static final String RULES_VIEW = "/fxml/rules-view.fxml";
+
+    /**
+     * Path of the game view.
+     */
+    public static final String GAME_VIEW = "/fxml/game-view.fxml";
+
+    /**
+     * Path of the statistics view.
+     */
+    public static final String STATISTICS_VIEW = "/fxml/statistics-view.fxml";
+
+    /**
+     * Path of the game over view.
+     */
+    public static final String GAME_OVER_VIEW = "/fxml/gameover-view.fxml";
+
+    /**
+     * Path of the leaderboard view.
+     */
+    public static final String LEADERBOARD_VIEW = "/fxml/leaderboard-view.fxml";
+
+    /**
+     * Path of the application stylesheet.
+     */
+    private static final String STYLESHEET = "/css/styles.css";
+
+    /**
+     * Loaded views by FXML path. A view that is still being preloaded maps to an incomplete future.
+     */
+    private final Map<String, CompletableFuture<LoadedView>> viewCache = new ConcurrentHashMap<>();
+
+    /**
+     * Background thread used to preload views and to load views for asynchronous transitions.
+     */
+    private final ExecutorService loaderExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "view-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The single scene whose root is swapped on every screen change.
+     */
+    private Scene scene;
+
+    /**
+     * The view currently shown, or null before the first screen is shown.
+     */
+    private LoadedView currentView;
+
+    /**
+     * Number of transitions requested so far. An asynchronous transition is only attached if no
+     * newer transition was requested while its view was loading.
+     */
+    private final AtomicLong transitionCount = new AtomicLong();
+
+    /**
+     * Listener notified of the duration of every transition, or null if none is set.
+     */
+    private TransitionListener transitionListener;
+
+    /**
+     * Duration in nanoseconds of the most recent transition.
+     */
+    private volatile long lastTransitionNanos;
+
+    /**
+     * Receives the duration of each screen transition.
+     */
+    @FunctionalInterface
+    public interface TransitionListener {
+
+        /**
+         * Called on the JavaFX Application Thread once a transition has been attached to the scene.
+         *
+         * @param fxmlPath the path of the FXML view that was shown
+         * @param nanos the time from the transition request until the view was attached, in nanoseconds
+         * @param async whether the view was loaded with an asynchronous transition
+         */
+        void onTransition(String fxmlPath, long nanos, boolean async);
+    }
+
+    /**
+     * Parsed FXML root together with its controller.
+     */
+    private static final class LoadedView {
+
+        /**
+         * Root node of the view.
+         */
+        private final Parent root;
+
+        /**
+         * Controller created by the FXML loader.
+         */
+        private final Object controller;
+
+        /**
+         * Creates a loaded view.
+         *
+         * @param root the root node of the view
+         * @param controller the controller of the view
+         */
+        private LoadedView(Parent root, Object controller) {
+            this.root = root;
+            this.controller = controller;
+        }
+    }
+
     /**
      * Private constructor to prevent direct instantiation.
      */
@@ -89,114 +239,316 @@ public class SceneManager {
         this.gameStatistics = gameStatistics;
     }
 
+    /**
+     * Gets the seed of the words of the games started from the game screen.
+     *
+     * @return the seed, or null if games use random words
+     */
+    public Long getGameSeed() {
+        return gameSeed;
+    }
+
+    /**
+     * Gets the recording the game screen plays back instead of taking the player's input.
+     *
+     * @return the recording, or null for a normal game
+     */
+    public SessionRecording getReplayRecording() {
+        return replayRecording;
+    }
+
     /**
      * Shows the main menu screen.
      */
     public void showMainMenuScreen() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/menu-view.fxml"));
-            Parent root = loader.load();
-            Scene scene = new Scene(root, WINDOW_WIDTH, WINDOW_HEIGHT);
-            scene.getStylesheets().add(getClass().getResource("/css/styles.css").toExternalForm());
-
-            primaryStage.setTitle("Fast Writing Game - Main Menu");
-            primaryStage.setScene(scene);
-            primaryStage.show();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        switchScene(MENU_VIEW, "Fast Writing Game - Main Menu");
     }
 
     /**
      * Shows the game rules screen.
      */
     public void showRulesScreen() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/rules-view.fxml"));
-            Parent root = loader.load();
-            Scene scene = new Scene(root, WINDOW_WIDTH, WINDOW_HEIGHT);
-            scene.getStylesheets().add(getClass().getResource("/css/styles.css").toExternalForm());
-
-            primaryStage.setTitle("Fast Writing Game - Rules");
-            primaryStage.setScene(scene);
-            primaryStage.show();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        switchScene(RULES_VIEW, "Fast Writing Game - Rules");
     }
 
     /**
      * Shows the main game screen.
      */
     public void showGameScreen() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/game-view.fxml"));
-            Parent root = loader.load();
-            Scene scene = new Scene(root, WINDOW_WIDTH, WINDOW_HEIGHT);
-            scene.getStylesheets().add(getClass().getResource("/css/styles.css").toExternalForm());
+        gameSeed = null;
+        replayRecording = null;
+        switchScene(GAME_VIEW, "Fast Writing Game");
+    }
 
-            primaryStage.setTitle("Fast Writing Game");
-            primaryStage.setScene(scene);
-            primaryStage.show();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    /**
+     * Shows the game screen with today's shared challenge, whose words are the same for every player
+     * on the same UTC date.
+     */
+    public void showDailyChallengeScreen() {
+        gameSeed = WordGenerator.dailySeed(LocalDate.now(ZoneOffset.UTC));
+        replayRecording = null;
+        switchScene(GAME_VIEW, "Fast Writing Game - Daily Challenge");
+    }
+
+    /**
+     * Shows the game screen playing back a recorded session at its original speed.
+     *
+     * @param recording the recording to play back
+     */
+    public void showReplayScreen(SessionRecording recording) {
+        gameSeed = recording.getSeed();
+        replayRecording = recording;
+        switchScene(GAME_VIEW, "Fast Writing Game - Replay");
+    }
+
+    /**
+     * Shows the main game screen without blocking the JavaFX Application Thread.
+     *
+     * @return a future completed with the transition time in nanoseconds
+     * @see #switchSceneAsync(String, String)
+     */
+    public CompletableFuture<Long> showGameScreenAsync() {
+        gameSeed = null;
+        replayRecording = null;
+        return switchSceneAsync(GAME_VIEW, "Fast Writing Game");
     }
 
     /**
      * Shows the statistics screen with game performance data.
      */
     public void showStatisticsScreen() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/statistics-view.fxml"));
-            Parent root = loader.load();
-            Scene scene = new Scene(root, WINDOW_WIDTH, WINDOW_HEIGHT);
-            scene.getStylesheets().add(getClass().getResource("/css/styles.css").toExternalForm());
+        switchScene(STATISTICS_VIEW, "Fast Writing Game - Statistics");
+    }
 
-            primaryStage.setTitle("Fast Writing Game - Statistics");
-            primaryStage.setScene(scene);
-            primaryStage.show();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    /**
+     * Shows the statistics screen without blocking the JavaFX Application Thread.
+     *
+     * @return a future completed with the transition time in nanoseconds
+     * @see #switchSceneAsync(String, String)
+     */
+    public CompletableFuture<Long> showStatisticsScreenAsync() {
+        return switchSceneAsync(STATISTICS_VIEW, "Fast Writing Game - Statistics");
     }
 
     /**
      * Shows the game over screen when the player loses.
      */
     public void showGameOverScreen() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/gameover-view.fxml"));
-            Parent root = loader.load();
-            Scene scene = new Scene(root, WINDOW_WIDTH, WINDOW_HEIGHT);
-            scene.getStylesheets().add(getClass().getResource("/css/styles.css").toExternalForm());
+        switchScene(GAME_OVER_VIEW, "Fast Writing Game - Game Over");
+    }
 
-            primaryStage.setTitle("Fast Writing Game - Game Over");
-            primaryStage.setScene(scene);
-            primaryStage.show();
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * Shows the game over screen without blocking the JavaFX Application Thread.
+     *
+     * @return a future completed with the transition time in nanoseconds
+     * @see #switchSceneAsync(String, String)
+     */
+    public CompletableFuture<Long> showGameOverScreenAsync() {
+        return switchSceneAsync(GAME_OVER_VIEW, "Fast Writing Game - Game Over");
+    }
+
+    /**
+     * Shows the leaderboard of the games in the session history.
+     */
+    public void showLeaderboardScreen() {
+        switchScene(LEADERBOARD_VIEW, "Fast Writing Game - Leaderboard");
+    }
+
+    /**
+     * Sets the listener notified of the duration of every screen transition.
+     *
+     * @param transitionListener the listener, or null to remove it
+     */
+    public void setTransitionListener(TransitionListener transitionListener) {
+        this.transitionListener = transitionListener;
+    }
+
+    /**
+     * Gets the duration of the most recent screen transition.
+     *
+     * @return the transition time in nanoseconds, or 0 if no transition happened yet
+     */
+    public long getLastTransitionNanos() {
+        return lastTransitionNanos;
+    }
+
+    /**
+     * Loads views on a background thread so that showing them later does not parse FXML.
+     * Views that are already cached or being loaded are skipped.
+     *
+     * @param fxmlPaths the paths of the FXML files to preload
+     */
+    public void preloadViews(String... fxmlPaths) {
+        for (String fxmlPath : fxmlPaths) {
+            getViewAsync(fxmlPath);
         }
     }
 
     /**
-     * Switches to a specific scene by loading the FXML file.
+     * Switches to a specific view, loading and caching its FXML file on first use.
+     * An uncached view is loaded on the calling thread; see {@link #switchSceneAsync(String, String)}
+     * to keep the JavaFX Application Thread responsive.
      *
      * @param fxmlPath the path to the FXML file
      * @param title the title for the window
      */
     public void switchScene(String fxmlPath, String title) {
+        long startNanos = System.nanoTime();
+        transitionCount.incrementAndGet();
+
+        LoadedView view;
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Parent root = loader.load();
-            Scene scene = new Scene(root, WINDOW_WIDTH, WINDOW_HEIGHT);
-            scene.getStylesheets().add(getClass().getResource("/css/styles.css").toExternalForm());
+            view = getView(fxmlPath);
+        } catch (UncheckedIOException e) {
+            e.getCause().printStackTrace();
+            return;
+        }
+        attachView(view, title);
+        reportTransition(fxmlPath, System.nanoTime() - startNanos, false);
+    }
+
+    /**
+     * Switches to a specific view without blocking the JavaFX Application Thread.
+     * The view is loaded and initialized on a background thread, then attached to the scene
+     * on the JavaFX Application Thread once it is ready. If another transition is requested
+     * in the meantime, this one is dropped and its future completes with -1.
+     *
+     * @param fxmlPath the path to the FXML file
+     * @param title the title for the window
+     * @return a future completed with the transition time in nanoseconds
+     */
+    public CompletableFuture<Long> switchSceneAsync(String fxmlPath, String title) {
+        long startNanos = System.nanoTime();
+        long transition = transitionCount.incrementAndGet();
 
-            primaryStage.setTitle(title);
+        return getViewAsync(fxmlPath).thenApplyAsync(view -> {
+            if (transitionCount.get() != transition) {
+                return -1L;
+            }
+            attachView(view, title);
+            long nanos = System.nanoTime() - startNanos;
+            reportTransition(fxmlPath, nanos, true);
+            return nanos;
+        }, Platform::runLater).whenComplete((nanos, error) -> {
+            if (error != null) {
+                error.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Makes a loaded view the visible screen. Must run on the JavaFX Application Thread.
+     *
+     * @param view the view to show
+     * @param title the title for the window
+     */
+    private void attachView(LoadedView view, String title) {
+        if (currentView != null && currentView != view && currentView.controller instanceof ScreenController) {
+            ((ScreenController) currentView.controller).onHide();
+        }
+
+        if (scene == null) {
+            scene = new Scene(view.root, WINDOW_WIDTH, WINDOW_HEIGHT);
+            scene.getStylesheets().add(getClass().getResource(STYLESHEET).toExternalForm());
             primaryStage.setScene(scene);
+        } else if (scene.getRoot() != view.root) {
+            scene.setRoot(view.root);
+        }
+        currentView = view;
+
+        primaryStage.setTitle(title);
+        if (!primaryStage.isShowing()) {
             primaryStage.show();
+        }
+
+        if (view.controller instanceof ScreenController) {
+            ((ScreenController) view.controller).onShow();
+        }
+    }
+
+    /**
+     * Records the duration of a transition and notifies the listener.
+     *
+     * @param fxmlPath the path of the view that was shown
+     * @param nanos the transition time in nanoseconds
+     * @param async whether the transition was asynchronous
+     */
+    private void reportTransition(String fxmlPath, long nanos, boolean async) {
+        lastTransitionNanos = nanos;
+        SceneTransitionEvent.emit(fxmlPath, async, nanos);
+        GameMetrics.sceneSwitched(fxmlPath, async, nanos);
+        if (transitionListener != null) {
+            transitionListener.onTransition(fxmlPath, nanos, async);
+        }
+    }
+
+    /**
+     * Gets a cached view, starting to load it on the background thread if needed.
+     *
+     * @param fxmlPath the path to the FXML file
+     * @return a future completed with the loaded view
+     */
+    private CompletableFuture<LoadedView> getViewAsync(String fxmlPath) {
+        CompletableFuture<LoadedView> future = viewCache.computeIfAbsent(fxmlPath,
+                path -> CompletableFuture.supplyAsync(() -> loadView(path), loaderExecutor));
+        // Forget a failed load so the next attempt retries it
+        future.whenComplete((view, error) -> {
+            if (error != null) {
+                viewCache.remove(fxmlPath, future);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Gets a cached view, waiting for a running preload or loading it on the calling thread.
+     *
+     * @param fxmlPath the path to the FXML file
+     * @return the loaded view
+     * @throws UncheckedIOException if the view cannot be loaded
+     */
+    private LoadedView getView(String fxmlPath) {
+        CompletableFuture<LoadedView> future = viewCache.get(fxmlPath);
+        if (future == null) {
+            CompletableFuture<LoadedView> loaded = CompletableFuture.completedFuture(loadView(fxmlPath));
+            future = viewCache.putIfAbsent(fxmlPath, loaded);
+            if (future == null) {
+                future = loaded;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Forget the failed preload so the next attempt retries it
+            viewCache.remove(fxmlPath, future);
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw (UncheckedIOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Builds a view from the builder compiled out of its FXML file,
+     * or parses the FXML file if no compiled builder exists.
+     *
+     * @param fxmlPath the path to the FXML file
+     * @return the loaded view
+     * @throws UncheckedIOException if the FXML file cannot be loaded
+     */
+    private LoadedView loadView(String fxmlPath) {
+        CompiledView compiledView = CompiledViews.create(fxmlPath);
+        if (compiledView != null) {
+            return new LoadedView(compiledView.getRoot(), compiledView.getController());
+        }
+
+        try {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
+            Parent root = loader.load();
+            return new LoadedView(root, loader.getController());
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new UncheckedIOException(e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.fastwriting.util;
+
+/**
+ * Lifecycle callbacks for controllers of views cached by {@link SceneManager}.
+ * A cached view is loaded once, so {@code initialize} only runs the first time;
+ * per-visit setup such as reading the latest statistics or starting timers belongs in {@link #onShow()}.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public interface ScreenController {
+
+    /**
+     * Called on the JavaFX Application Thread each time the view becomes the visible screen.
+     */
+    void onShow();
+
+    /**
+     * Called on the JavaFX Application Thread when another screen replaces this view.
+     */
+    default void onHide() {
+    }
+}
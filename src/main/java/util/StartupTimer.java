@@ -0,0 +1,69 @@
+package com.fastwriting.util;
+
+import javafx.scene.Scene;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Measures the time from process launch until the first frame of the main menu.
+ * Enable console output with {@code -Dfastwriting.logStartup=true}.
+ *
+ * @author [William Rooselbelt May Barreto]
+ * @version 1.0
+ * @since 2025
+ */
+public final class StartupTimer {
+
+    /**
+     * Measured launch-to-first-frame time in milliseconds, or -1 until the first frame was rendered.
+     */
+    private static volatile long launchToFirstFrameMillis = -1;
+
+    /**
+     * Flag indicating if the first-frame listener has already been installed.
+     */
+    private static boolean armed;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private StartupTimer() {
+    }
+
+    /**
+     * Records the startup time at the next pulse of the given scene.
+     * Only the first call has an effect. Must run on the JavaFX Application Thread.
+     *
+     * @param scene the scene showing the main menu
+     */
+    public static void recordFirstFrame(Scene scene) {
+        if (armed || scene == null) {
+            return;
+        }
+        armed = true;
+
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]);
+            Instant launch = ProcessHandle.current().info().startInstant().orElse(null);
+            if (launch == null) {
+                return;
+            }
+            launchToFirstFrameMillis = Duration.between(launch, Instant.now()).toMillis();
+            if (Boolean.getBoolean("fastwriting.logStartup")) {
+                System.out.println("Startup: " + launchToFirstFrameMillis + " ms from launch to first menu frame");
+            }
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    /**
+     * Gets the measured time from process launch until the first main menu frame.
+     *
+     * @return the startup time in milliseconds, or -1 if it has not been measured yet
+     */
+    public static long getLaunchToFirstFrameMillis() {
+        return launchToFirstFrameMillis;
+    }
+}